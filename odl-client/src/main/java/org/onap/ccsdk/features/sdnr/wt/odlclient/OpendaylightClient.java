@@ -22,14 +22,17 @@ import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.DeviceConnectionChangedHandler;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NotImplementedException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.RemoteOpendaylightClient;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.http.status.StatusServlet;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.NetconfTopologyMirror;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDataBroker;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDataTreeChangeProvider;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDeviceConnectionChangeProvider;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDeviceDataBroker;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteMountPoint;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteReadCache;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RequestCallback;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketCallback;
@@ -74,6 +77,7 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
         @Override
         public void onError(Throwable cause) {
            LOG.error("ws connection error: {}",cause.getMessage());
+           OpendaylightClient.this.setWebsocketConnected(false);
 
         }
 
@@ -83,6 +87,11 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
             if(OpendaylightClient.this.statusServlet!=null) {
                 OpendaylightClient.this.statusServlet.setWebsocketStatus("disconnected");
             }
+            // connection and data changes may get lost until reconnect
+            OpendaylightClient.this.setWebsocketConnected(false);
+            if (OpendaylightClient.this.readCache != null) {
+                OpendaylightClient.this.readCache.invalidateAll();
+            }
 
         }
 
@@ -92,6 +101,7 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
             if(OpendaylightClient.this.statusServlet!=null) {
                 OpendaylightClient.this.statusServlet.setWebsocketStatus("connected");
             }
+            OpendaylightClient.this.setWebsocketConnected(true);
 
         }
 
@@ -101,6 +111,9 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
         @Override
         public void onNotificationReceived(SdnrNotification notification) {
             LOG.debug("received notification from sdnr: {}", notification);
+            if (readCache != null) {
+                readCache.onNotification(notification);
+            }
             if (notification.isControllerNotification()) {
                 LOG.debug("controller notification. try to handle this");
                 dataTreeChangeProvider.onControllerNotification(notification);
@@ -120,6 +133,9 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
     private final Map<String, DataBroker> deviceDataBrokers;
     private final RemoteDataTreeChangeProvider<N, D> dataTreeChangeProvider;
     private final RemoteDeviceConnectionChangeProvider deviceConnectionChangeProvider;
+    private final NetconfTopologyMirror topologyMirror;
+    private volatile boolean wsConnected;
+    private final RemoteReadCache readCache;
 
     private final RemoteOdlConfig config;
     private StatusServlet statusServlet;
@@ -129,23 +145,41 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
         if (this.config.isEnabled()) {
             this.restClient = new RestconfHttpClient(this.config.getBaseUrl(), this.config.trustAllCerts(),
                     this.config.getAuthenticationMethod(), this.config.getCredentialUsername(),
-                    this.config.getCredentialPassword());
+                    this.config.getCredentialPassword(), this.config.getMaxConnections(),
+                    this.config.getIdleTimeout(), this.config.getWireFormat());
+            this.restClient.setConnectTimeout(this.config.getConnectTimeout());
+            this.restClient.setRequestTimeout(this.config.getRequestTimeout());
+            this.restClient.setCodec(OdlMapperRegistry.getInstance().getCodec(this.config.getCodecEngine()));
+            this.restClient.setLazyRead(this.config.doLazyRead());
+            this.restClient.setYangPatch(this.config.doYangPatch());
+            if (this.config.doMapperWarmup()) {
+                OdlMapperRegistry.getInstance().warmUpAsync(OdlMapperRegistry.DEFAULT_WARMUP_TYPES);
+            }
             this.wsClient = this.config.getWebsocketUrl() == null ? null
-                    : new SdnrWebsocketClient(this.config.getWebsocketUrl(), this.wsCallback, this.config.trustAllCerts());
+                    : new SdnrWebsocketClient(this.config.getWebsocketUrl(), this.wsCallback,
+                            this.config.trustAllCerts(), this.config.getDispatchThreads(),
+                            this.config.getDispatchQueueSize(), this.config.getDispatchOverflowPolicy());
             if (this.wsClient != null) {
                 LOG.info("starting wsclient");
                 this.wsClient.start();
 
             }
             this.dataBroker = new RemoteDataBroker(this.restClient);
+            this.readCache = this.config.doReadCache() ? new RemoteReadCache(this.config.getReadCacheSize(),
+                    this.config.getReadCacheTtl(), this.config.getReadCacheSubtreeTtls()) : null;
         } else {
             this.restClient = null;
             this.dataBroker = null;
             this.wsClient = null;
+            this.readCache = null;
 
         }
         this.dataTreeChangeProvider = new RemoteDataTreeChangeProvider<>(this.restClient);
-        this.deviceConnectionChangeProvider = new RemoteDeviceConnectionChangeProvider(this.restClient);
+        this.deviceConnectionChangeProvider =
+                new RemoteDeviceConnectionChangeProvider(this.restClient, this.config.getConnectionDebounce());
+        this.topologyMirror = this.wsClient == null || this.config.getTopologyReconcileInterval() <= 0 ? null
+                : new NetconfTopologyMirror(this.restClient, this.config.getTopologyReconcileInterval());
+        this.startTopologyMirror();
         this.deviceDataBrokers = new HashMap<>();
     }
 
@@ -163,9 +197,28 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
         this.dataBroker = new RemoteDataBroker(this.restClient);
         this.dataTreeChangeProvider = new RemoteDataTreeChangeProvider<>(this.restClient);
         this.deviceConnectionChangeProvider = new RemoteDeviceConnectionChangeProvider(this.restClient);
+        this.topologyMirror = this.wsClient == null ? null : new NetconfTopologyMirror(this.restClient);
+        this.readCache = null;
+        this.startTopologyMirror();
         this.deviceDataBrokers = new HashMap<>();
     }
 
+    private void startTopologyMirror() {
+        if (this.topologyMirror != null) {
+            this.deviceConnectionChangeProvider.register(this.topologyMirror);
+            // the websocket may be connected before the mirror is created
+            this.topologyMirror.setWebsocketConnected(this.wsConnected);
+            this.topologyMirror.start();
+        }
+    }
+
+    private void setWebsocketConnected(boolean connected) {
+        this.wsConnected = connected;
+        if (this.topologyMirror != null) {
+            this.topologyMirror.setWebsocketConnected(connected);
+        }
+    }
+
     @Override
     public void close() throws Exception {
         if (this.wsClient != null) {
@@ -173,11 +226,21 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
                 this.wsClient.stop();
             }
         }
+        if (this.topologyMirror != null) {
+            this.topologyMirror.close();
+        }
+        this.deviceConnectionChangeProvider.close();
+        if (this.restClient != null) {
+            this.restClient.close();
+        }
     }
 
     @Override
     public boolean isDevicePresent(String nodeId) {
-
+        if (this.topologyMirror != null && this.topologyMirror.isSynced()) {
+            NetconfNode node = this.topologyMirror.getNetconfNode(nodeId);
+            return node != null && node.getConnectionStatus() == ConnectionStatus.Connected;
+        }
         InstanceIdentifier<NetconfNode> iif =
                 NETCONF_TOPO_IID.child(Node.class, new NodeKey(new NodeId(nodeId))).augmentation(NetconfNode.class);
         try {
@@ -185,7 +248,7 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
             Optional<NetconfNode> node = this.restClient.read(LogicalDatastoreType.OPERATIONAL, iif).get();
             boolean present = node.isPresent() ? node.get().getConnectionStatus() == ConnectionStatus.Connected : false;
             LOG.debug("remote device {} is present={} connection-status={}", nodeId, present,
-                    node.get().getConnectionStatus());
+                    node.isPresent() ? node.get().getConnectionStatus() : null);
             return present;
         } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
                 | IllegalAccessException | IOException | InterruptedException | ExecutionException e) {
@@ -196,7 +259,9 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
     }
     @Override
     public boolean isDeviceMounted(String nodeId) {
-
+        if (this.topologyMirror != null && this.topologyMirror.isSynced()) {
+            return this.topologyMirror.getNetconfNode(nodeId) != null;
+        }
         InstanceIdentifier<NetconfNode> iif =
                 NETCONF_TOPO_IID.child(Node.class, new NodeKey(new NodeId(nodeId))).augmentation(NetconfNode.class);
         try {
@@ -214,7 +279,7 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
     public DataBroker getRemoteDeviceDataBroker(String nodeId) {
         DataBroker broker = this.deviceDataBrokers.get(nodeId);
         if (broker == null) {
-            broker = new RemoteDeviceDataBroker(this.restClient, nodeId);
+            broker = new RemoteDeviceDataBroker(this.restClient, nodeId, this.readCache);
             this.deviceDataBrokers.put(nodeId, broker);
         }
         return broker;
@@ -265,6 +330,12 @@ public class OpendaylightClient<N extends Node, D extends DataTreeChangeListener
 
     public void setStatusServlet(StatusServlet statusServlet) {
         this.statusServlet = statusServlet;
+        if (this.statusServlet != null && this.wsClient != null) {
+            this.statusServlet.setNotificationQueueStatus(this.wsClient.getDispatcher());
+        }
+        if (this.statusServlet != null) {
+            this.statusServlet.setReadCacheStatus(this.readCache);
+        }
     }
 
 }
@@ -13,9 +13,19 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.NetconfTopologyMirror;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDeviceConnectionChangeProvider;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteReadCache;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.WireFormat;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationDispatcher.OverflowPolicy;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.WebsocketWatchDog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,7 +40,24 @@ public class RemoteOdlConfig {
     public static final String KEY_PASSWORD = "password";
     public static final String KEY_ENABLED = "enabled";
     public static final String KEY_TRUSTALL = "trustall";
-    
+    public static final String KEY_MAXCONNECTIONS = "maxconnections";
+    public static final String KEY_IDLETIMEOUT = "idletimeout";
+    public static final String KEY_CONNECTTIMEOUT = "connecttimeout";
+    public static final String KEY_REQUESTTIMEOUT = "requesttimeout";
+    public static final String KEY_WARMUP = "warmup";
+    public static final String KEY_WIREFORMAT = "wireformat";
+    public static final String KEY_CODEC = "codec";
+    public static final String KEY_LAZYREAD = "lazyread";
+    public static final String KEY_DISPATCHTHREADS = "dispatchthreads";
+    public static final String KEY_DISPATCHQUEUESIZE = "dispatchqueuesize";
+    public static final String KEY_DISPATCHOVERFLOW = "dispatchoverflow";
+    public static final String KEY_CONNECTIONDEBOUNCE = "connectiondebounce";
+    public static final String KEY_TOPOLOGYRECONCILE = "topologyreconcile";
+    public static final String KEY_READCACHE = "readcache";
+    public static final String KEY_READCACHESIZE = "readcachesize";
+    public static final String KEY_READCACHETTL = "readcachettl";
+    public static final String KEY_READCACHESUBTREETTL = "readcachesubtreettl";
+    public static final String KEY_YANGPATCH = "yangpatch";
 
     private static final String DEFAULT_BASEURL = "http://sdnr:8181";
     private static final String DEFAULT_WSURL = "ws://sdnr:8181/websocket";
@@ -39,6 +66,24 @@ public class RemoteOdlConfig {
     private static final String DEFAULT_PASSWORD = "admin";
     private static final boolean DEFAULT_ENABLED = false;
     private static final boolean DEFAULT_TRUSTALL = false;
+    private static final int DEFAULT_MAXCONNECTIONS = BaseHTTPClient.getDefaultMaxConnections();
+    private static final long DEFAULT_IDLETIMEOUT = BaseHTTPClient.getDefaultIdleTimeout();
+    private static final long DEFAULT_CONNECTTIMEOUT = BaseHTTPClient.getDefaultTimeout();
+    private static final long DEFAULT_REQUESTTIMEOUT = BaseHTTPClient.getDefaultRequestTimeout();
+    private static final boolean DEFAULT_WARMUP = false;
+    private static final WireFormat DEFAULT_WIREFORMAT = WireFormat.XML;
+    private static final CodecEngine DEFAULT_CODEC = CodecEngine.JACKSON;
+    private static final boolean DEFAULT_LAZYREAD = false;
+    private static final int DEFAULT_DISPATCHTHREADS = WebsocketWatchDog.DEFAULT_DISPATCH_THREADS;
+    private static final int DEFAULT_DISPATCHQUEUESIZE = WebsocketWatchDog.DEFAULT_DISPATCH_QUEUESIZE;
+    private static final OverflowPolicy DEFAULT_DISPATCHOVERFLOW = OverflowPolicy.BLOCK;
+    private static final long DEFAULT_CONNECTIONDEBOUNCE = RemoteDeviceConnectionChangeProvider.DEFAULT_DEBOUNCE_MS;
+    private static final long DEFAULT_TOPOLOGYRECONCILE = NetconfTopologyMirror.DEFAULT_RECONCILE_INTERVAL_MS;
+    private static final boolean DEFAULT_READCACHE = false;
+    private static final int DEFAULT_READCACHESIZE = RemoteReadCache.DEFAULT_SIZE;
+    private static final long DEFAULT_READCACHETTL = RemoteReadCache.DEFAULT_TTL_MS;
+    private static final String DEFAULT_READCACHESUBTREETTL = "";
+    private static final boolean DEFAULT_YANGPATCH = true;
 
     private static final String ENVVARIABLE = "${";
     private static final String REGEXENVVARIABLE = "(\\$\\{[A-Z0-9_-]+\\})";
@@ -51,7 +96,24 @@ public class RemoteOdlConfig {
     private final String password;
     private final boolean trustall;
     private final boolean enabled;
-    
+    private final int maxConnections;
+    private final long idleTimeout;
+    private final long connectTimeout;
+    private final long requestTimeout;
+    private final boolean warmup;
+    private final WireFormat wireFormat;
+    private final CodecEngine codec;
+    private final boolean lazyRead;
+    private final int dispatchThreads;
+    private final int dispatchQueueSize;
+    private final OverflowPolicy dispatchOverflow;
+    private final long connectionDebounce;
+    private final long topologyReconcile;
+    private final boolean readCache;
+    private final int readCacheSize;
+    private final long readCacheTtl;
+    private final String readCacheSubtreeTtl;
+    private final boolean yangPatch;
 
     public RemoteOdlConfig() {
         this(FILENAME);
@@ -80,6 +142,27 @@ public class RemoteOdlConfig {
                     .equals(getProperty(prop, KEY_ENABLED, String.valueOf(DEFAULT_ENABLED)));
             this.trustall = "true"
                     .equals(getProperty(prop, KEY_TRUSTALL, String.valueOf(DEFAULT_TRUSTALL)));
+            this.maxConnections = (int) getLongProperty(prop, KEY_MAXCONNECTIONS, DEFAULT_MAXCONNECTIONS);
+            this.idleTimeout = getLongProperty(prop, KEY_IDLETIMEOUT, DEFAULT_IDLETIMEOUT);
+            this.connectTimeout = getLongProperty(prop, KEY_CONNECTTIMEOUT, DEFAULT_CONNECTTIMEOUT);
+            this.requestTimeout = getLongProperty(prop, KEY_REQUESTTIMEOUT, DEFAULT_REQUESTTIMEOUT);
+            this.warmup = "true"
+                    .equals(getProperty(prop, KEY_WARMUP, String.valueOf(DEFAULT_WARMUP)));
+            this.wireFormat = getWireFormatProperty(prop, KEY_WIREFORMAT, DEFAULT_WIREFORMAT);
+            this.codec = getCodecProperty(prop, KEY_CODEC, DEFAULT_CODEC);
+            this.lazyRead = getLazyReadProperty(prop, this.wireFormat, this.codec);
+            this.dispatchThreads = (int) getLongProperty(prop, KEY_DISPATCHTHREADS, DEFAULT_DISPATCHTHREADS);
+            this.dispatchQueueSize = (int) getLongProperty(prop, KEY_DISPATCHQUEUESIZE, DEFAULT_DISPATCHQUEUESIZE);
+            this.dispatchOverflow = getOverflowProperty(prop, KEY_DISPATCHOVERFLOW, DEFAULT_DISPATCHOVERFLOW);
+            this.connectionDebounce = getLongProperty(prop, KEY_CONNECTIONDEBOUNCE, DEFAULT_CONNECTIONDEBOUNCE);
+            this.topologyReconcile = getLongProperty(prop, KEY_TOPOLOGYRECONCILE, DEFAULT_TOPOLOGYRECONCILE);
+            this.readCache = "true"
+                    .equals(getProperty(prop, KEY_READCACHE, String.valueOf(DEFAULT_READCACHE)));
+            this.readCacheSize = (int) getLongProperty(prop, KEY_READCACHESIZE, DEFAULT_READCACHESIZE);
+            this.readCacheTtl = getLongProperty(prop, KEY_READCACHETTL, DEFAULT_READCACHETTL);
+            this.readCacheSubtreeTtl = getProperty(prop, KEY_READCACHESUBTREETTL, DEFAULT_READCACHESUBTREETTL);
+            this.yangPatch = "true"
+                    .equals(getProperty(prop, KEY_YANGPATCH, String.valueOf(DEFAULT_YANGPATCH)));
         } else {
             this.baseUrl = DEFAULT_BASEURL;
             this.wsUrl = DEFAULT_WSURL;
@@ -88,6 +171,24 @@ public class RemoteOdlConfig {
             this.password = DEFAULT_PASSWORD;
             this.enabled = DEFAULT_ENABLED;
             this.trustall = DEFAULT_TRUSTALL;
+            this.maxConnections = DEFAULT_MAXCONNECTIONS;
+            this.idleTimeout = DEFAULT_IDLETIMEOUT;
+            this.connectTimeout = DEFAULT_CONNECTTIMEOUT;
+            this.requestTimeout = DEFAULT_REQUESTTIMEOUT;
+            this.warmup = DEFAULT_WARMUP;
+            this.wireFormat = DEFAULT_WIREFORMAT;
+            this.codec = DEFAULT_CODEC;
+            this.lazyRead = DEFAULT_LAZYREAD;
+            this.dispatchThreads = DEFAULT_DISPATCHTHREADS;
+            this.dispatchQueueSize = DEFAULT_DISPATCHQUEUESIZE;
+            this.dispatchOverflow = DEFAULT_DISPATCHOVERFLOW;
+            this.connectionDebounce = DEFAULT_CONNECTIONDEBOUNCE;
+            this.topologyReconcile = DEFAULT_TOPOLOGYRECONCILE;
+            this.readCache = DEFAULT_READCACHE;
+            this.readCacheSize = DEFAULT_READCACHESIZE;
+            this.readCacheTtl = DEFAULT_READCACHETTL;
+            this.readCacheSubtreeTtl = DEFAULT_READCACHESUBTREETTL;
+            this.yangPatch = DEFAULT_YANGPATCH;
             this.saveFile(filename);
         }
         LOG.info("loaded remote ODL config with enabled={}, remoteODL={}, wsUrl={} and trustall={}",
@@ -107,6 +208,24 @@ public class RemoteOdlConfig {
             prop.setProperty(KEY_PASSWORD, "****");
             prop.setProperty(KEY_ENABLED, String.valueOf(this.enabled));
             prop.setProperty(KEY_TRUSTALL, String.valueOf(this.trustall));
+            prop.setProperty(KEY_MAXCONNECTIONS, String.valueOf(this.maxConnections));
+            prop.setProperty(KEY_IDLETIMEOUT, String.valueOf(this.idleTimeout));
+            prop.setProperty(KEY_CONNECTTIMEOUT, String.valueOf(this.connectTimeout));
+            prop.setProperty(KEY_REQUESTTIMEOUT, String.valueOf(this.requestTimeout));
+            prop.setProperty(KEY_WARMUP, String.valueOf(this.warmup));
+            prop.setProperty(KEY_WIREFORMAT, this.wireFormat.name().toLowerCase());
+            prop.setProperty(KEY_CODEC, this.codec.name().toLowerCase());
+            prop.setProperty(KEY_LAZYREAD, String.valueOf(this.lazyRead));
+            prop.setProperty(KEY_DISPATCHTHREADS, String.valueOf(this.dispatchThreads));
+            prop.setProperty(KEY_DISPATCHQUEUESIZE, String.valueOf(this.dispatchQueueSize));
+            prop.setProperty(KEY_DISPATCHOVERFLOW, this.dispatchOverflow.name().toLowerCase());
+            prop.setProperty(KEY_CONNECTIONDEBOUNCE, String.valueOf(this.connectionDebounce));
+            prop.setProperty(KEY_TOPOLOGYRECONCILE, String.valueOf(this.topologyReconcile));
+            prop.setProperty(KEY_READCACHE, String.valueOf(this.readCache));
+            prop.setProperty(KEY_READCACHESIZE, String.valueOf(this.readCacheSize));
+            prop.setProperty(KEY_READCACHETTL, String.valueOf(this.readCacheTtl));
+            prop.setProperty(KEY_READCACHESUBTREETTL, this.readCacheSubtreeTtl);
+            prop.setProperty(KEY_YANGPATCH, String.valueOf(this.yangPatch));
             // save properties to project root folder
             prop.store(output, null);
 
@@ -153,6 +272,65 @@ public class RemoteOdlConfig {
         return value;
     }
 
+    private static long getLongProperty(final Properties prop, final String key, final long defValue) {
+        String value = getProperty(prop, key, String.valueOf(defValue));
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("invalid value {} for {}. using default {}", value, key, defValue);
+        }
+        return defValue;
+    }
+
+    private static WireFormat getWireFormatProperty(final Properties prop, final String key,
+            final WireFormat defValue) {
+        String value = getProperty(prop, key, defValue.name());
+        try {
+            return WireFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("invalid value {} for {}. using default {}", value, key, defValue);
+        }
+        return defValue;
+    }
+
+    /**
+     * Lazy reads always request xml and decode it with jackson, so they are only enabled together
+     * with the default wire format and codec.
+     */
+    private static boolean getLazyReadProperty(final Properties prop, final WireFormat wireFormat,
+            final CodecEngine codec) {
+        final boolean lazyRead =
+                "true".equals(getProperty(prop, KEY_LAZYREAD, String.valueOf(DEFAULT_LAZYREAD)));
+        if (lazyRead && (wireFormat != WireFormat.XML || codec != CodecEngine.JACKSON)) {
+            LOG.warn("{} is not supported with {}={} and {}={}. lazy reads are disabled", KEY_LAZYREAD,
+                    KEY_WIREFORMAT, wireFormat.name().toLowerCase(), KEY_CODEC, codec.name().toLowerCase());
+            return false;
+        }
+        return lazyRead;
+    }
+
+    private static CodecEngine getCodecProperty(final Properties prop, final String key,
+            final CodecEngine defValue) {
+        String value = getProperty(prop, key, defValue.name());
+        try {
+            return CodecEngine.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("invalid value {} for {}. using default {}", value, key, defValue);
+        }
+        return defValue;
+    }
+
+    private static OverflowPolicy getOverflowProperty(final Properties prop, final String key,
+            final OverflowPolicy defValue) {
+        String value = getProperty(prop, key, defValue.name());
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("invalid value {} for {}. using default {}", value, key, defValue);
+        }
+        return defValue;
+    }
+
     public String getBaseUrl() {
         return this.baseUrl;
     }
@@ -185,4 +363,139 @@ public class RemoteOdlConfig {
         return this.trustall;
     }
 
+    /**
+     * @return max number of pooled http connections to the remote odl
+     */
+    public int getMaxConnections() {
+        return this.maxConnections;
+    }
+
+    /**
+     * @return time in ms after which idle http connections are closed
+     */
+    public long getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * @return time in ms to establish a http connection
+     */
+    public long getConnectTimeout() {
+        return this.connectTimeout;
+    }
+
+    /**
+     * @return max time in ms for a whole http request or 0 for no limit
+     */
+    public long getRequestTimeout() {
+        return this.requestTimeout;
+    }
+
+    /**
+     * @return true if the deserializers for common types should be created on startup
+     */
+    public boolean doMapperWarmup() {
+        return this.warmup;
+    }
+
+    /**
+     * @return default encoding of restconf request and response bodies (xml or json)
+     */
+    public WireFormat getWireFormat() {
+        return this.wireFormat;
+    }
+
+    /**
+     * @return engine which decodes restconf xml data (jackson or dom)
+     */
+    public CodecEngine getCodecEngine() {
+        return this.codec;
+    }
+
+    /**
+     * @return true if device reads should return lazy decoded objects. Always false if the wire
+     *         format is not xml or the codec is not jackson.
+     */
+    public boolean doLazyRead() {
+        return this.lazyRead;
+    }
+
+    /**
+     * @return number of threads delivering websocket notifications to the listeners
+     */
+    public int getDispatchThreads() {
+        return this.dispatchThreads;
+    }
+
+    /**
+     * @return max number of queued notifications per dispatch thread
+     */
+    public int getDispatchQueueSize() {
+        return this.dispatchQueueSize;
+    }
+
+    /**
+     * @return behavior if a notification queue is full (block, drop_oldest or coalesce)
+     */
+    public OverflowPolicy getDispatchOverflowPolicy() {
+        return this.dispatchOverflow;
+    }
+
+    /**
+     * @return window in ms to collect device connection changes before they are read, 0 to read
+     *         every change immediately
+     */
+    public long getConnectionDebounce() {
+        return this.connectionDebounce;
+    }
+
+    /**
+     * @return interval in ms to reread the mirrored netconf topology, 0 to read the remote
+     *         topology for every device lookup
+     */
+    public long getTopologyReconcileInterval() {
+        return this.topologyReconcile;
+    }
+
+    /**
+     * @return true if transactions should send their edits as one yang-patch request
+     */
+    public boolean doYangPatch() {
+        return this.yangPatch;
+    }
+
+    public boolean doReadCache() {
+        return this.readCache;
+    }
+
+    public int getReadCacheSize() {
+        return this.readCacheSize;
+    }
+
+    public long getReadCacheTtl() {
+        return this.readCacheTtl;
+    }
+
+    /**
+     * @return ttl in ms by simple class name of the subtree, configured as e.g. Info:60000,CircuitPacks:5000
+     */
+    public Map<String, Long> getReadCacheSubtreeTtls() {
+        final Map<String, Long> ttls = new HashMap<>();
+        for (String item : this.readCacheSubtreeTtl.split(",")) {
+            final String[] pair = item.split(":");
+            if (pair.length != 2) {
+                if (!item.trim().isEmpty()) {
+                    LOG.warn("invalid subtree ttl {} for {}", item, KEY_READCACHESUBTREETTL);
+                }
+                continue;
+            }
+            try {
+                ttls.put(pair[0].trim(), Long.valueOf(pair[1].trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("invalid subtree ttl {} for {}", item, KEY_READCACHESUBTREETTL);
+            }
+        }
+        return ttls;
+    }
+
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.mdsal.binding.spec.reflect.BindingReflections;
+import org.opendaylight.mdsal.binding.model.api.Type;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Augmentation types indexed by the augmented data type. The registry is discovered once from the
+ * yang module infos on the classpath: the schema is walked and for every augmentation target the
+ * generated augmentation classes are resolved by the binding runtime context.
+ */
+public class AugmentationRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AugmentationRegistry.class);
+    /**
+     * Classes of modules which are always part of the registry, even if the module infos can not be
+     * discovered by the service loader (e.g. in OSGi). One class per module is enough, imported
+     * modules are added automatically.
+     */
+    private static final List<Class<?>> SEED_MODULES = Arrays.asList(
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.otn.otu.interfaces.rev181019.Interface1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.otn.odu.interfaces.rev181019.Interface1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.Interface1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.optical.channel.interfaces.rev181019.Interface1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.Protocols1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.network.rev181130.Node1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev181130.Node1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev181130.Link1.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.otn.network.topology.rev181130.Link1.class,
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Node1.class,
+            org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode.class);
+    private static AugmentationRegistry instance;
+
+    private final Map<Class<?>, List<Class<?>>> augmentations;
+
+    public AugmentationRegistry(Map<Class<?>, List<Class<?>>> augmentations) {
+        this.augmentations = Collections.unmodifiableMap(augmentations);
+    }
+
+    public static synchronized AugmentationRegistry getInstance() {
+        if (instance == null) {
+            final Set<YangModuleInfo> moduleInfos = new LinkedHashSet<>();
+            try {
+                moduleInfos.addAll(BindingReflections.loadModuleInfos(AugmentationRegistry.class.getClassLoader()));
+            } catch (RuntimeException e) {
+                LOG.warn("unable to load module infos: {}", e.getMessage());
+            }
+            for (Class<?> cls : SEED_MODULES) {
+                try {
+                    moduleInfos.add(BindingReflections.getModuleInfo(cls));
+                } catch (Exception e) {
+                    LOG.warn("unable to load module info for {}: {}", cls, e.getMessage());
+                }
+            }
+            instance = create(moduleInfos);
+        }
+        return instance;
+    }
+
+    /**
+     * Discover the augmentations of the given modules and their imports.
+     */
+    public static AugmentationRegistry create(Collection<YangModuleInfo> moduleInfos) {
+        final long start = System.currentTimeMillis();
+        final Map<Class<?>, List<Class<?>>> map = new HashMap<>();
+        try {
+            final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+            moduleContext.addModuleInfos(moduleInfos);
+            final Optional<? extends EffectiveModelContext> schemaContext = moduleContext.tryToCreateModelContext();
+            if (schemaContext.isPresent()) {
+                final BindingRuntimeContext runtimeContext =
+                        BindingRuntimeContext.create(moduleContext, schemaContext.get());
+                for (Module module : schemaContext.get().getModules()) {
+                    collect(runtimeContext, module.getChildNodes(), map);
+                }
+            } else {
+                LOG.warn("unable to create schema context for {} modules", moduleInfos.size());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("problem discovering augmentations: ", e);
+        }
+        LOG.info("discovered augmentations for {} types in {}ms", map.size(), System.currentTimeMillis() - start);
+        return new AugmentationRegistry(map);
+    }
+
+    private static void collect(BindingRuntimeContext runtimeContext, Collection<? extends DataSchemaNode> nodes,
+            Map<Class<?>, List<Class<?>>> map) {
+        for (DataSchemaNode node : nodes) {
+            if (node instanceof ChoiceSchemaNode) {
+                for (CaseSchemaNode caseNode : ((ChoiceSchemaNode) node).getCases()) {
+                    addAugmentations(runtimeContext, caseNode, map);
+                    collect(runtimeContext, caseNode.getChildNodes(), map);
+                }
+            } else if (node instanceof DataNodeContainer) {
+                addAugmentations(runtimeContext, node, map);
+                collect(runtimeContext, ((DataNodeContainer) node).getChildNodes(), map);
+            }
+        }
+    }
+
+    private static void addAugmentations(BindingRuntimeContext runtimeContext, SchemaNode node,
+            Map<Class<?>, List<Class<?>>> map) {
+        if (!(node instanceof AugmentationTarget)
+                || ((AugmentationTarget) node).getAvailableAugmentations().isEmpty()) {
+            return;
+        }
+        try {
+            final Class<?> target = runtimeContext.getClassForSchema(node);
+            final List<Class<?>> list = map.computeIfAbsent(target, k -> new ArrayList<>());
+            for (Type type : runtimeContext.getAvailableAugmentationTypes((DataNodeContainer) node).values()) {
+                final Class<?> augmentation = runtimeContext.loadClass(type);
+                if (!list.contains(augmentation)) {
+                    list.add(augmentation);
+                }
+            }
+        } catch (ClassNotFoundException | RuntimeException e) {
+            LOG.debug("unable to resolve augmentations of {}: {}", node.getQName(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return augmentation types of the data type, empty if none
+     */
+    public List<Class<?>> getAugmentations(Class<?> dataType) {
+        return this.augmentations.getOrDefault(dataType, Collections.emptyList());
+    }
+
+    /**
+     * @return map of data type to augmentation types
+     */
+    public Map<Class<?>, List<Class<?>>> asMap() {
+        return this.augmentations;
+    }
+
+    /**
+     * Augmentations of a data object. They are read from the augmentation holder the generated
+     * implementations provide, otherwise by augmentation() for all registered types of the object.
+     *
+     * @return augmentation objects or null if the object is not augmentable
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Collection<Object> getAugmentationValues(Object object) {
+        if (!(object instanceof Augmentable)) {
+            return null;
+        }
+        if (object instanceof AugmentationHolder) {
+            return new ArrayList<>(((AugmentationHolder<?>) object).augmentations().values());
+        }
+        final List<Object> values = new ArrayList<>();
+        final Class<?> dataType = object instanceof DataObject ? ((DataObject) object).implementedInterface()
+                : object.getClass();
+        for (Class<?> augmentationType : this.getAugmentations(dataType)) {
+            final Object value = ((Augmentable) object).augmentation((Class<? extends Augmentation>) augmentationType);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
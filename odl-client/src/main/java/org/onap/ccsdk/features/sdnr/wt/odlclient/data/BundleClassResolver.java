@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleWiring;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves classes by name in an OSGi container without trying every installed bundle.
+ *
+ * <p>
+ * The packages provided by each bundle are indexed through its bundle wiring, so a lookup only asks
+ * the bundles exporting the package of the class. Classes in packages which are not exported are
+ * searched in all bundles as before. Found and missing classes are cached until the bundle
+ * wirings change. Without OSGi context classes are loaded with Class.forName.
+ */
+public class BundleClassResolver implements BundleListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BundleClassResolver.class);
+    private static final BundleClassResolver NO_OSGI_RESOLVER = new BundleClassResolver(null);
+    private static BundleClassResolver instance;
+
+    private volatile BundleContext context;
+    private volatile Cache cache;
+
+    private BundleClassResolver(BundleContext context) {
+        this.context = context;
+        this.cache = new Cache();
+    }
+
+    /**
+     * Get the shared resolver. All bundle contexts of one framework see the same bundles, so one
+     * instance is shared. It keeps using the first context until that is no longer valid.
+     *
+     * @param context any bundle context or null if not running in OSGi
+     * @return resolver
+     */
+    public static synchronized BundleClassResolver getInstance(BundleContext context) {
+        if (context == null) {
+            return NO_OSGI_RESOLVER;
+        }
+        if (instance == null) {
+            instance = new BundleClassResolver(context);
+            context.addBundleListener(instance);
+        } else if (instance.context != context && !isValid(instance.context)) {
+            // rebind instead of replacing, the resolver is held by the introspectors
+            instance.context = context;
+            instance.cache = new Cache();
+            context.addBundleListener(instance);
+        }
+        return instance;
+    }
+
+    public Class<?> findClass(String name) throws ClassNotFoundException {
+        // a resolve in flight while the wirings change only fills the cache it started with
+        final Cache current = this.cache;
+        Class<?> cls = current.found.get(name);
+        if (cls != null) {
+            return cls;
+        }
+        if (current.notFound.contains(name)) {
+            throw new ClassNotFoundException(name);
+        }
+        try {
+            cls = this.resolve(current, name);
+        } catch (ClassNotFoundException e) {
+            current.notFound.add(name);
+            throw e;
+        }
+        current.found.put(name, cls);
+        return cls;
+    }
+
+    private Class<?> resolve(Cache current, String name) throws ClassNotFoundException {
+        final BundleContext ctx = this.context;
+        if (ctx == null) {
+            return Class.forName(name);
+        }
+        List<Bundle> exporters =
+                this.getPackageIndex(current, ctx).getOrDefault(getPackageName(name), Collections.emptyList());
+        for (Bundle b : exporters) {
+            try {
+                return b.loadClass(name);
+            } catch (ClassNotFoundException e) {
+                // No problem, package is split over several bundles
+            }
+        }
+        // not exported, try in all other bundles
+        for (Bundle b : ctx.getBundles()) {
+            if (exporters.contains(b)) {
+                continue;
+            }
+            try {
+                return b.loadClass(name);
+            } catch (ClassNotFoundException e) {
+                // No problem, this bundle doesn't have the class
+            }
+        }
+        throw new ClassNotFoundException("Can not find Class " + name + " in OSGi context.");
+    }
+
+    private Map<String, List<Bundle>> getPackageIndex(Cache current, BundleContext ctx) {
+        Map<String, List<Bundle>> index = current.packageIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Bundle b : ctx.getBundles()) {
+                BundleWiring wiring = b.adapt(BundleWiring.class);
+                if (wiring == null) {
+                    continue;
+                }
+                for (BundleCapability capability : wiring.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+                    Object pkg = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+                    if (pkg instanceof String) {
+                        index.computeIfAbsent((String) pkg, k -> new ArrayList<>()).add(b);
+                    }
+                }
+            }
+            LOG.debug("indexed {} packages", index.size());
+            current.packageIndex = index;
+        }
+        return index;
+    }
+
+    private static boolean isValid(BundleContext context) {
+        try {
+            context.getBundle();
+            return true;
+        } catch (IllegalStateException e) {
+            LOG.debug("bundle context is no longer valid");
+            return false;
+        }
+    }
+
+    private static String getPackageName(String className) {
+        int idx = className.lastIndexOf('.');
+        return idx > 0 ? className.substring(0, idx) : "";
+    }
+
+    /**
+     * Invalidate index and caches if the bundle wirings changed.
+     */
+    @Override
+    public void bundleChanged(BundleEvent event) {
+        switch (event.getType()) {
+            case BundleEvent.INSTALLED:
+            case BundleEvent.RESOLVED:
+            case BundleEvent.UNRESOLVED:
+            case BundleEvent.UPDATED:
+            case BundleEvent.UNINSTALLED:
+                LOG.debug("bundle {} changed. clear class cache", event.getBundle().getSymbolicName());
+                this.cache = new Cache();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Package index and lookup results of one state of the bundle wirings.
+     */
+    private static class Cache {
+
+        private final Map<String, Class<?>> found = new ConcurrentHashMap<>();
+        private final Set<String> notFound = ConcurrentHashMap.newKeySet();
+        private volatile Map<String, List<Bundle>> packageIndex;
+    }
+}
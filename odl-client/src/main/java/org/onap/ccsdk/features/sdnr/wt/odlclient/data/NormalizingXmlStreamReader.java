@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * Normalizes restconf xml while it is parsed.
+ *
+ * <ul>
+ * <li>unprefixed element names in camel case like ifName are translated into kebab case (if-name)</li>
+ * <li>the prefix of a leaf value like x:if-OCH is removed, if the leaf element itself declares the
+ * one character namespace prefix x</li>
+ * </ul>
+ */
+public class NormalizingXmlStreamReader extends StreamReaderDelegate {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final Map<String, String> TRANSLATED_NAMES = new ConcurrentHashMap<>();
+    private static final KebabCaseStrategy CONVERTER = new KebabCaseStrategy();
+
+    private String leafPrefix;
+    private String text;
+    private char[] textChars;
+
+    public NormalizingXmlStreamReader(XMLStreamReader reader) {
+        super(reader);
+        this.leafPrefix = null;
+        this.text = null;
+        this.textChars = null;
+    }
+
+    public static NormalizingXmlStreamReader create(Reader src) throws XMLStreamException {
+        return new NormalizingXmlStreamReader(INPUT_FACTORY.createXMLStreamReader(src));
+    }
+
+    public static NormalizingXmlStreamReader create(InputStream src) throws XMLStreamException {
+        return new NormalizingXmlStreamReader(INPUT_FACTORY.createXMLStreamReader(src));
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XmlInputFactories.createInputFactory();
+        // leaf values have to be complete to detect the prefix
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event = super.next();
+        String prefix = this.leafPrefix;
+        this.leafPrefix = null;
+        this.text = null;
+        this.textChars = null;
+        switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                this.leafPrefix = this.findShortPrefix();
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+                if (prefix != null) {
+                    String value = super.getText();
+                    if (value.startsWith(prefix)) {
+                        this.text = value.substring(prefix.length());
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = this.next();
+        while ((event == XMLStreamConstants.CHARACTERS && this.isWhiteSpace())
+                || (event == XMLStreamConstants.CDATA && this.isWhiteSpace())
+                || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+                || event == XMLStreamConstants.COMMENT) {
+            event = this.next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("expected start or end tag", this.getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        String prefix = this.leafPrefix;
+        String value = super.getElementText();
+        this.leafPrefix = null;
+        if (prefix != null && value.startsWith(prefix)) {
+            return value.substring(prefix.length());
+        }
+        return value;
+    }
+
+    @Override
+    public String getLocalName() {
+        String name = super.getLocalName();
+        return this.isUnprefixed() ? translate(name) : name;
+    }
+
+    @Override
+    public QName getName() {
+        QName name = super.getName();
+        if (!this.isUnprefixed()) {
+            return name;
+        }
+        String translated = translate(name.getLocalPart());
+        return translated == name.getLocalPart() ? name
+                : new QName(name.getNamespaceURI(), translated, name.getPrefix());
+    }
+
+    @Override
+    public String getText() {
+        return this.text != null ? this.text : super.getText();
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        if (this.text == null) {
+            return super.getTextCharacters();
+        }
+        if (this.textChars == null) {
+            this.textChars = this.text.toCharArray();
+        }
+        return this.textChars;
+    }
+
+    @Override
+    public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length)
+            throws XMLStreamException {
+        if (this.text == null) {
+            return super.getTextCharacters(sourceStart, target, targetStart, length);
+        }
+        int len = Math.min(length, this.text.length() - sourceStart);
+        if (len <= 0) {
+            return 0;
+        }
+        this.text.getChars(sourceStart, sourceStart + len, target, targetStart);
+        return len;
+    }
+
+    @Override
+    public int getTextStart() {
+        return this.text != null ? 0 : super.getTextStart();
+    }
+
+    @Override
+    public int getTextLength() {
+        return this.text != null ? this.text.length() : super.getTextLength();
+    }
+
+    /**
+     * @return first namespace prefix with one character declared on the current element plus ':'
+     */
+    private String findShortPrefix() {
+        for (int i = 0; i < super.getNamespaceCount(); i++) {
+            String prefix = super.getNamespacePrefix(i);
+            if (prefix != null && prefix.length() == 1 && isAsciiLetterOrDigit(prefix.charAt(0))) {
+                return prefix + ":";
+            }
+        }
+        return null;
+    }
+
+    private boolean isUnprefixed() {
+        if (!super.isStartElement() && !super.isEndElement()) {
+            return false;
+        }
+        String prefix = super.getPrefix();
+        return prefix == null || prefix.isEmpty();
+    }
+
+    /**
+     * Translate names starting with lower case letters followed by an upper case letter.
+     */
+    static String translate(String name) {
+        int i = 0;
+        while (i < name.length() && name.charAt(i) >= 'a' && name.charAt(i) <= 'z') {
+            i++;
+        }
+        if (i == 0 || i == name.length() || name.charAt(i) < 'A' || name.charAt(i) > 'Z') {
+            return name;
+        }
+        return TRANSLATED_NAMES.computeIfAbsent(name, CONVERTER::translate);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
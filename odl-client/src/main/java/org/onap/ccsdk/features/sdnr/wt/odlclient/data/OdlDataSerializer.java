@@ -7,20 +7,20 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy.LazyDataObjects;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.ObjectSerializer;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.ObjectSerializerMap;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerElem;
-import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.Interface;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.node.TerminationPoint;
-import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerOutput;
 import org.opendaylight.yangtools.yang.binding.BaseIdentity;
 import org.opendaylight.yangtools.yang.binding.ChoiceIn;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -30,40 +30,84 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class OdlDataSerializer {
+/**
+ * Serializes data objects in one pass. All state of a call lives in the element handles of type E
+ * created by the implementation, so one instance can be used concurrently.
+ *
+ * @param <E> element handle of the output format
+ */
+public abstract class OdlDataSerializer<E> {
+
+    abstract E startDocument(SerializerOutput out);
+
+    abstract E preValueWrite(E parent, String key, Object o, boolean withNsPrefix, Class<?> rootClass);
 
-    abstract SerializerElem preValueWrite(String key, Object o, boolean withNsPrefix, Class<?> rootClass);
+    abstract void postValueWrite(E e, String key);
 
-    abstract void postValueWrite(SerializerElem e, String key);
+    abstract void onValueWrite(E e, Object o);
 
-    abstract void onValueWrite(SerializerElem e, Object o);
+    abstract void endDocument(E document);
 
-    abstract void clear();
+    /**
+     * Called before the entries of a list or leaf-list are written.
+     *
+     * @return parent handle for the entries
+     */
+    E preListWrite(E parent, String key, List<?> value) {
+        return parent;
+    }
+
+    void postListWrite(E e, String key) {
+    }
+
+    /**
+     * Called before the properties of an augmentation are written into the augmented element.
+     *
+     * @return parent handle for the augmentation properties
+     */
+    E preAugmentationWrite(E parent, Object augmentation) {
+        return parent;
+    }
 
     private static final Logger LOG = LoggerFactory.getLogger(OdlDataSerializer.class);
+    private static final int MAX_LEVEL = 15;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle NO_VALUE_GETTER = MethodHandles.constant(Object.class, null);
 
     private boolean nullValueExcluded;
 
     private final ObjectSerializerMap extraMappers;
-    private final ClassFinder clsFinder;
-    private final Map<Class<?>, List<Class<?>>> augmentations = OdlObjectMapperXml.initAutoAugmentationList();
+    private final Map<Class<?>, List<PropertyPlan>> plans;
+    private final Map<Class<?>, String> identities;
+    private final Map<Class<?>, MethodHandle> valueGetters;
+    private final AugmentationRegistry augmentationRegistry;
     private static final ObjectSerializer defaultSerializer = new ObjectSerializer();
 
+    /**
+     * @param clsFinder not used anymore, identities are written from their QName
+     */
     public OdlDataSerializer(ClassFinder clsFinder) {
-        this.clsFinder = clsFinder;
         this.extraMappers = new ObjectSerializerMap();
+        this.plans = new ConcurrentHashMap<>();
+        this.identities = new ConcurrentHashMap<>();
+        this.valueGetters = new ConcurrentHashMap<>();
+        this.augmentationRegistry = AugmentationRegistry.getInstance();
     }
 
     public void addSerializer(Class<?> clazz, ObjectSerializer s) {
         this.extraMappers.put(clazz.getName(), s);
+        this.plans.clear();
     }
 
     public void addSerializer(Class<?> parentClazz, String propertyName, ObjectSerializer s) {
         this.extraMappers.put(parentClazz, propertyName, s);
+        this.plans.clear();
     }
 
     public void addSerializer(String parentClazzName, String propertyName, ObjectSerializer s) {
         this.extraMappers.put(parentClazzName, propertyName, s);
+        this.plans.clear();
     }
 
     public void setNullValueExcluded(boolean exclude) {
@@ -75,184 +119,195 @@ public abstract class OdlDataSerializer {
     }
 
     public <T extends DataObject> String writeValueAsString(T value, String rootKey) {
+        SerializerOutput out = new SerializerOutput();
+        this.writeValue(out, value, rootKey);
+        return out.toString();
+    }
 
-        this.clear();
+    public <T extends DataObject> byte[] writeValueAsBytes(T value, String rootKey) {
+        SerializerOutput out = new SerializerOutput();
+        this.writeValue(out, value, rootKey);
+        return out.toByteArray();
+    }
+
+    public <T extends DataObject> void writeValue(SerializerOutput out, T value, String rootKey) {
+        value = LazyDataObjects.materialize(value);
         Class<?> rootClass = value.getClass();
-        SerializerElem e = this.startElem(rootKey, value, false, rootClass);
+        E document = this.startDocument(out);
+        E e = this.startElem(document, rootKey, value, false, rootClass);
         this.writeRecurseProperties(e, value, 0, rootClass);
         this.stopElem(e, rootKey);
-        return e.toString();
+        this.endDocument(document);
     }
 
-    @SuppressWarnings("unchecked")
-    private void writeRecurseProperties(SerializerElem e, Object object, int level, Class<?> rootClass) {
-        ObjectSerializer extraSerializer = null;
-        if (level > 15) {
-            System.out.println("Level to deep protection.");
-        } else {
-            if (object != null) {
-                Class<?> clazz = object.getClass();
-                Field[] fields = clazz.getDeclaredFields();
-                boolean found = false;
-                Field nameField = null;
-                SerializerElem e2 = null;
-                for (Field field : fields) {
-                    try {
-                        String name = field.getName();
-                        field.setAccessible(true);
-                        Object value = field.get(object);
-                        //only _xxx properties are interesting
-                        if (name.startsWith("_")) {
-                            if (this.nullValueExcluded && value == null) {
-                                continue;
-                            }
-                            Class<?> type = field.getType();
-                            extraSerializer =
-                                    this.extraMappers.getOrDefault(type.getName(), clazz, name, defaultSerializer);
-                            //convert property name to kebab-case (yang-spec writing)
-                            name = extraSerializer.convertPropertyName(name);
-                            //if has inner childs
-                            if (DataObject.class.isAssignableFrom(type)) {
-                                e2 = this.startElem(name, value, rootClass);
-                                this.writeRecurseProperties(e2, value, level + 1, rootClass);
-                                this.stopElem(e2, name);
-                                e.addChild(e2);
-                            } else {
-                                //if enum
-                                if (Enum.class.isAssignableFrom(type)) {
-                                    e2 = this.startElem(name, value, rootClass);
-                                    String svalue = this.getEnumStringValue(value);
-                                    this.writeElemValue(e2, svalue.substring(0, 1).toLowerCase() + svalue.substring(1));
-                                    this.stopElem(e2, name);
-                                    e.addChild(e2);
-                                }
-                                // type object (new type of base type) => use getValue()
-                                else if (TypeObject.class.isAssignableFrom(type)) {
-                                    e2 = this.startElem(name, value, rootClass);
-                                    this.writeElemValue(e2, this.getTypeObjectStringValue(value, type));
-                                    this.stopElem(e2, name);
-                                    e.addChild(e2);
-                                }
-                                //if choice then jump over field and step into next java level, but not in xml
-                                else if (ChoiceIn.class.isAssignableFrom(type)) {
-                                    this.writeRecurseProperties(e, value, level, rootClass);
-                                } else if (type == Class.class
-                                        && BaseIdentity.class.isAssignableFrom((Class<?>) value)) {
-                                    e2 = this.startElem(name, value, rootClass);
-                                    this.writeElemValue(e2, this.getIdentity((Class<?>) value));
-                                    this.stopElem(e2, name);
-                                    e.addChild(e2);
-                                }
-                                //if list of elems
-                                else if (value != null && List.class.isAssignableFrom(type)) {
-                                    for (Object listObject : (List<Object>) value) {
-                                        e2 = this.startElem(name, listObject, rootClass);
-                                        this.writeRecurseProperties(e2, listObject, level + 1, rootClass);
-                                        this.stopElem(e2, name);
-                                        e.addChild(e2);
-                                    }
-                                }
-                                //by exclude all others it is basic value element
-                                else {
-                                    e2 = this.startElem(name, value, rootClass);
-                                    this.writeElemValue(e2, value);
-                                    this.stopElem(e2, name);
-                                    e.addChild(e2);
-                                }
-                                found = true;
-
-                            }
-                        } else if (name.equals("name")) {
-                            nameField = field;
-                        }
-                    } catch (IllegalArgumentException | IllegalAccessException ex) {
-                        LOG.warn("problem accessing value during mapping: ", ex);
+    private void writeRecurseProperties(E e, Object object, int level, Class<?> rootClass) {
+        if (level > MAX_LEVEL) {
+            LOG.warn("Level to deep protection.");
+            return;
+        }
+        if (object == null) {
+            return;
+        }
+        Class<?> clazz = object.getClass();
+        for (PropertyPlan property : this.getPlan(clazz)) {
+            Object value;
+            try {
+                value = property.getter.invokeExact(object);
+            } catch (Throwable ex) {
+                LOG.warn("problem accessing value during mapping: ", ex);
+                continue;
+            }
+            if (this.nullValueExcluded && value == null) {
+                continue;
+            }
+            switch (property.kind) {
+                case CONTAINER:
+                    this.writeContainer(e, property.name, value, level, rootClass);
+                    break;
+                case CHOICE:
+                    //if choice then jump over field and step into next java level, but not in xml
+                    this.writeRecurseProperties(e, value, level, rootClass);
+                    break;
+                case LIST:
+                    if (value == null) {
+                        this.writeLeaf(e, property.name, null, ValueKind.VALUE, rootClass);
+                        break;
                     }
-                }
-                if (!found && nameField != null) {
-                    try {
-                        Object value = nameField.get(object);
-                        Class<?> type = nameField.getType();
-                        if (type == String.class) {
-                            this.writeElemValue(e, this.getIdentity((String) value));
+                    E listElem = this.preListWrite(e, property.name, (List<?>) value);
+                    for (Object listObject : (List<?>) value) {
+                        ValueKind itemKind = listObject == null ? ValueKind.VALUE : ValueKind.of(listObject.getClass());
+                        if (itemKind == ValueKind.CONTAINER) {
+                            this.writeContainer(listElem, property.name, listObject, level, rootClass);
+                        } else {
+                            this.writeLeaf(listElem, property.name, listObject, itemKind, rootClass);
                         }
-                    } catch (IllegalArgumentException | IllegalAccessException | ClassNotFoundException ex) {
-                        LOG.warn("problem accessing value during mapping2: ", ex);
-                    }
-                }
-                Collection<Object> augmentations = getAugmentations(object, clazz);
-                if (augmentations != null && augmentations.size() > 0) {
-                    for (Object augment : augmentations) {
-                        this.writeRecurseProperties(e, augment, level, augment.getClass());
                     }
-                }
+                    this.postListWrite(listElem, property.name);
+                    break;
+                default:
+                    this.writeLeaf(e, property.name, value, property.kind, rootClass);
+                    break;
             }
         }
+        Collection<Object> augmentations = this.augmentationRegistry.getAugmentationValues(object);
+        if (augmentations != null && augmentations.size() > 0) {
+            for (Object augment : augmentations) {
+                this.writeRecurseProperties(this.preAugmentationWrite(e, augment), augment, level,
+                        augment.getClass());
+            }
+        }
+    }
+
+    private void writeContainer(E e, String name, Object value, int level, Class<?> rootClass) {
+        // lazy proxies have no fields to serialize
+        value = LazyDataObjects.materialize(value);
+        E e2 = this.startElem(e, name, value, rootClass);
+        this.writeRecurseProperties(e2, value, level + 1, rootClass);
+        this.stopElem(e2, name);
     }
 
+    private void writeLeaf(E e, String name, Object value, ValueKind kind, Class<?> rootClass) {
+        E e2 = this.startElem(e, name, value, rootClass);
+        if (value == null) {
+            this.writeElemValue(e2, null);
+        } else if (kind == ValueKind.ENUM) {
+            String svalue = this.getEnumStringValue(value);
+            this.writeElemValue(e2, svalue.substring(0, 1).toLowerCase() + svalue.substring(1));
+        } else if (kind == ValueKind.TYPEOBJECT) {
+            // type object (new type of base type) => use getValue()
+            this.writeElemValue(e2, this.getTypeObjectStringValue(value));
+        } else if (kind == ValueKind.IDENTITY && BaseIdentity.class.isAssignableFrom((Class<?>) value)) {
+            this.writeElemValue(e2, this.getIdentity((Class<?>) value));
+        } else {
+            //by exclude all others it is basic value element
+            this.writeElemValue(e2, value);
+        }
+        this.stopElem(e2, name);
+    }
 
+    /**
+     * Get the serialization plan of a class. It contains all _xxx properties with converted names,
+     * accessors and value kinds in declaration order.
+     */
+    private List<PropertyPlan> getPlan(Class<?> clazz) {
+        List<PropertyPlan> plan = this.plans.get(clazz);
+        if (plan == null) {
+            plan = this.createPlan(clazz);
+            this.plans.put(clazz, plan);
+        }
+        return plan;
+    }
 
-    private Collection<Object> getAugmentations(Object object, Class<?> clazz) {
-        if (object instanceof Augmentable) {
-            if (object instanceof Interface) {
-                return AugmentationMap.getInstance().getAugmentations((Interface) object);
-            }
-            if (object instanceof Node) {
-                return AugmentationMap.getInstance().getAugmentations((Node) object);
+    private List<PropertyPlan> createPlan(Class<?> clazz) {
+        List<PropertyPlan> plan = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            String name = field.getName();
+            //only _xxx properties are interesting
+            if (!name.startsWith("_") || Modifier.isStatic(field.getModifiers())) {
+                continue;
             }
-            if (object instanceof Link) {
-                return AugmentationMap.getInstance().getAugmentations((Link) object);
-            }
-            if (object instanceof TerminationPoint) {
-                return AugmentationMap.getInstance().getAugmentations((TerminationPoint) object);
+            try {
+                field.setAccessible(true);
+                MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+                Class<?> type = field.getType();
+                ObjectSerializer extraSerializer =
+                        this.extraMappers.getOrDefault(type.getName(), clazz, name, defaultSerializer);
+                //convert property name to kebab-case (yang-spec writing)
+                plan.add(new PropertyPlan(extraSerializer.convertPropertyName(name), ValueKind.of(type), getter));
+            } catch (SecurityException | IllegalAccessException ex) {
+                LOG.warn("problem accessing field {} of {}: ", name, clazz, ex);
             }
         }
-        return null;
+        return plan;
     }
 
-    private SerializerElem startElem(String elem, Object o, Class<?> rootClass) {
-        return this.startElem(elem, o, true, rootClass);
+    private E startElem(E parent, String elem, Object o, Class<?> rootClass) {
+        return this.startElem(parent, elem, o, true, rootClass);
     }
 
-    private SerializerElem startElem(String elem, Object o, boolean withNsPrefix, Class<?> rootClass) {
-        return this.preValueWrite(elem, o, withNsPrefix, rootClass);
+    private E startElem(E parent, String elem, Object o, boolean withNsPrefix, Class<?> rootClass) {
+        return this.preValueWrite(parent, elem, o, withNsPrefix, rootClass);
     }
 
-    private void writeElemValue(SerializerElem e, Object elemValue) {
+    private void writeElemValue(E e, Object elemValue) {
         this.onValueWrite(e, elemValue);
     }
 
-    private void stopElem(SerializerElem e, String elem) {
+    private void stopElem(E e, String elem) {
         this.postValueWrite(e, elem);
     }
 
-    private String getIdentity(String clsName)
-            throws IllegalArgumentException, IllegalAccessException, ClassNotFoundException {
-        Class<?> cls = this.clsFinder == null ? null : this.clsFinder.findClass(clsName);
-        return (cls != null && BaseIdentity.class.isAssignableFrom(cls)) ? this.getIdentity(cls) : null;
-    }
-
-    private String getIdentity(Class<?> value) throws IllegalArgumentException, IllegalAccessException {
-        QName qname = null;
-        Field[] fields = value.getDeclaredFields();
-        for (Field f : fields) {
-            if (f.getName() == "QNAME") {
-                qname = (QName) f.get(value);
-                break;
+    private String getIdentity(Class<?> value) {
+        String identity = this.identities.get(value);
+        if (identity == null) {
+            QName qname = null;
+            try {
+                qname = (QName) value.getField("QNAME").get(value);
+            } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+                LOG.debug("no QNAME found for identity {}", value);
             }
+            identity = qname == null ? "" : qname.getLocalName();
+            this.identities.put(value, identity);
         }
-        return qname == null ? null : qname.getLocalName();
+        return identity.isEmpty() ? null : identity;
     }
 
-    private Object getTypeObjectStringValue(Object value, Class<?> type) {
-        if (value != null) {
+    private Object getTypeObjectStringValue(Object value) {
+        MethodHandle getValue = this.valueGetters.computeIfAbsent(value.getClass(), cls -> {
             try {
-                Method method = type.getMethod("getValue");
-                return method.invoke(value);
-            } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException e) {
+                return LOOKUP.unreflect(cls.getMethod("getValue")).asType(GETTER_TYPE);
+            } catch (NoSuchMethodException | SecurityException | IllegalAccessException e) {
                 LOG.warn("problem calling getValue fn: ", e);
             }
+            return NO_VALUE_GETTER;
+        });
+        if (getValue == NO_VALUE_GETTER) {
+            return null;
+        }
+        try {
+            return getValue.invokeExact(value);
+        } catch (Throwable e) {
+            LOG.warn("problem calling getValue fn: ", e);
         }
         return null;
     }
@@ -264,4 +319,46 @@ public abstract class OdlDataSerializer {
 
         return String.valueOf(value);
     }
+
+    /**
+     * Kind of a property value, determined by its declared type.
+     */
+    private enum ValueKind {
+        CONTAINER, LIST, ENUM, TYPEOBJECT, IDENTITY, CHOICE, VALUE;
+
+        static ValueKind of(Class<?> type) {
+            if (DataObject.class.isAssignableFrom(type)) {
+                return CONTAINER;
+            }
+            if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
+            }
+            if (TypeObject.class.isAssignableFrom(type)) {
+                return TYPEOBJECT;
+            }
+            if (ChoiceIn.class.isAssignableFrom(type)) {
+                return CHOICE;
+            }
+            if (type == Class.class) {
+                return IDENTITY;
+            }
+            if (List.class.isAssignableFrom(type)) {
+                return LIST;
+            }
+            return VALUE;
+        }
+    }
+
+    private static class PropertyPlan {
+
+        private final String name;
+        private final ValueKind kind;
+        private final MethodHandle getter;
+
+        PropertyPlan(String name, ValueKind kind, MethodHandle getter) {
+            this.name = name;
+            this.kind = kind;
+            this.getter = getter;
+        }
+    }
 }
@@ -7,37 +7,183 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
 
-import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerElem;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.JsonSerializerElem;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerOutput;
+import org.opendaylight.yangtools.yang.binding.BaseIdentity;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class OdlJsonSerializer extends OdlDataSerializer{
+/**
+ * Writes data objects as application/yang-data+json (rfc7951) directly into the output buffer.
+ * Member names are qualified with the yang module name if the module changes, list entries on
+ * document level are wrapped into an array.
+ */
+public class OdlJsonSerializer extends OdlDataSerializer<JsonSerializerElem> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OdlJsonSerializer.class);
+    public static final String CONTENT_TYPE = "application/yang-data+json";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Pattern REVISION_PACKAGE = Pattern.compile("^(rev[0-9]{6}|norev)$");
+    private static final String NO_MODULE = "";
 
-     public OdlJsonSerializer() {
-        super(null);
+    private final Map<Class<?>, String> classModules = new ConcurrentHashMap<>();
+    private final Map<String, String> packageModules = new ConcurrentHashMap<>();
+
+    public OdlJsonSerializer() {
+        this(null);
     }
 
+    public OdlJsonSerializer(ClassFinder clsFinder) {
+        super(clsFinder);
+    }
 
     @Override
-    SerializerElem preValueWrite(String key, Object value, boolean withNsPrefix, Class<?> rootClass) {
-        // TODO Auto-generated method stub
-        return null;
+    JsonSerializerElem startDocument(SerializerOutput out) {
+        try {
+            return JsonSerializerElem.createDocument(JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    JsonSerializerElem preValueWrite(JsonSerializerElem parent, String key, Object value, boolean withNsPrefix,
+            Class<?> rootClass) {
+        if (value instanceof DataObject) {
+            return parent.createContainer(key, this.getModuleName(value.getClass()), value instanceof Identifiable);
+        }
+        if (value instanceof Class && BaseIdentity.class.isAssignableFrom((Class<?>) value)) {
+            final String identityModule = this.getModuleName((Class<?>) value);
+            return parent.createLeaf(key, identityModule == null ? null : identityModule + ":");
+        }
+        return parent.createLeaf(key, null);
+    }
+
+    @Override
+    JsonSerializerElem preListWrite(JsonSerializerElem parent, String key, List<?> value) {
+        String module = parent.getModule();
+        for (Object item : value) {
+            if (item instanceof DataObject) {
+                module = this.getModuleName(item.getClass());
+                break;
+            }
+        }
+        return parent.createList(key, module);
+    }
+
+    @Override
+    void postListWrite(JsonSerializerElem e, String key) {
+        e.close();
     }
 
     @Override
-    void postValueWrite(SerializerElem e, String key) {
-        // TODO Auto-generated method stub
+    JsonSerializerElem preAugmentationWrite(JsonSerializerElem parent, Object augmentation) {
+        return parent.createAugmentation(this.getModuleName(augmentation.getClass()));
+    }
 
+    @Override
+    void postValueWrite(JsonSerializerElem e, String key) {
+        e.close();
     }
 
     @Override
-    void onValueWrite(SerializerElem e, Object o) {
-        // TODO Auto-generated method stub
+    void onValueWrite(JsonSerializerElem e, Object o) {
+        e.setValue(o);
+    }
 
+    @Override
+    void endDocument(JsonSerializerElem document) {
+        document.close();
     }
 
-	@Override
-	void clear() {
-		// TODO Auto-generated method stub
+    /**
+     * @return name of the yang module a generated class belongs to or null if unknown
+     */
+    String getModuleName(Class<?> cls) {
+        final String module = this.classModules.computeIfAbsent(cls, this::findModuleName);
+        return module == NO_MODULE ? null : module;
+    }
 
-	}
+    private String findModuleName(Class<?> cls) {
+        final String rootPackage = getModelRootPackage(cls.getName());
+        if (rootPackage != null) {
+            final String module = this.packageModules.computeIfAbsent(rootPackage,
+                    pkg -> loadModuleName(pkg, cls.getClassLoader()));
+            if (module != NO_MODULE) {
+                return module;
+            }
+        }
+        return getModuleNameFromNamespace(cls);
+    }
 
+    /**
+     * Model root package of generated binding classes is the package up to the revision part,
+     * e.g. org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.
+     */
+    private static String getModelRootPackage(String clsName) {
+        final String[] parts = clsName.split("\\.");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length - 1; i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(parts[i]);
+            if (REVISION_PACKAGE.matcher(parts[i]).matches()) {
+                return sb.toString();
+            }
+        }
+        return null;
+    }
+
+    private static String loadModuleName(String rootPackage, ClassLoader loader) {
+        try {
+            Class<?> infoClass = Class.forName(rootPackage + ".$YangModuleInfoImpl", true, loader);
+            Object info = infoClass.getMethod("getInstance").invoke(null);
+            if (info instanceof YangModuleInfo) {
+                final Object name = ((YangModuleInfo) info).getName();
+                return name instanceof QName ? ((QName) name).getLocalName() : String.valueOf(name);
+            }
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            LOG.debug("no module info found for package {}", rootPackage);
+        }
+        return NO_MODULE;
+    }
+
+    /**
+     * Fallback if no module info is available. Derive the module name from the namespace of the
+     * QNAME like http://org/openroadm/device =&gt; org-openroadm-device or
+     * urn:ietf:params:xml:ns:yang:ietf-interfaces =&gt; ietf-interfaces.
+     */
+    private static String getModuleNameFromNamespace(Class<?> cls) {
+        final String ns;
+        try {
+            Object qname = cls.getField("QNAME").get(null);
+            if (!(qname instanceof QName)) {
+                return NO_MODULE;
+            }
+            ns = ((QName) qname).getNamespace().toString();
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            return NO_MODULE;
+        }
+        if (ns.startsWith("urn:")) {
+            return ns.substring(ns.lastIndexOf(':') + 1);
+        }
+        String name = ns.replaceFirst("^[a-zA-Z]+://", "");
+        while (name.endsWith("/")) {
+            name = name.substring(0, name.length() - 1);
+        }
+        return name.isEmpty() ? NO_MODULE : name.replace('/', '-');
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.BindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.DomBindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.JacksonBindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.AugmentationProblemHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared mapper instances. Creating a mapper means creating a new introspector and losing all
+ * cached deserializers, so all requests and notifications use the same instances. Reading is
+ * thread-safe, readers per target class are cached inside the mappers.
+ */
+public class OdlMapperRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OdlMapperRegistry.class);
+    /**
+     * Types which are read for almost every OpenROADM device.
+     */
+    public static final List<Class<?>> DEFAULT_WARMUP_TYPES = Arrays.asList(
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Info.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.Interface.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacks.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.Ports.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnections.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.OduConnection.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Protocols.class,
+            org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroup.class,
+            org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode.class);
+    private static OdlMapperRegistry instance;
+
+    private final OdlObjectMapperXml dataMapper;
+    private final OdlObjectMapper jsonDataMapper;
+    private final OdlRpcObjectMapperXml rpcMapper;
+    private final SdnrNotificationMapperXml notificationMapper;
+    private final BindingCodec jacksonCodec;
+    private BindingCodec domCodec;
+
+    private OdlMapperRegistry() {
+        this.dataMapper = new OdlObjectMapperXml(true);
+        this.jsonDataMapper = new OdlObjectMapper();
+        this.jsonDataMapper.addHandler(new AugmentationProblemHandler(AugmentationRegistry.getInstance().asMap()));
+        this.rpcMapper = new OdlRpcObjectMapperXml();
+        this.notificationMapper = new SdnrNotificationMapperXml();
+        this.jacksonCodec = new JacksonBindingCodec(this.dataMapper);
+    }
+
+    public static synchronized OdlMapperRegistry getInstance() {
+        if (instance == null) {
+            instance = new OdlMapperRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * @return mapper for restconf data responses
+     */
+    public OdlObjectMapperXml getDataMapper() {
+        return this.dataMapper;
+    }
+
+    /**
+     * @return mapper for restconf data responses in json (rfc7951)
+     */
+    public OdlObjectMapper getJsonDataMapper() {
+        return this.jsonDataMapper;
+    }
+
+    /**
+     * @return mapper for rpc input and output
+     */
+    public OdlRpcObjectMapperXml getRpcMapper() {
+        return this.rpcMapper;
+    }
+
+    /**
+     * @return mapper for sdnr websocket notifications
+     */
+    public SdnrNotificationMapperXml getNotificationMapper() {
+        return this.notificationMapper;
+    }
+
+    /**
+     * Codec for restconf xml data. The schema of the dom engine is created on first use.
+     *
+     * @param engine selected engine
+     * @return shared codec instance
+     */
+    public synchronized BindingCodec getCodec(CodecEngine engine) {
+        if (engine != CodecEngine.DOM) {
+            return this.jacksonCodec;
+        }
+        if (this.domCodec == null) {
+            try {
+                this.domCodec = new DomBindingCodec(getSchemaModelClasses(), this.jacksonCodec);
+            } catch (RuntimeException e) {
+                LOG.warn("unable to create dom codec. using {}: ", JacksonBindingCodec.NAME, e);
+                return this.jacksonCodec;
+            }
+        }
+        return this.domCodec;
+    }
+
+    /**
+     * @return model classes whose modules form the schema of the dom engine
+     */
+    private static List<Class<?>> getSchemaModelClasses() {
+        final List<Class<?>> classes = new ArrayList<>(DEFAULT_WARMUP_TYPES);
+        for (Map.Entry<Class<?>, List<Class<?>>> entry : AugmentationRegistry.getInstance().asMap().entrySet()) {
+            classes.add(entry.getKey());
+            classes.addAll(entry.getValue());
+        }
+        return classes;
+    }
+
+    /**
+     * Build the deserializers for the given types.
+     *
+     * @param types data types
+     */
+    public void warmUp(List<Class<?>> types) {
+        final long start = System.currentTimeMillis();
+        for (Class<?> type : types) {
+            try {
+                this.dataMapper.warmUp(type);
+            } catch (RuntimeException e) {
+                LOG.warn("unable to warm up mapper for {}: ", type, e);
+            }
+        }
+        LOG.info("warmed up mappers for {} types in {}ms", types.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Build the deserializers for the given types in background.
+     *
+     * @param types data types
+     */
+    public void warmUpAsync(List<Class<?>> types) {
+        Thread t = new Thread(() -> this.warmUp(types), "odlclient-mapper-warmup");
+        t.setDaemon(true);
+        t.start();
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -21,11 +22,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import org.eclipse.jdt.annotation.Nullable;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.CustomOdlDeserializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.QualifiedNameJsonParser;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.DateAndTimeSerializer;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.NodeIdType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
@@ -144,6 +147,38 @@ public class OdlObjectMapper extends ObjectMapper implements ClassFinder{
     }
 
 
+    /**
+     * Read a restconf json document (rfc7951) like {"module:name":{...}} or {"module:name":[{...}]}.
+     * The wrapping member is skipped and module names of members are removed while parsing.
+     *
+     * @return value or null if the document is empty
+     */
+    public <T> T readRestconfValue(InputStream src, Class<T> clazz) throws IOException {
+        try (JsonParser parser = new QualifiedNameJsonParser(this.getFactory().createParser(src))) {
+            return this.readRestconfValue(parser, clazz);
+        }
+    }
+
+    public <T> T readRestconfValue(String src, Class<T> clazz) throws IOException {
+        try (JsonParser parser = new QualifiedNameJsonParser(this.getFactory().createParser(src))) {
+            return this.readRestconfValue(parser, clazz);
+        }
+    }
+
+    private <T> T readRestconfValue(JsonParser parser, Class<T> clazz) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        return this.readValue(parser, clazz);
+    }
+
     @Override
     public Class<?> findClass(String name, Class<?> clazz) throws ClassNotFoundException {
         return this.introspector.findClass(name, clazz);
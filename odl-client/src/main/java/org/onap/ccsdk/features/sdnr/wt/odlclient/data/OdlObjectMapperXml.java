@@ -9,26 +9,30 @@ package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
-import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.eclipse.jdt.annotation.Nullable;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.AugmentationDeserializerModifier;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.AugmentationProblemHandler;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.CustomOdlDeserializer;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.DateAndTimeSerializer;
-import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.rev181019.resource.resource.resource.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.osgi.framework.Bundle;
@@ -43,21 +47,20 @@ public class OdlObjectMapperXml extends XmlMapper implements ClassFinder{
 
     private static final Logger LOG = LoggerFactory.getLogger(OdlObjectMapperXml.class);
     private static final long serialVersionUID = 1L;
-    private static final String NORMALIZE_REGEX = "<[\\/]{0,1}([a-z]+[A-Z]+[^>]*)>";
-    private static final Pattern NORMALIZE_PATTERN = Pattern.compile(NORMALIZE_REGEX, Pattern.MULTILINE);
-    private static final String XMLNS_REGEX = "xmlns:([a-zA-Z0-9])=\"([^>]*)\">([^<]*)<\\/";
-    private static final Pattern XMLNS_PATTERN = Pattern.compile(XMLNS_REGEX, Pattern.MULTILINE);
 
     private final boolean doNormalize;
     private final YangToolsBuilderAnnotationIntrospector introspector;
     private final Map<Class<?>,List<Class<?>>> autoAugmentationList;
+    private final Map<Class<?>, ObjectReader> readers;
+
     public OdlObjectMapperXml() {
         this(false);
     }
 
     public OdlObjectMapperXml(boolean doNormalize) {
         super();
-        this.autoAugmentationList = initAutoAugmentationList();
+        this.autoAugmentationList = AugmentationRegistry.getInstance().asMap();
+        this.readers = new ConcurrentHashMap<>();
         this.doNormalize = doNormalize;
         Bundle bundle = FrameworkUtil.getBundle(OdlObjectMapperXml.class);
         BundleContext context = bundle != null ? bundle.getBundleContext() : null;
@@ -74,90 +77,67 @@ public class OdlObjectMapperXml extends XmlMapper implements ClassFinder{
         customSerializerModule.setDeserializerModifier(new CustomOdlDeserializer(this));
 
         this.registerModule(customSerializerModule);
+        AugmentationProblemHandler augmentationHandler = new AugmentationProblemHandler(this.autoAugmentationList);
+        SimpleModule augmentationModule = new SimpleModule("augmentations");
+        augmentationModule.setDeserializerModifier(new AugmentationDeserializerModifier(augmentationHandler));
+        this.registerModule(augmentationModule);
+        this.addHandler(augmentationHandler);
         this.enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS);
     }
 
 
-    public static Map<Class<?>,List<Class<?>>> initAutoAugmentationList() {
-        final Map<Class<?>,List<Class<?>>> map = new HashMap<>();
-        map.put(org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.Interface.class, Arrays
-                .asList(org.opendaylight.yang.gen.v1.http.org.openroadm.otn.otu.interfaces.rev181019.Interface1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.otn.odu.interfaces.rev181019.Interface1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.Interface1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.optical.channel.interfaces.rev181019.Interface1.class));
-        map.put(Interface.class, Arrays.asList(
-                org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.Interface1.class));
-        map.put(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.http.org.openroadm.network.rev181130.Node1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev181130.Node1.class));
-        map.put(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1.class));
-        map.put(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev181130.Link1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.otn.network.topology.rev181130.Link1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.network.topology.rev181130.Link1.class));
-        map.put(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Node1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev181130.Node1.class));
-        map.put(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network
-                .node.TerminationPoint.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev181130.TerminationPoint1.class,
-                        org.opendaylight.yang.gen.v1.http.org.openroadm.otn.network.topology.rev181130.TerminationPoint1.class));
-        map.put(org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Protocols.class,
-                Arrays.asList(org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.Protocols1.class)
-                );
-        return map;
+    @Override
+    public <T> T readValue(String content, Class<T> valueType)
+            throws IOException, JsonParseException, JsonMappingException {
+        return this.parse(content, this.getReader(valueType));
     }
 
+    /**
+     * Read value directly from the stream.
+     */
     @Override
-    public <T> T readValue(String content, Class<T> valueType)
+    public <T> T readValue(InputStream src, Class<T> valueType)
             throws IOException, JsonParseException, JsonMappingException {
-        if (this.doNormalize) {
-            content = this.normalizeContent(content);
-        }
-        List<Class<?>> augs = this.autoAugmentationList.getOrDefault(valueType, null);
-        if(augs!=null) {
-            Class<?>[] a = new Class<?>[augs.size()];
-            return this.readValue(content, valueType, this.autoAugmentationList.get(valueType).toArray(a));
-        }
-        return super.readValue(content, valueType);
+        return this.parse(src, this.getReader(valueType));
     }
 
+    /**
+     * Read value with the given augmentations instead of the registered ones. Base type and
+     * augmentations are read in one pass.
+     */
     public <T> T readValue(String content, Class<T> valueType, Class<?>... augmentedTypes)
             throws IOException, JsonParseException, JsonMappingException {
-        if (this.doNormalize) {
-            content = this.normalizeContent(content);
-        }
-        T value = super.readValue(content, valueType);
-
-        if (augmentedTypes.length > 0) {
-            Builder<T> builder = this.getBuilder(valueType, value);
-            if (builder != null) {
-                Method addAugmentationMethod = null;
-                for (Method m : builder.getClass().getDeclaredMethods()) {
-                    if (m.getName() == "addAugmentation") {
-                        addAugmentationMethod = m;
-                        break;
-                    }
-                }
-                if(addAugmentationMethod!=null) {
-                    for (Class<?> augmentedType : augmentedTypes) {
-                        try {
-                            addAugmentationMethod.invoke(builder,augmentedType, this.readValue(content, augmentedType));
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                                | IOException e) {
-                            LOG.warn("unable to add augmented type {} to basetype {} with content {}: ", augmentedType,
-                                    valueType, content, e);
-                        }
-                    }
-                    value = builder.build();
-                }
-                else {
-                    LOG.warn("unable to add augmentations to type {}. No fn with this name found",builder.getClass());
-                }
+        Map<Class<?>, List<Class<?>>> augmentations =
+                Collections.singletonMap(valueType, Arrays.asList(augmentedTypes));
+        return this.parse(content,
+                this.getReader(valueType).withAttribute(AugmentationProblemHandler.ATTR_AUGMENTATIONS, augmentations));
+    }
+
+    /**
+     * Get the cached reader for a type. Readers are immutable and thread-safe, the root deserializer
+     * is resolved when the reader is created.
+     *
+     * @param valueType target type
+     * @return reader for this type
+     */
+    public ObjectReader getReader(Class<?> valueType) {
+        return this.readers.computeIfAbsent(valueType, this::readerFor);
+    }
+
+    /**
+     * Create the readers for a type and its auto augmentations in advance, so that the first
+     * response of this type doesn't have to pay for the introspection.
+     *
+     * @param valueType target type
+     */
+    public void warmUp(Class<?> valueType) {
+        this.getReader(valueType);
+        List<Class<?>> augs = this.autoAugmentationList.get(valueType);
+        if (augs != null) {
+            for (Class<?> aug : augs) {
+                this.getReader(aug);
             }
         }
-        return value;
     }
 
     /**
@@ -182,30 +162,36 @@ public class OdlObjectMapperXml extends XmlMapper implements ClassFinder{
         return null;
     }
 
-    private String normalizeContent(String content) {
-        LOG.debug("normalize content");
-        LOG.trace("before={}", content);
-        final Matcher matcher = NORMALIZE_PATTERN.matcher(content);
-        String copy = content;
-        String attr;
-        KebabCaseStrategy converter = new KebabCaseStrategy();
-        while (matcher.find()) {
-            if (matcher.groupCount() > 0) {
-                attr = matcher.group(1);
-                copy = copy.replaceFirst(attr, converter.translate(attr));
-            }
+    /**
+     * Parse the content. If normalization is enabled the names and values are normalized by the
+     * xml stream reader while parsing.
+     */
+    private <T> T parse(String content, ObjectReader reader) throws IOException {
+        if (!this.doNormalize) {
+            return reader.readValue(content);
         }
-        final Matcher xmlnsMatcher = XMLNS_PATTERN.matcher(content);
-        while(xmlnsMatcher.find()) {
-            if (xmlnsMatcher.groupCount() > 2) {
-                attr = xmlnsMatcher.group(3);
-                if(attr.startsWith(xmlnsMatcher.group(1)+":")) {
-                    copy = copy.replaceFirst(attr,attr.substring(xmlnsMatcher.group(1).length()+1));
-                }
-            }
+        try {
+            return this.parseNormalized(NormalizingXmlStreamReader.create(new StringReader(content)), reader);
+        } catch (XMLStreamException e) {
+            throw new IOException("unable to read xml content", e);
+        }
+    }
+
+    private <T> T parse(InputStream src, ObjectReader reader) throws IOException {
+        if (!this.doNormalize) {
+            return reader.readValue(src);
+        }
+        try {
+            return this.parseNormalized(NormalizingXmlStreamReader.create(src), reader);
+        } catch (XMLStreamException e) {
+            throw new IOException("unable to read xml content", e);
+        }
+    }
+
+    private <T> T parseNormalized(XMLStreamReader src, ObjectReader reader) throws IOException {
+        try (JsonParser parser = this.getFactory().createParser(src)) {
+            return reader.readValue(parser);
         }
-        LOG.trace("after={}", copy);
-        return copy;
     }
 
     @Override
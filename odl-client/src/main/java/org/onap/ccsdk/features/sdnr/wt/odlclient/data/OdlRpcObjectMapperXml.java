@@ -8,41 +8,105 @@
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.KeepPropertyNameSerializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerOutput;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 public class OdlRpcObjectMapperXml extends OdlObjectMapperXml {
 
     private static final long serialVersionUID = 1L;
+    private static final KebabCaseStrategy CONVERTER = new KebabCaseStrategy();
+    private static final Map<String, String> ROOT_NAMES = new ConcurrentHashMap<>();
+    private static final String YANG_PATCH_NAMESPACE = "urn:ietf:params:xml:ns:yang:ietf-yang-patch";
     private final OdlXmlSerializer serializer;
+    private final OdlJsonSerializer jsonSerializer;
 
     public OdlRpcObjectMapperXml() {
         super(true);
         this.serializer = new OdlXmlSerializer(this);
-        this.serializer.setNullValueExcluded(true);
-        this.serializer.addSerializer(org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.OpticalControlMode.class, new KeepPropertyNameSerializer());
-        this.serializer.addSerializer("org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacksBuilder$CircuitPacksImpl","_subSlot",new KeepPropertyNameSerializer());
-        this.serializer.addSerializer("org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnectionsBuilder$RoadmConnectionsImpl","_opticalControlMode",new KeepPropertyNameSerializer());
-//        this.serializer.addSerializer(org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev171215.States.class, new KeepPropertyNameSerializer());
+        this.jsonSerializer = new OdlJsonSerializer(this);
+        configure(this.serializer);
+        configure(this.jsonSerializer);
+    }
+
+    private static void configure(OdlDataSerializer<?> serializer) {
+        serializer.setNullValueExcluded(true);
+        serializer.addSerializer(org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.OpticalControlMode.class, new KeepPropertyNameSerializer());
+        serializer.addSerializer("org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacksBuilder$CircuitPacksImpl","_subSlot",new KeepPropertyNameSerializer());
+        serializer.addSerializer("org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnectionsBuilder$RoadmConnectionsImpl","_opticalControlMode",new KeepPropertyNameSerializer());
+//        serializer.addSerializer(org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev171215.States.class, new KeepPropertyNameSerializer());
     }
 
 
     public <T extends DataObject> String writeValueAsString(T value) {
-    	return this.serializer.writeValueAsString(value, "input");
+    	return this.writeValueAsString(value, "input");
     }
 
     public <T extends DataObject> String writeValueAsString(T value, String rootName) {
-    	return this.serializer.writeValueAsString(value, rootName);
+        return this.serializer.writeValueAsString(value, rootName);
     }
 
     public <T extends DataObject> String writeValueAsString(T data, Class<?> clazz) {
-        KebabCaseStrategy converter = new KebabCaseStrategy();
+       return this.writeValueAsString(data, getRootName(clazz));
+    }
+
+    /**
+     * Serialize rpc input as utf-8 encoded xml without intermediate string.
+     */
+    public <T extends DataObject> byte[] writeValueAsBytes(T value) {
+        return this.writeValueAsBytes(value, "input");
+    }
+
+    public <T extends DataObject> byte[] writeValueAsBytes(T value, String rootName) {
+        return this.serializer.writeValueAsBytes(value, rootName);
+    }
+
+    public <T extends DataObject> byte[] writeValueAsBytes(T data, Class<?> clazz) {
+        return this.writeValueAsBytes(data, getRootName(clazz));
+    }
+
+    /**
+     * Serialize data as utf-8 encoded application/yang-data+json.
+     */
+    public <T extends DataObject> byte[] writeValueAsJsonBytes(T value, String rootName) {
+        return this.jsonSerializer.writeValueAsBytes(value, rootName);
+    }
+
+    public <T extends DataObject> byte[] writeValueAsJsonBytes(T data, Class<?> clazz) {
+        return this.writeValueAsJsonBytes(data, getRootName(clazz));
+    }
+
+    /**
+     * Serialize edits as utf-8 encoded application/yang-patch+xml.
+     */
+    public byte[] writeYangPatchAsBytes(String patchId, List<YangPatchEdit> edits) {
+        final SerializerOutput out = new SerializerOutput();
+        out.append("<yang-patch xmlns=\"").append(YANG_PATCH_NAMESPACE).append("\"><patch-id>").appendEscaped(patchId)
+                .append("</patch-id>");
+        for (YangPatchEdit edit : edits) {
+            out.append("<edit><edit-id>").appendEscaped(edit.getEditId()).append("</edit-id><operation>")
+                    .append(edit.getOperation().getName()).append("</operation><target>")
+                    .appendEscaped(edit.getTarget()).append("</target>");
+            final DataObject value = edit.getValue();
+            if (value != null) {
+                out.append("<value>");
+                this.serializer.writeValue(out, value, getRootName(value.getClass()));
+                out.append("</value>");
+            }
+            out.append("</edit>");
+        }
+        return out.append("</yang-patch>").toByteArray();
+    }
+
+    private static String getRootName(Class<?> clazz) {
         String clsName = clazz.getSimpleName();
         if(clsName.endsWith("Impl")) {
             clsName = clsName.substring(0, clsName.length()-4);
         }
-       return this.writeValueAsString(data, converter.translate(clsName));
+        return ROOT_NAMES.computeIfAbsent(clsName, CONVERTER::translate);
     }
 
-
 }
@@ -7,26 +7,30 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
 
-import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerElem;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerOutput;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.CircuitPacks;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnections;
 import org.opendaylight.yangtools.yang.binding.BaseIdentity;
 import org.opendaylight.yangtools.yang.common.QName;
 
-public class OdlXmlSerializer extends OdlDataSerializer {
+/**
+ * Writes data objects as xml directly into the output buffer. The namespace prefixes are counted
+ * per document.
+ */
+public class OdlXmlSerializer extends OdlDataSerializer<SerializerElem> {
 
     private static final String[] xmlNamespacePrefixes=("a,b,c,d,e,f,g,h,i,j,k,l,m,n,o,p,q,r,s,t,u,v,w,x,y,z,aa,ab,ac"
             + ",ad,ae,af,ag,ah,ai,aj,ak,al,am,an,ao,ap,aq,ar,as,at,au,av,aw,ax,ay,az").split(",");
-    private int prefixIndex=0;
-    private boolean hasNamespace;
+    private final Map<Class<?>, String> namespaces = new ConcurrentHashMap<>();
 
 	public OdlXmlSerializer() {
 	    this(null);
 	}
     public OdlXmlSerializer(ClassFinder clsFinder) {
         super(clsFinder);
-        this.hasNamespace = false;
     }
 
     private String getNamespaceOrDefault(Class<? extends Object> cls, Class<?> rootClass, String def) {
@@ -47,24 +51,27 @@ public class OdlXmlSerializer extends OdlDataSerializer {
 
         return def;
     }
-    private String getPrefix() {
-    	return this.prefixIndex<xmlNamespacePrefixes.length?xmlNamespacePrefixes[this.prefixIndex++]:"";
+    private static String getPrefix(SerializerElem parent) {
+        final int prefixIndex = parent.nextPrefixIndex();
+        return prefixIndex < xmlNamespacePrefixes.length ? xmlNamespacePrefixes[prefixIndex] : "";
     }
+
     @Override
-    void clear() {
-    	this.prefixIndex = 0;
+    SerializerElem startDocument(SerializerOutput out) {
+        return SerializerElem.createDocument(out);
     }
 
     @Override
-    SerializerElem preValueWrite(String key, Object o, boolean withNsPrefix, Class<?> rootClass) {
+    SerializerElem preValueWrite(SerializerElem parent, String key, Object o, boolean withNsPrefix,
+            Class<?> rootClass) {
         final String ns = this.getXmlNameSpace(o, rootClass);
-        this.hasNamespace = ns.length() > 0;
-        return new SerializerElem(key,ns,(withNsPrefix && hasNamespace)?this.getPrefix():null);
+        final boolean hasNamespace = ns.length() > 0;
+        return parent.createChild(key, ns, (withNsPrefix && hasNamespace) ? getPrefix(parent) : null);
     }
 
     @Override
     void postValueWrite(SerializerElem e, String key) {
-
+        e.close();
     }
 
     @Override
@@ -72,40 +79,36 @@ public class OdlXmlSerializer extends OdlDataSerializer {
         e.setValue(o);
     }
 
+    @Override
+    void endDocument(SerializerElem document) {
+
+    }
+
     private String getXmlNameSpace(Object o, Class<?> rootClass) {
         if (o != null) {
-            Field f;
-            Object couldQName = null;
-            try {
-
-                f = o.getClass().getField("QNAME");
-                couldQName = f.get(o);
-            } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-                //no need to handle this
+            final Class<?> cls = o.getClass() == Class.class && BaseIdentity.class.isAssignableFrom((Class<?>) o)
+                    ? (Class<?>) o
+                    : o.getClass();
+            final String ns = this.namespaces.computeIfAbsent(cls, OdlXmlSerializer::getQNameNamespace);
+            if (ns.length() > 0) {
+                return ns;
             }
+            return this.getNamespaceOrDefault(o.getClass(), rootClass, "");
+        }
+        return "";
+    }
+
+    /**
+     * @return namespace of the QNAME of a data object or identity class or an empty string
+     */
+    private static String getQNameNamespace(Class<?> cls) {
+        try {
+            Object couldQName = cls.getField("QNAME").get(null);
             if (couldQName instanceof QName) {
-                QName qname = (QName) couldQName;
-                return qname.getNamespace().toString();
-            }
-            else if (o.getClass() == Class.class && BaseIdentity.class.isAssignableFrom((Class<?>) o)) {
-                try {
-                    Class<?> value = (Class<?>) o;
-                    QName qname = null;
-                    Field[] fields = value.getDeclaredFields();
-                    for (Field f2 : fields) {
-                        if (f2.getName() == "QNAME") {
-                            qname = (QName) f2.get(value);
-                            break;
-                        }
-                    }
-                    if (qname != null) {
-                        return qname.getNamespace().toString();
-                    }
-                } catch (IllegalArgumentException | IllegalAccessException e) {
-                    // no need to catch
-                }
+                return ((QName) couldQName).getNamespace().toString();
             }
-            return this.getNamespaceOrDefault(o.getClass(), rootClass, "");
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            //no need to handle this
         }
         return "";
     }
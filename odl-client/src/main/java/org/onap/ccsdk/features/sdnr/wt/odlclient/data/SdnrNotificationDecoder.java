@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectCreationNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectDeletionNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decoder for sdnr websocket notifications. The type is selected by the root element and all
+ * child elements are bound in the same pass, so no reader has to be looked up per message.
+ * Thread-safe.
+ */
+public class SdnrNotificationDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SdnrNotificationDecoder.class);
+    private static final XMLInputFactory INPUT_FACTORY = XmlInputFactories.createInputFactory();
+
+    private final Map<String, Supplier<? extends BaseNotification>> candidates;
+
+    public SdnrNotificationDecoder() {
+        this.candidates = new HashMap<>();
+        this.candidates.put("AttributeValueChangedNotification", AttributeValueChangedNotification::new);
+        this.candidates.put("ObjectCreationNotification", ObjectCreationNotification::new);
+        this.candidates.put("ObjectDeletionNotification", ObjectDeletionNotification::new);
+        this.candidates.put("ProblemNotification", ProblemNotification::new);
+    }
+
+    /**
+     * Decode a notification message.
+     *
+     * @param xml message
+     * @return notification or null if the root element is not a known notification
+     * @throws XMLStreamException if the message is not well-formed
+     */
+    public SdnrNotification decode(String xml) throws XMLStreamException {
+        final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            reader.nextTag();
+            final Supplier<? extends BaseNotification> factory = this.candidates.get(reader.getLocalName());
+            if (factory == null) {
+                LOG.debug("unknown notification type {}", reader.getLocalName());
+                return null;
+            }
+            final BaseNotification notification = factory.get();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                final String name = reader.getLocalName();
+                if (!notification.bindProperty(name, readText(reader))) {
+                    LOG.debug("ignoring element {} of {}", name, notification.getType());
+                }
+            }
+            return notification;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Read the text content of the current element. Nested elements are skipped.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = null;
+        StringBuilder sb = null;
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (depth == 1) {
+                        if (text == null) {
+                            text = reader.getText();
+                        } else {
+                            if (sb == null) {
+                                sb = new StringBuilder(text);
+                            }
+                            sb.append(reader.getText());
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (sb != null) {
+            return sb.toString();
+        }
+        return text == null ? "" : text;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import javax.xml.stream.XMLInputFactory;
+
+/**
+ * StAX factories for response bodies and notifications received from the remote controller.
+ */
+public final class XmlInputFactories {
+
+    private XmlInputFactories() {
+    }
+
+    /**
+     * @return new factory with DTD and external entity processing disabled
+     */
+    public static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+}
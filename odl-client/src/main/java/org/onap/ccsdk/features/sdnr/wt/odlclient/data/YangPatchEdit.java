@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * One edit of an ietf-yang-patch request (RFC 8072).
+ */
+public class YangPatchEdit {
+
+    public enum Operation {
+        MERGE("merge"),
+        REPLACE("replace"),
+        REMOVE("remove");
+
+        private final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+    }
+
+    private final String editId;
+    private final Operation operation;
+    private final String target;
+    private final DataObject value;
+
+    /**
+     * @param editId unique id of the edit inside the patch
+     * @param operation edit operation
+     * @param target encoded path relative to the patch resource, e.g. /org-openroadm-device:org-openroadm-device
+     * @param value data for merge and replace, null for remove
+     */
+    public YangPatchEdit(String editId, Operation operation, String target, @Nullable DataObject value) {
+        this.editId = editId;
+        this.operation = operation;
+        this.target = target;
+        this.value = value;
+    }
+
+    public String getEditId() {
+        return this.editId;
+    }
+
+    public Operation getOperation() {
+        return this.operation;
+    }
+
+    public String getTarget() {
+        return this.target;
+    }
+
+    public @Nullable DataObject getValue() {
+        return this.value;
+    }
+}
@@ -33,11 +33,11 @@ public class YangToolsBuilderAnnotationIntrospector extends JacksonAnnotationInt
 
     private static final Logger LOG = LoggerFactory.getLogger(YangToolsBuilderAnnotationIntrospector.class);
     private static final long serialVersionUID = 1L;
-    private final BundleContext context;
+    private final BundleClassResolver resolver;
     private final Map<Class<?>,String> customDeserializer;
 
     public YangToolsBuilderAnnotationIntrospector(BundleContext context) {
-        this.context = context;
+        this.resolver = BundleClassResolver.getInstance(context);
         this.customDeserializer = new HashMap<>();
         //this.customDeserializer.put(Credentials.class, LoginPasswordBuilder.class.getName());
         this.customDeserializer.put(DateAndTime.class,DateAndTimeBuilder.class.getName());
@@ -105,7 +105,7 @@ public class YangToolsBuilderAnnotationIntrospector extends JacksonAnnotationInt
     }
 
     public Class<?> findClass(String name) throws ClassNotFoundException {
-        return findClass(name, context);
+        return this.resolver.findClass(name);
     }
 
     public Class<?> findClass(String name, Class<?> clazz) throws ClassNotFoundException {
@@ -115,22 +115,9 @@ public class YangToolsBuilderAnnotationIntrospector extends JacksonAnnotationInt
     }
 
     public Class<?> findClass(String name, BundleContext context) throws ClassNotFoundException {
-        // Try to find in other bundles
-        if (context != null) {
-            //OSGi environment
-            for (Bundle b : context.getBundles()) {
-                try {
-                    return b.loadClass(name);
-                } catch (ClassNotFoundException e) {
-                    // No problem, this bundle doesn't have the class
-                }
-            }
-            throw new ClassNotFoundException("Can not find Class in OSGi context.");
-        } else {
-            return Class.forName(name);
-        }
-        // not found in any bundle
+        return BundleClassResolver.getInstance(context).findClass(name);
     }
+
     @Override
     public AnnotatedMethod resolveSetterConflict(MapperConfig<?> config, AnnotatedMethod setter1,
             AnnotatedMethod setter2) {
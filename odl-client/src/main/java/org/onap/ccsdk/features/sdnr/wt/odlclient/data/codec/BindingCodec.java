@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Decodes restconf xml response bodies into binding objects. Implementations have to be
+ * thread-safe, one instance is shared by all requests.
+ */
+public interface BindingCodec {
+
+    /**
+     * @return name of the engine for logging
+     */
+    String getName();
+
+    /**
+     * Decode the data of the node addressed by path.
+     *
+     * @param path instance identifier which was requested
+     * @param src xml response body
+     * @return decoded data or null if the body has no data
+     */
+    <T extends DataObject> T readData(InstanceIdentifier<T> path, InputStream src) throws IOException;
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec;
+
+/**
+ * Selectable engines for decoding restconf xml data.
+ */
+public enum CodecEngine {
+    /**
+     * reflection based jackson mapping (default)
+     */
+    JACKSON,
+    /**
+     * yang-data-codec-xml and mdsal binding codec
+     */
+    DOM
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.XmlInputFactories;
+import org.opendaylight.mdsal.binding.dom.codec.impl.BindingNormalizedNodeCodecRegistry;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.binding.generator.util.BindingRuntimeContext;
+import org.opendaylight.mdsal.binding.spec.reflect.BindingReflections;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Schema driven engine. The xml is parsed against the yang schema into a NormalizedNode which is
+ * converted by the mdsal binding codec into the binding object. The schema is built once from the
+ * module infos of the given model classes and their imports. Types outside of this schema are
+ * decoded by the fallback engine.
+ */
+public class DomBindingCodec implements BindingCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DomBindingCodec.class);
+    public static final String NAME = "dom";
+    private static final XMLInputFactory XML_FACTORY = XmlInputFactories.createInputFactory();
+
+    private final BindingCodec fallback;
+    private final EffectiveModelContext schemaContext;
+    private final DataSchemaContextTree schemaTree;
+    private final BindingNormalizedNodeCodecRegistry codecRegistry;
+
+    /**
+     * @param modelClasses binding classes whose modules (and imports) form the schema
+     * @param fallback engine for types which are not part of the schema
+     */
+    public DomBindingCodec(Collection<Class<?>> modelClasses, BindingCodec fallback) {
+        this.fallback = fallback;
+        final long start = System.currentTimeMillis();
+        final Set<YangModuleInfo> moduleInfos = new LinkedHashSet<>();
+        for (Class<?> cls : modelClasses) {
+            try {
+                moduleInfos.add(BindingReflections.getModuleInfo(cls));
+            } catch (Exception e) {
+                LOG.warn("unable to load module info for {}: {}", cls, e.getMessage());
+            }
+        }
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(moduleInfos);
+        final Optional<? extends EffectiveModelContext> ctx = moduleContext.tryToCreateModelContext();
+        if (!ctx.isPresent()) {
+            throw new IllegalStateException("unable to create schema context for " + moduleInfos.size() + " modules");
+        }
+        this.schemaContext = ctx.get();
+        this.schemaTree = DataSchemaContextTree.from(this.schemaContext);
+        this.codecRegistry = new BindingNormalizedNodeCodecRegistry(
+                BindingRuntimeContext.create(moduleContext, this.schemaContext));
+        LOG.info("created schema context with {} modules in {}ms", this.schemaContext.getModules().size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public <T extends DataObject> T readData(InstanceIdentifier<T> path, InputStream src) throws IOException {
+        final YangInstanceIdentifier yangPath;
+        final DataSchemaContextNode<?> schemaNode;
+        try {
+            yangPath = this.codecRegistry.toYangInstanceIdentifier(path);
+            schemaNode = this.schemaTree.getChild(yangPath);
+        } catch (IllegalArgumentException e) {
+            LOG.debug("{} is not part of the schema: {}", path, e.getMessage());
+            return this.fallback.readData(path, src);
+        }
+        if (schemaNode == null || schemaNode.getDataSchemaNode() == null) {
+            LOG.debug("no schema node found for {}", path);
+            return this.fallback.readData(path, src);
+        }
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_FACTORY.createXMLStreamReader(src);
+            try (XmlParserStream parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                    this.schemaContext, schemaNode.getDataSchemaNode(), false)) {
+                parser.parse(reader);
+            }
+        } catch (XMLStreamException | URISyntaxException | SAXException e) {
+            throw new IOException("unable to parse data for " + path, e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.debug("problem closing reader: ", e);
+                }
+            }
+        }
+        NormalizedNode<?, ?> node = result.getResult();
+        if (node instanceof MapNode) {
+            // keyed list entry is parsed into its list
+            node = ((MapNode) node).getValue().stream().findFirst().orElse(null);
+        }
+        if (node == null) {
+            return null;
+        }
+        final Entry<InstanceIdentifier<?>, DataObject> entry = this.codecRegistry.fromNormalizedNode(yangPath, node);
+        return entry == null ? null : path.getTargetType().cast(entry.getValue());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Reflection based engine. Maps the xml with jackson onto the builders of the target type.
+ */
+public class JacksonBindingCodec implements BindingCodec {
+
+    public static final String NAME = "jackson";
+
+    private final OdlObjectMapperXml mapper;
+
+    public JacksonBindingCodec(OdlObjectMapperXml mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public <T extends DataObject> T readData(InstanceIdentifier<T> path, InputStream src) throws IOException {
+        return this.mapper.readValue(src, path.getTargetType());
+    }
+}
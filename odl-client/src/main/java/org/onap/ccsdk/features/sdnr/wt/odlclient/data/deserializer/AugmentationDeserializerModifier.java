@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.BuilderBasedDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hooks the {@link AugmentationProblemHandler} into the deserializers of augmentable types. The
+ * deserializer collects the augmentations of each data object, its properties hand values which
+ * are also known to an augmentation to the handler.
+ */
+public class AugmentationDeserializerModifier extends BeanDeserializerModifier {
+
+    private final AugmentationProblemHandler handler;
+
+    public AugmentationDeserializerModifier(AugmentationProblemHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+            BeanDeserializerBuilder builder) {
+        final Class<?> builderClass = beanDesc.getBeanClass();
+        if (!this.handler.isAugmentableBuilder(builderClass)) {
+            return builder;
+        }
+        final Class<?> dataType = this.handler.getDataType(builderClass);
+        final List<SettableBeanProperty> properties = new ArrayList<>();
+        for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext();) {
+            properties.add(it.next());
+        }
+        for (SettableBeanProperty property : properties) {
+            builder.addOrReplaceProperty(new AugmentedProperty(property, dataType), true);
+        }
+        return builder;
+    }
+
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+            JsonDeserializer<?> deserializer) {
+        final Class<?> builderClass = beanDesc.getBeanClass();
+        if (deserializer instanceof BuilderBasedDeserializer && this.handler.isAugmentableBuilder(builderClass)) {
+            return new AugmentableDeserializer(deserializer, this.handler.getDataType(builderClass));
+        }
+        return deserializer;
+    }
+
+    /**
+     * Collects the augmentations while the data object is read.
+     */
+    private class AugmentableDeserializer extends DelegatingDeserializer {
+
+        private static final long serialVersionUID = 1L;
+        private final Class<?> dataType;
+
+        AugmentableDeserializer(JsonDeserializer<?> delegatee, Class<?> dataType) {
+            super(delegatee);
+            this.dataType = dataType;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new AugmentableDeserializer(newDelegatee, this.dataType);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!AugmentationDeserializerModifier.this.handler.begin(ctxt, this.dataType)) {
+                return this._delegatee.deserialize(p, ctxt);
+            }
+            final Object value;
+            try {
+                value = this._delegatee.deserialize(p, ctxt);
+            } catch (IOException | RuntimeException e) {
+                AugmentationDeserializerModifier.this.handler.end(ctxt, null);
+                throw e;
+            }
+            return AugmentationDeserializerModifier.this.handler.end(ctxt, value);
+        }
+    }
+
+    /**
+     * Property of an augmentable builder which is also read into augmentations with the same property.
+     */
+    private class AugmentedProperty extends SettableBeanProperty.Delegating {
+
+        private static final long serialVersionUID = 1L;
+        private final Class<?> dataType;
+
+        AugmentedProperty(SettableBeanProperty delegate, Class<?> dataType) {
+            super(delegate);
+            this.dataType = dataType;
+        }
+
+        @Override
+        protected SettableBeanProperty withDelegate(SettableBeanProperty d) {
+            return new AugmentedProperty(d, this.dataType);
+        }
+
+        @Override
+        public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance)
+                throws IOException {
+            this.deserializeSetAndReturn(p, ctxt, instance);
+        }
+
+        @Override
+        public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance)
+                throws IOException {
+            return AugmentationDeserializerModifier.this.handler.readProperty(p, ctxt, instance, this.dataType,
+                    this.delegate);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deserializes augmentations in the same pass as the augmented data object.
+ *
+ * <p>
+ * Properties which are unknown to the builder of an augmentable type are handed to the builders of
+ * its registered augmentations. Properties which are known to the builder and to an augmentation are
+ * buffered and read into both, see {@link AugmentationDeserializerModifier}. The augmentation
+ * builders of a data object are collected while it is read, the augmentations are built and added
+ * once the data object is complete.
+ */
+public class AugmentationProblemHandler extends DeserializationProblemHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AugmentationProblemHandler.class);
+    /**
+     * Reader attribute with a map of data type to augmentation types which overrides the registered
+     * augmentations for these types.
+     */
+    public static final String ATTR_AUGMENTATIONS = AugmentationProblemHandler.class.getName() + ".augmentations";
+    private static final String ATTR_FRAMES = AugmentationProblemHandler.class.getName() + ".frames";
+    private static final BuilderInfo NOT_AUGMENTABLE = new BuilderInfo(null, null);
+
+    private final Map<Class<?>, List<Class<?>>> augmentations;
+    private final Map<Class<?>, BuilderInfo> builderInfos;
+
+    public AugmentationProblemHandler(Map<Class<?>, List<Class<?>>> augmentations) {
+        this.augmentations = augmentations;
+        this.builderInfos = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean handleUnknownProperty(DeserializationContext ctxt, JsonParser p, JsonDeserializer<?> deserializer,
+            Object beanOrClass, String propertyName) throws IOException {
+        if (beanOrClass == null || beanOrClass instanceof Class) {
+            return false;
+        }
+        BuilderInfo info = this.getBuilderInfo(beanOrClass.getClass());
+        if (info == NOT_AUGMENTABLE) {
+            return false;
+        }
+        List<Class<?>> augmentationTypes = this.getAugmentations(ctxt, info.dataType);
+        if (augmentationTypes.isEmpty()) {
+            return false;
+        }
+        Frame frame = this.getFrame(ctxt, beanOrClass, info.dataType);
+        if (frame == null) {
+            return false;
+        }
+        for (Class<?> augmentationType : augmentationTypes) {
+            BeanDeserializerBase augDeser = getBeanDeserializer(ctxt, augmentationType);
+            SettableBeanProperty property = augDeser != null ? augDeser.findProperty(propertyName) : null;
+            if (property != null && frame.read(p, ctxt, augmentationType, augDeser, property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read a property which is known to the builder of the data object. If an augmentation has a
+     * property with the same name, the value is read into both.
+     */
+    Object readProperty(JsonParser p, DeserializationContext ctxt, Object builder, Class<?> dataType,
+            SettableBeanProperty property) throws IOException {
+        List<Class<?>> augmentationTypes = this.getAugmentations(ctxt, dataType);
+        if (augmentationTypes.isEmpty()) {
+            return property.deserializeSetAndReturn(p, ctxt, builder);
+        }
+        Map<Class<?>, SettableBeanProperty> shared = null;
+        for (Class<?> augmentationType : augmentationTypes) {
+            BeanDeserializerBase augDeser = getBeanDeserializer(ctxt, augmentationType);
+            SettableBeanProperty augProperty = augDeser != null ? augDeser.findProperty(property.getName()) : null;
+            if (augProperty != null) {
+                if (shared == null) {
+                    shared = new LinkedHashMap<>();
+                }
+                shared.put(augmentationType, augProperty);
+            }
+        }
+        Frame frame = shared != null ? this.getFrame(ctxt, builder, dataType) : null;
+        if (frame == null) {
+            return property.deserializeSetAndReturn(p, ctxt, builder);
+        }
+        TokenBuffer buffer = new TokenBuffer(p, ctxt);
+        buffer.copyCurrentStructure(p);
+        Object result = property.deserializeSetAndReturn(replay(buffer, p), ctxt, builder);
+        for (Map.Entry<Class<?>, SettableBeanProperty> entry : shared.entrySet()) {
+            frame.read(replay(buffer, p), ctxt, entry.getKey(), getBeanDeserializer(ctxt, entry.getKey()),
+                    entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Start reading a data object of an augmentable type.
+     *
+     * @return false if no augmentations are known for this type
+     */
+    boolean begin(DeserializationContext ctxt, Class<?> dataType) {
+        if (this.getAugmentations(ctxt, dataType).isEmpty()) {
+            return false;
+        }
+        getFrames(ctxt).push(new Frame(dataType));
+        return true;
+    }
+
+    /**
+     * Finish reading a data object. The collected augmentations are built and added to the builder
+     * of the data object which is built again.
+     *
+     * @param value data object built by the bean deserializer or null if reading failed
+     * @return value with augmentations
+     */
+    Object end(DeserializationContext ctxt, Object value) throws IOException {
+        Frame frame = getFrames(ctxt).pop();
+        if (value == null || frame.builder == null || frame.augmentationBuilders.isEmpty()) {
+            return value;
+        }
+        BuilderInfo info = this.getBuilderInfo(frame.builder.getClass());
+        for (Map.Entry<Class<?>, Object> entry : frame.augmentationBuilders.entrySet()) {
+            info.addAugmentation(frame.builder, entry.getKey(), ((Builder<?>) entry.getValue()).build());
+        }
+        return ((Builder<?>) frame.builder).build();
+    }
+
+    boolean isAugmentableBuilder(Class<?> builderClass) {
+        return this.getBuilderInfo(builderClass) != NOT_AUGMENTABLE;
+    }
+
+    Class<?> getDataType(Class<?> builderClass) {
+        return this.getBuilderInfo(builderClass).dataType;
+    }
+
+    private BuilderInfo getBuilderInfo(Class<?> builderClass) {
+        return this.builderInfos.computeIfAbsent(builderClass, BuilderInfo::of);
+    }
+
+    private List<Class<?>> getAugmentations(DeserializationContext ctxt, Class<?> dataType) {
+        Object explicit = ctxt.getAttribute(ATTR_AUGMENTATIONS);
+        if (explicit instanceof Map && ((Map<?, ?>) explicit).containsKey(dataType)) {
+            @SuppressWarnings("unchecked")
+            List<Class<?>> list = ((Map<Class<?>, List<Class<?>>>) explicit).get(dataType);
+            return list;
+        }
+        return this.augmentations.getOrDefault(dataType, Collections.emptyList());
+    }
+
+    /**
+     * @return frame of the data object which is currently read by this builder or null
+     */
+    private Frame getFrame(DeserializationContext ctxt, Object builder, Class<?> dataType) {
+        Frame frame = getFrames(ctxt).peek();
+        if (frame == null || frame.dataType != dataType) {
+            return null;
+        }
+        if (frame.builder == null) {
+            frame.builder = builder;
+        }
+        return frame.builder == builder ? frame : null;
+    }
+
+    /**
+     * @return stack of the augmentable data objects which are currently read
+     */
+    @SuppressWarnings("unchecked")
+    private static Deque<Frame> getFrames(DeserializationContext ctxt) {
+        Deque<Frame> frames = (Deque<Frame>) ctxt.getAttribute(ATTR_FRAMES);
+        if (frames == null) {
+            frames = new ArrayDeque<>();
+            ctxt.setAttribute(ATTR_FRAMES, frames);
+        }
+        return frames;
+    }
+
+    private static BeanDeserializerBase getBeanDeserializer(DeserializationContext ctxt, Class<?> type)
+            throws IOException {
+        JsonDeserializer<?> deser = ctxt.findRootValueDeserializer(ctxt.constructType(type));
+        if (deser instanceof DelegatingDeserializer) {
+            deser = ((DelegatingDeserializer) deser).getDelegatee();
+        }
+        return deser instanceof BeanDeserializerBase ? (BeanDeserializerBase) deser : null;
+    }
+
+    private static JsonParser replay(TokenBuffer buffer, JsonParser p) throws IOException {
+        JsonParser parser = buffer.asParser(p);
+        parser.nextToken();
+        return parser;
+    }
+
+    /**
+     * Augmentation builders of one data object.
+     */
+    private static class Frame {
+
+        private final Class<?> dataType;
+        private final Map<Class<?>, Object> augmentationBuilders;
+        private Object builder;
+
+        Frame(Class<?> dataType) {
+            this.dataType = dataType;
+            this.augmentationBuilders = new LinkedHashMap<>();
+            this.builder = null;
+        }
+
+        boolean read(JsonParser p, DeserializationContext ctxt, Class<?> augmentationType,
+                BeanDeserializerBase augDeser, SettableBeanProperty property) throws IOException {
+            Object augBuilder = this.augmentationBuilders.get(augmentationType);
+            if (augBuilder == null) {
+                ValueInstantiator instantiator = augDeser.getValueInstantiator();
+                if (!instantiator.canCreateUsingDefault()) {
+                    LOG.debug("unable to create builder for augmentation {}", augmentationType);
+                    return false;
+                }
+                augBuilder = instantiator.createUsingDefault(ctxt);
+            }
+            this.augmentationBuilders.put(augmentationType, property.deserializeSetAndReturn(p, ctxt, augBuilder));
+            return true;
+        }
+    }
+
+    /**
+     * Data type and addAugmentation method of a builder class.
+     */
+    private static class BuilderInfo {
+
+        private final Class<?> dataType;
+        private final Method addAugmentationMethod;
+
+        BuilderInfo(Class<?> dataType, Method addAugmentationMethod) {
+            this.dataType = dataType;
+            this.addAugmentationMethod = addAugmentationMethod;
+        }
+
+        static BuilderInfo of(Class<?> builderClass) {
+            if (!Builder.class.isAssignableFrom(builderClass)) {
+                return NOT_AUGMENTABLE;
+            }
+            try {
+                Class<?> dataType = builderClass.getMethod("build").getReturnType();
+                if (!Augmentable.class.isAssignableFrom(dataType)) {
+                    return NOT_AUGMENTABLE;
+                }
+                for (Method m : builderClass.getMethods()) {
+                    if ("addAugmentation".equals(m.getName()) && m.getParameterCount() == 2) {
+                        return new BuilderInfo(dataType, m);
+                    }
+                }
+                LOG.warn("unable to add augmentations to type {}. No fn with this name found", builderClass);
+            } catch (NoSuchMethodException | SecurityException e) {
+                LOG.debug("no build method found for {}: ", builderClass, e);
+            }
+            return NOT_AUGMENTABLE;
+        }
+
+        void addAugmentation(Object builder, Class<?> augmentationType, Object augmentation) throws IOException {
+            try {
+                this.addAugmentationMethod.invoke(builder, augmentationType, augmentation);
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                throw new IOException("unable to add augmented type " + augmentationType + " to basetype "
+                        + this.dataType, e);
+            }
+        }
+    }
+}
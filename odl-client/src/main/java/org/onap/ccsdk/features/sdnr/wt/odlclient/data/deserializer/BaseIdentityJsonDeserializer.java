@@ -32,7 +32,7 @@ public class BaseIdentityJsonDeserializer<T> extends JsonDeserializer<T> {
     @Override
     public T deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException, JsonProcessingException {
         LOG.debug("BaseIdentityDeserializer class for '{}'",parser.getValueAsString());
-        String clazzToSearch = parser.getValueAsString();
+        String clazzToSearch = QualifiedNameJsonParser.stripModule(parser.getValueAsString());
         // clazz from Elasticsearch is full qualified
         int lastDot = clazzToSearch.lastIndexOf(".");
         if (lastDot > -1) {
@@ -62,6 +62,8 @@ public class ClassJsonDeserializer extends FromStringDeserializer<Class<?>> {
 
     @Override
     protected Class<?> _deserialize(String value, DeserializationContext ctxt) throws IOException {
+        // identityref in json is qualified with its module name (rfc7951)
+        value = QualifiedNameJsonParser.stripModule(value);
         try {
             if(exceptions.containsKey(value)) {
                 return exceptions.get(value);
@@ -7,18 +7,11 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer;
 
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
-import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
-import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.NoSuchElementException;
-import java.util.Optional;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.ClassFinder;
 import org.opendaylight.yangtools.yang.binding.BaseIdentity;
 import org.opendaylight.yangtools.yang.binding.TypeObject;
@@ -38,28 +31,8 @@ public class CustomOdlDeserializer extends BeanDeserializerModifier {
     @Override
     public JsonDeserializer<Enum<?>> modifyEnumDeserializer(DeserializationConfig config, final JavaType type,
             BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
-        return new JsonDeserializer<Enum<?>>() {
-
-            @SuppressWarnings("unchecked")
-            @Override
-            public Enum<?> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-                Class<?> clazz = type.getRawClass();
-
-                try {
-                    LOG.debug("try to deserialize '{}' with class {}",jp.getValueAsString(),clazz.getName());
-                    Method method = clazz.getDeclaredMethod("forName", String.class);
-                    Enum<?> res = ((Optional<Enum<?>>) method.invoke(null, jp.getValueAsString())).get();
-                    return res;
-                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                        | NoSuchMethodException | NoSuchElementException | SecurityException e) {
-                    LOG.warn("problem deserializing enum for {} with value {}: {}", clazz.getName(),
-                            jp.getValueAsString(), e);
-                }
-                throw new IOException(
-                        "unable to parse enum (" + type.getRawClass() + ")for value " + jp.getValueAsString());
-            }
-        };
-
+        // lookup table is created once per enum type, jackson caches the deserializer
+        return new EnumJsonDeserializer(type.getRawClass());
     }
 
     @Override
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.binding.Enumeration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deserializer for generated yang enums. The yang names of all constants are collected once into
+ * a lookup table, so decoding a value is a map lookup. Enums which are no yang enumerations are
+ * decoded by their static forName(String) method.
+ */
+public class EnumJsonDeserializer extends JsonDeserializer<Enum<?>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnumJsonDeserializer.class);
+    private static final MethodType FORNAME_TYPE = MethodType.methodType(Optional.class, String.class);
+
+    private final Class<?> clazz;
+    private final Map<String, Enum<?>> constants;
+    private final MethodHandle forName;
+
+    public EnumJsonDeserializer(Class<?> clazz) {
+        this.clazz = clazz;
+        this.constants = createTable(clazz);
+        this.forName = this.constants.isEmpty() ? findForName(clazz) : null;
+    }
+
+    @Override
+    public Enum<?> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        final String value = jp.getValueAsString();
+        LOG.debug("try to deserialize '{}' with class {}", value, this.clazz.getName());
+        final Enum<?> res = this.forName(value);
+        if (res == null) {
+            throw new IOException("unable to parse enum (" + this.clazz + ")for value " + value);
+        }
+        return res;
+    }
+
+    /**
+     * @return constant for the yang name or null
+     */
+    public Enum<?> forName(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (this.forName == null) {
+            return this.constants.get(value);
+        }
+        try {
+            return (Enum<?>) ((Optional<?>) this.forName.invokeExact(value)).orElse(null);
+        } catch (RuntimeException e) {
+            LOG.warn("problem deserializing enum for {} with value {}: {}", this.clazz.getName(), value, e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            LOG.warn("problem deserializing enum for {} with value {}: {}", this.clazz.getName(), value, e);
+        }
+        return null;
+    }
+
+    private static Map<String, Enum<?>> createTable(Class<?> clazz) {
+        final Object[] values = clazz.getEnumConstants();
+        if (values == null || !Enumeration.class.isAssignableFrom(clazz)) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Enum<?>> table = new HashMap<>(values.length * 2);
+        for (Object value : values) {
+            table.put(((Enumeration) value).getName(), (Enum<?>) value);
+        }
+        return table;
+    }
+
+    private static MethodHandle findForName(Class<?> clazz) {
+        try {
+            return MethodHandles.publicLookup().findStatic(clazz, "forName", FORNAME_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOG.warn("no forName method found for {}", clazz.getName());
+            return null;
+        }
+    }
+}
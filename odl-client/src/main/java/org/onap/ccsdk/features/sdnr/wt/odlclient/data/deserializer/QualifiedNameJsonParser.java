@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import java.io.IOException;
+
+/**
+ * Removes the module name of rfc7951 member names like org-openroadm-device:info while they are
+ * parsed, so the bean deserializers see the plain yang names. Module prefixes of identityref values
+ * are removed by the identity deserializers.
+ */
+public class QualifiedNameJsonParser extends JsonParserDelegate {
+
+    public QualifiedNameJsonParser(JsonParser parser) {
+        super(parser);
+    }
+
+    @Override
+    public String getCurrentName() throws IOException {
+        return stripModule(super.getCurrentName());
+    }
+
+    @Override
+    public String currentName() throws IOException {
+        return stripModule(super.currentName());
+    }
+
+    @Override
+    public String getText() throws IOException {
+        return this.hasToken(JsonToken.FIELD_NAME) ? stripModule(super.getText()) : super.getText();
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return this.nextToken() == JsonToken.FIELD_NAME ? this.getCurrentName() : null;
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString str) throws IOException {
+        return this.nextToken() == JsonToken.FIELD_NAME && str.getValue().equals(this.getCurrentName());
+    }
+
+    static String stripModule(String name) {
+        if (name == null) {
+            return null;
+        }
+        final int idx = name.indexOf(':');
+        return idx < 0 ? name : name.substring(idx + 1);
+    }
+}
@@ -13,22 +13,42 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Deserializer for type objects (typedefs and unions). The way to create an instance from a
+ * string is resolved once per type into a method handle factory:
+ *
+ * <ul>
+ * <li>static getDefaultInstance(String) of the type</li>
+ * <li>static getDefaultInstance(String) of its builder</li>
+ * <li>constructor with String argument</li>
+ * <li>constructor with an argument type which has a getDefaultInstance(String)</li>
+ * </ul>
+ * If none exists the values are read by the default bean deserializer.
+ */
 public class TypeObjectJsonDeserializer<T> extends JsonDeserializer<T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(TypeObjectJsonDeserializer.class);
     private static final String TYPEOBJECT_INSTANCE_METHOD = "getDefaultInstance";
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, String.class);
+
     private final JavaType type;
     private final JsonDeserializer<?> deser;
+    // resolved on first use, the builder class is looked up with the class loader of the context
+    private volatile Optional<MethodHandle> factory;
 
     public TypeObjectJsonDeserializer(JavaType type, JsonDeserializer<?> deser) {
         this.type = type;
@@ -40,64 +60,88 @@ public class TypeObjectJsonDeserializer<T> extends JsonDeserializer<T> {
     public T deserialize(JsonParser parser, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
 
-        Class<?> clazz = type.getRawClass();
-        final String arg = parser.getValueAsString();
-        try {
+        final Class<?> clazz = this.type.getRawClass();
+        final Optional<MethodHandle> factory = this.getFactory(clazz, ctxt);
+        if (factory.isPresent()) {
+            final String arg = parser.getValueAsString();
+            try {
+                return (T) factory.get().invokeExact(arg);
+            } catch (RuntimeException e) {
+                LOG.warn("problem deserializing {} with value {}: {}", clazz.getName(), arg, e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                LOG.warn("problem deserializing {} with value {}: {}", clazz.getName(), arg, e);
+            }
+        }
+        return (T) this.deser.deserialize(parser, ctxt);
+    }
 
-            if (hasClassDeclaredMethod(clazz, TYPEOBJECT_INSTANCE_METHOD)) {
-                Method method = clazz.getDeclaredMethod(TYPEOBJECT_INSTANCE_METHOD, String.class);
-                T res = (T) method.invoke(null, arg);
-                return res;
-            } else {
-                //try to find builder with getDefaultInstance method
-                try {
-                    Class<?> builderClazz = findBuilderClass(ctxt,clazz);
-                    if (hasClassDeclaredMethod(builderClazz, TYPEOBJECT_INSTANCE_METHOD)) {
-                        Method method = builderClazz.getDeclaredMethod(TYPEOBJECT_INSTANCE_METHOD, String.class);
-                        T res = (T) method.invoke(null, arg);
-                        return res;
-                    }
-                } catch (ClassNotFoundException e) {
+    /**
+     * @return cached factory (String) -&gt; Object for the type
+     */
+    private Optional<MethodHandle> getFactory(Class<?> clazz, DeserializationContext ctxt) {
+        Optional<MethodHandle> f = this.factory;
+        if (f == null) {
+            f = Optional.ofNullable(createFactory(clazz, ctxt));
+            this.factory = f;
+        }
+        return f;
+    }
 
+    private static MethodHandle createFactory(Class<?> clazz, DeserializationContext ctxt) {
+        MethodHandle factory = findDefaultInstance(clazz);
+        if (factory != null) {
+            return factory.asType(FACTORY_TYPE);
+        }
+        //try to find builder with getDefaultInstance method
+        final Class<?> builderClazz = findBuilderClass(ctxt, clazz);
+        if (builderClazz != null) {
+            factory = findDefaultInstance(builderClazz);
+            if (factory != null) {
+                return factory.asType(FACTORY_TYPE);
+            }
+        }
+        // find constructor argument types
+        for (Class<?> ctype : getConstructorParameterTypes(clazz, String.class)) {
+            try {
+                final MethodHandle constructor = LOOKUP.findConstructor(clazz,
+                        MethodType.methodType(void.class, ctype));
+                if (ctype.equals(String.class)) {
+                    return constructor.asType(FACTORY_TYPE);
                 }
-
-
-                // find constructor argument types
-                List<Class<?>> ctypes = getConstructorParameterTypes(clazz, String.class);
-                for (Class<?> ctype : ctypes) {
-                    if (ctype.equals(String.class)) {
-                        return (T) clazz.getConstructor(ctype).newInstance(arg);
-                    } else if (hasClassDeclaredMethod(ctype, TYPEOBJECT_INSTANCE_METHOD)) {
-                        Method method = ctype.getDeclaredMethod(TYPEOBJECT_INSTANCE_METHOD, String.class);
-                        return (T) clazz.getConstructor(ctype)
-                                .newInstance(method.invoke(null, arg));
-                    } else {
-                        // TODO: recursive instantiation down to string constructor or
-                        // getDefaultInstance method
-                    }
+                final MethodHandle argFactory = findDefaultInstance(ctype);
+                if (argFactory != null) {
+                    return MethodHandles.filterArguments(constructor, 0, argFactory).asType(FACTORY_TYPE);
                 }
-
+                // TODO: recursive instantiation down to string constructor or
+                // getDefaultInstance method
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                LOG.debug("no constructor {}({}) found", clazz.getName(), ctype.getName());
             }
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | NoSuchElementException | SecurityException
-                | InstantiationException e) {
-            LOG.warn("problem deserializing {} with value {}: {}", clazz.getName(), arg, e);
         }
-        return (T) deser.deserialize(parser, ctxt);
+        LOG.debug("no factory found for {}. using bean deserializer", clazz.getName());
+        return null;
     }
 
-    private Class<?> findBuilderClass(DeserializationContext ctxt,Class<?> clazz) throws ClassNotFoundException{
-        return ctxt.findClass(clazz.getName() + "Builder");
+    private static MethodHandle findDefaultInstance(Class<?> clazz) {
+        try {
+            final Method method = clazz.getMethod(TYPEOBJECT_INSTANCE_METHOD, String.class);
+            return Modifier.isStatic(method.getModifiers()) ? LOOKUP.unreflect(method) : null;
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
     }
-    private static boolean hasClassDeclaredMethod(Class<?> clazz, String name) {
-        Method[] methods = clazz.getDeclaredMethods();
-        for (Method m : methods) {
-            if (m.getName().equals(name)) {
-                return true;
-            }
+
+    private static Class<?> findBuilderClass(DeserializationContext ctxt, Class<?> clazz) {
+        final String name = clazz.getName() + "Builder";
+        try {
+            return ctxt != null ? ctxt.findClass(name) : Class.forName(name, false, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
         }
-        return false;
     }
+
     private static List<Class<?>> getConstructorParameterTypes(Class<?> clazz, Class<?> prefer) {
 
         Constructor<?>[] constructors = clazz.getConstructors();
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import org.opendaylight.yangtools.yang.binding.ChoiceIn;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Backs a binding proxy by an element of the raw response. Child containers and lists are
+ * returned as proxies of their elements and created on the first call of their getter. All other
+ * methods (leafs, keys, choices, augmentations) are answered by a shell object, which the mapper
+ * decodes from the element without the lazy children.
+ */
+class LazyDataObjectHandler implements InvocationHandler {
+
+    private static final KebabCaseStrategy CONVERTER = new KebabCaseStrategy();
+    // lazy child properties per binding type, key is the element name
+    private static final Map<Class<?>, Map<String, LazyProperty>> PROPERTIES = new ConcurrentHashMap<>();
+    private static final Object NO_VALUE = new Object();
+
+    private final Class<? extends DataObject> type;
+    private final XmlElementIndex element;
+    private final OdlObjectMapperXml mapper;
+    private final Map<String, LazyProperty> properties;
+    private final Map<String, Object> values;
+    private Object shell;
+    private Object complete;
+
+    LazyDataObjectHandler(Class<? extends DataObject> type, XmlElementIndex element, OdlObjectMapperXml mapper) {
+        this.type = type;
+        this.element = element;
+        this.mapper = mapper;
+        this.properties = PROPERTIES.computeIfAbsent(type, LazyDataObjectHandler::findLazyProperties);
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        final String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            if ("equals".equals(name)) {
+                return this.getComplete().equals(LazyDataObjects.materialize(args[0]));
+            }
+            return method.invoke(this.getComplete(), args);
+        }
+        if (args == null || args.length == 0) {
+            if ("implementedInterface".equals(name)) {
+                return this.type;
+            }
+            if (name.startsWith("get")) {
+                final LazyProperty property = this.properties.get(toElementName(name.substring(3)));
+                if (property != null && property.getter.equals(name)) {
+                    final Object value = this.values.computeIfAbsent(name, n -> this.resolve(property));
+                    if (value != NO_VALUE) {
+                        return value;
+                    }
+                }
+            } else if (name.startsWith("nonnull")) {
+                final LazyProperty property = this.properties.get(toElementName(name.substring(7)));
+                if (property != null && property.list) {
+                    final Object value = this.values.computeIfAbsent(property.getter, n -> this.resolve(property));
+                    if (value != NO_VALUE) {
+                        return value;
+                    }
+                }
+            }
+        }
+        try {
+            return method.invoke(this.getShell(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    Object getComplete() {
+        synchronized (this) {
+            if (this.complete == null) {
+                this.complete = this.decode(this.element.toDocument(child -> true));
+            }
+            return this.complete;
+        }
+    }
+
+    private Object getShell() {
+        synchronized (this) {
+            if (this.shell == null) {
+                this.shell = this.complete != null ? this.complete
+                        : this.decode(this.element.toDocument(child -> !this.properties.containsKey(child.getName())));
+            }
+            return this.shell;
+        }
+    }
+
+    private Object decode(byte[] document) {
+        try {
+            return this.mapper.readValue(new ByteArrayInputStream(document), this.type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("unable to decode " + this.type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return proxy of a child container, list of proxies or NO_VALUE if no element is present. In
+     *         this case the shell answers, it contains all elements which were not recognized.
+     */
+    private Object resolve(LazyProperty property) {
+        final List<Object> items = new ArrayList<>();
+        for (XmlElementIndex child : this.element.getChildren()) {
+            if (property.elementName.equals(child.getName())) {
+                items.add(LazyDataObjects.createProxy(property.valueType, child, this.mapper));
+                if (!property.list) {
+                    break;
+                }
+            }
+        }
+        if (items.isEmpty()) {
+            return NO_VALUE;
+        }
+        return property.list ? Collections.unmodifiableList(items) : items.get(0);
+    }
+
+    private static String toElementName(String propertyName) {
+        return CONVERTER.translate(propertyName);
+    }
+
+    /**
+     * Getters of child containers and lists. Choices are excluded, because their cases have no
+     * element of their own.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, LazyProperty> findLazyProperties(Class<?> type) {
+        final Map<String, LazyProperty> result = new HashMap<>();
+        for (Method m : type.getMethods()) {
+            if (m.getParameterCount() > 0 || !m.getName().startsWith("get") || m.getName().length() <= 3) {
+                continue;
+            }
+            final Class<?> returnType = m.getReturnType();
+            Class<?> valueType = null;
+            boolean list = false;
+            if (List.class.equals(returnType)) {
+                final Type generic = m.getGenericReturnType();
+                if (generic instanceof ParameterizedType) {
+                    final Type arg = ((ParameterizedType) generic).getActualTypeArguments()[0];
+                    if (arg instanceof Class) {
+                        valueType = (Class<?>) arg;
+                        list = true;
+                    }
+                }
+            } else {
+                valueType = returnType;
+            }
+            if (valueType != null && valueType.isInterface() && DataObject.class.isAssignableFrom(valueType)
+                    && !ChoiceIn.class.isAssignableFrom(valueType)) {
+                final String elementName = toElementName(m.getName().substring(3));
+                result.put(elementName,
+                        new LazyProperty(m.getName(), elementName, (Class<? extends DataObject>) valueType, list));
+            }
+        }
+        return result;
+    }
+
+    private static class LazyProperty {
+        private final String getter;
+        private final String elementName;
+        private final Class<? extends DataObject> valueType;
+        private final boolean list;
+
+        LazyProperty(String getter, String elementName, Class<? extends DataObject> valueType, boolean list) {
+            this.getter = getter;
+            this.elementName = elementName;
+            this.valueType = valueType;
+            this.list = list;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Creates binding objects which are decoded on demand from a raw xml response. The response is
+ * kept as byte array, child containers and lists are decoded when their getter is called first.
+ * Reading a big container and touching a few leafs only decodes the leafs of the container.
+ */
+public final class LazyDataObjects {
+
+    private LazyDataObjects() {
+    }
+
+    /**
+     * @param xml complete response body
+     * @param type binding interface of the document element
+     * @param mapper mapper to decode the leafs
+     * @return proxy or null if the document has no element
+     */
+    public static <T extends DataObject> T create(byte[] xml, Class<T> type, OdlObjectMapperXml mapper) {
+        final XmlElementIndex root = XmlElementIndex.parseRoot(xml);
+        return root == null ? null : createProxy(type, root, mapper);
+    }
+
+    /**
+     * @return true if the object is a lazy proxy
+     */
+    public static boolean isLazy(Object o) {
+        return o != null && Proxy.isProxyClass(o.getClass())
+                && Proxy.getInvocationHandler(o) instanceof LazyDataObjectHandler;
+    }
+
+    /**
+     * Decode the complete object, e.g. to pass it to code which needs a real binding object.
+     *
+     * @return decoded object for a lazy proxy, otherwise the object itself
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T materialize(T o) {
+        if (isLazy(o)) {
+            return (T) ((LazyDataObjectHandler) Proxy.getInvocationHandler(o)).getComplete();
+        }
+        return o;
+    }
+
+    static <T extends DataObject> T createProxy(Class<T> type, XmlElementIndex element, OdlObjectMapperXml mapper) {
+        final InvocationHandler handler = new LazyDataObjectHandler(type, element, mapper);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
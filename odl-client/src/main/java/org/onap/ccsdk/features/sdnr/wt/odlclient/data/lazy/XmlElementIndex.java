@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Element of an xml document kept in a byte buffer. Only offsets are stored, the children of an
+ * element are scanned on demand. The scanner knows just enough xml for restconf responses (tags,
+ * comments, cdata, processing instructions), content is neither decoded nor validated.
+ */
+final class XmlElementIndex {
+
+    private static final KebabCaseStrategy CONVERTER = new KebabCaseStrategy();
+
+    private final byte[] buf;
+    private final String qname;
+    private final String name;
+    private final int start;
+    private final int contentStart;
+    private final int contentEnd;
+    private final int end;
+    // namespace declarations in scope of this element
+    private final Map<String, String> nsDecls;
+    private List<XmlElementIndex> children;
+
+    private XmlElementIndex(byte[] buf, String qname, int start, int contentStart, int contentEnd, int end,
+            Map<String, String> nsDecls) {
+        this.buf = buf;
+        this.qname = qname;
+        final int idx = qname.indexOf(':');
+        this.name = CONVERTER.translate(idx < 0 ? qname : qname.substring(idx + 1));
+        this.start = start;
+        this.contentStart = contentStart;
+        this.contentEnd = contentEnd;
+        this.end = end;
+        this.nsDecls = nsDecls;
+    }
+
+    /**
+     * @return document element or null if buffer contains no element
+     */
+    static XmlElementIndex parseRoot(byte[] buf) {
+        final List<XmlElementIndex> roots = scan(buf, 0, buf.length, Collections.emptyMap());
+        return roots.isEmpty() ? null : roots.get(0);
+    }
+
+    /**
+     * @return local name of the element in kebab case like the names the mapper expects
+     */
+    String getName() {
+        return this.name;
+    }
+
+    synchronized List<XmlElementIndex> getChildren() {
+        if (this.children == null) {
+            this.children = scan(this.buf, this.contentStart, this.contentEnd, this.nsDecls);
+        }
+        return this.children;
+    }
+
+    /**
+     * Copy this element into a standalone document. All namespace declarations in scope are
+     * declared on the copied element.
+     *
+     * @param includeChild filter for the children to copy
+     */
+    byte[] toDocument(Predicate<XmlElementIndex> includeChild) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(this.end - this.start);
+        this.write(out, "<" + this.qname);
+        for (Map.Entry<String, String> decl : this.nsDecls.entrySet()) {
+            this.write(out, " " + decl.getKey() + "=\"" + decl.getValue() + "\"");
+        }
+        this.write(out, ">");
+        List<XmlElementIndex> elements = this.getChildren();
+        if (elements.isEmpty()) {
+            // simple content
+            out.write(this.buf, this.contentStart, this.contentEnd - this.contentStart);
+        }
+        for (XmlElementIndex child : elements) {
+            if (includeChild.test(child)) {
+                out.write(this.buf, child.start, child.end - child.start);
+            }
+        }
+        this.write(out, "</" + this.qname + ">");
+        return out.toByteArray();
+    }
+
+    private void write(ByteArrayOutputStream out, String s) {
+        final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.write(b, 0, b.length);
+    }
+
+    /**
+     * Find the elements on top level of the given range.
+     */
+    private static List<XmlElementIndex> scan(byte[] buf, int from, int to, Map<String, String> parentDecls) {
+        final List<XmlElementIndex> result = new ArrayList<>();
+        int depth = 0;
+        int elemStart = -1;
+        int elemContentStart = -1;
+        String elemName = null;
+        Map<String, String> elemDecls = null;
+        int i = from;
+        while (i < to) {
+            if (buf[i] != '<') {
+                i++;
+                continue;
+            }
+            if (startsWith(buf, i, to, "<!--")) {
+                i = indexOf(buf, i + 4, to, "-->") + 3;
+            } else if (startsWith(buf, i, to, "<![CDATA[")) {
+                i = indexOf(buf, i + 9, to, "]]>") + 3;
+            } else if (startsWith(buf, i, to, "<?")) {
+                i = indexOf(buf, i + 2, to, "?>") + 2;
+            } else if (startsWith(buf, i, to, "<!")) {
+                i = indexOf(buf, i + 2, to, ">") + 1;
+            } else if (startsWith(buf, i, to, "</")) {
+                final int tagEnd = indexOf(buf, i + 2, to, ">");
+                depth--;
+                if (depth == 0) {
+                    result.add(new XmlElementIndex(buf, elemName, elemStart, elemContentStart, i, tagEnd + 1,
+                            elemDecls));
+                }
+                i = tagEnd + 1;
+            } else {
+                final int tagEnd = findTagEnd(buf, i + 1, to);
+                final boolean empty = buf[tagEnd - 1] == '/';
+                if (depth == 0) {
+                    elemStart = i;
+                    elemName = readName(buf, i + 1, tagEnd);
+                    elemDecls = readNamespaceDeclarations(buf, i + 1, empty ? tagEnd - 1 : tagEnd, parentDecls);
+                    elemContentStart = tagEnd + 1;
+                    if (empty) {
+                        result.add(new XmlElementIndex(buf, elemName, elemStart, tagEnd + 1, tagEnd + 1, tagEnd + 1,
+                                elemDecls));
+                    }
+                }
+                if (!empty) {
+                    depth++;
+                }
+                i = tagEnd + 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean startsWith(byte[] buf, int pos, int to, String s) {
+        if (pos + s.length() > to) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (buf[pos + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] buf, int from, int to, String s) {
+        for (int i = from; i <= to - s.length(); i++) {
+            if (startsWith(buf, i, to, s)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unterminated markup at offset " + from);
+    }
+
+    /**
+     * @return offset of the closing '&gt;' of a start tag, quoted attribute values are skipped
+     */
+    private static int findTagEnd(byte[] buf, int from, int to) {
+        byte quote = 0;
+        for (int i = from; i < to; i++) {
+            final byte b = buf[i];
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unterminated start tag at offset " + from);
+    }
+
+    private static String readName(byte[] buf, int from, int to) {
+        int i = from;
+        while (i < to && !isWhitespace(buf[i]) && buf[i] != '/' && buf[i] != '>') {
+            i++;
+        }
+        return new String(buf, from, i - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return declarations of the parent, overwritten by the xmlns attributes of this start tag
+     */
+    private static Map<String, String> readNamespaceDeclarations(byte[] buf, int from, int to,
+            Map<String, String> parentDecls) {
+        Map<String, String> decls = parentDecls;
+        int i = from;
+        // skip element name
+        while (i < to && !isWhitespace(buf[i])) {
+            i++;
+        }
+        while (i < to) {
+            while (i < to && isWhitespace(buf[i])) {
+                i++;
+            }
+            final int nameStart = i;
+            while (i < to && buf[i] != '=' && !isWhitespace(buf[i])) {
+                i++;
+            }
+            final String attrName = new String(buf, nameStart, i - nameStart, StandardCharsets.UTF_8);
+            while (i < to && buf[i] != '"' && buf[i] != '\'') {
+                i++;
+            }
+            if (i >= to) {
+                break;
+            }
+            final byte quote = buf[i++];
+            final int valueStart = i;
+            while (i < to && buf[i] != quote) {
+                i++;
+            }
+            if (attrName.equals("xmlns") || attrName.startsWith("xmlns:")) {
+                if (decls == parentDecls) {
+                    decls = new LinkedHashMap<>(parentDecls);
+                }
+                decls.put(attrName, new String(buf, valueStart, i - valueStart, StandardCharsets.UTF_8));
+            }
+            i++;
+        }
+        return decls;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    @Override
+    public String toString() {
+        return "XmlElementIndex [name=" + this.name + ", start=" + this.start + ", end=" + this.end + "]";
+    }
+}
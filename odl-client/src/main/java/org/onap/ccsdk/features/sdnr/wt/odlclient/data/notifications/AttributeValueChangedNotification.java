@@ -28,4 +28,26 @@ public class AttributeValueChangedNotification extends BaseNotification {
         return this.newValue;
     }
 
+    public void setAttributeName(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    public void setNewValue(String newValue) {
+        this.newValue = newValue;
+    }
+
+    @Override
+    public boolean bindProperty(String name, String value) {
+        switch (name) {
+            case "attributeName":
+                this.attributeName = value;
+                return true;
+            case "newValue":
+                this.newValue = value;
+                return true;
+            default:
+                return super.bindProperty(name, value);
+        }
+    }
+
 }
@@ -7,7 +7,6 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
@@ -15,11 +14,14 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.
 public abstract class BaseNotification implements SdnrNotification {
 
     private static String EMPTY = "empty";
+    private static final Pattern CONTROLLER_NODE_PATTERN =
+            Pattern.compile("^SDN-Controller-[0-9]*$", Pattern.MULTILINE);
 
     private String nodeName;
     private String counter;
     private String timeStamp;
     private String objectId;
+    private boolean controllerNotification;
 
     public BaseNotification() {
         // For Jaxb
@@ -27,7 +29,7 @@ public abstract class BaseNotification implements SdnrNotification {
     }
 
     public BaseNotification(String nodeName, Integer counter, DateAndTime timeStamp, String objectId) {
-        this.nodeName = nodeName;
+        this.setNodeName(nodeName);
         this.counter = String.valueOf(counter);
         this.timeStamp = timeStamp.getValue();
         this.objectId = objectId;
@@ -52,16 +54,56 @@ public abstract class BaseNotification implements SdnrNotification {
         return objectId;
     }
 
+    public void setNodeName(String nodeName) {
+        this.nodeName = nodeName;
+        this.controllerNotification = nodeName != null && CONTROLLER_NODE_PATTERN.matcher(nodeName).find();
+    }
+
+    public void setCounter(String counter) {
+        this.counter = counter;
+    }
+
+    public void setTimeStamp(String timeStamp) {
+        this.timeStamp = timeStamp;
+    }
+
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Set a property by its xml element name.
+     *
+     * @param name element name
+     * @param value text content
+     * @return false if the property is unknown
+     */
+    public boolean bindProperty(String name, String value) {
+        switch (name) {
+            case "nodeName":
+                this.setNodeName(value);
+                return true;
+            case "counter":
+                this.counter = value;
+                return true;
+            case "timeStamp":
+                this.timeStamp = value;
+                return true;
+            case "objectId":
+                this.objectId = value;
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public String getType() {
         return this.getClass().getSimpleName();
     }
 
     @Override
     public boolean isControllerNotification() {
-        final String regex = "^SDN-Controller-[0-9]*$";
-        final Pattern pattern = Pattern.compile(regex, Pattern.MULTILINE);
-        final Matcher matcher = pattern.matcher(this.nodeName);
-        return matcher.find();
+        return this.controllerNotification;
     }
 
 }
@@ -27,4 +27,26 @@ public class ProblemNotification extends BaseNotification {
         return this.severity;
     }
 
+    public void setProblem(String problem) {
+        this.problem = problem;
+    }
+
+    public void setSeverity(String severity) {
+        this.severity = severity;
+    }
+
+    @Override
+    public boolean bindProperty(String name, String value) {
+        switch (name) {
+            case "problem":
+                this.problem = value;
+                return true;
+            case "severity":
+                this.severity = value;
+                return true;
+            default:
+                return super.bindProperty(name, value);
+        }
+    }
+
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Json node (rfc7951) which is written to the generator while it is created. Member names are
+ * qualified with the module name if the module differs from the module of the enclosing container,
+ * e.g. for members of augmentations.
+ */
+public class JsonSerializerElem {
+
+    private enum Kind {
+        DOCUMENT, CONTAINER, LIST_ENTRY_ROOT, AUGMENTATION, LIST, LEAF
+    }
+
+    private final JsonGenerator generator;
+    private final Kind kind;
+    private final String name;
+    private final String module;
+    private final String containerModule;
+    private final String valuePrefix;
+
+    private JsonSerializerElem(JsonGenerator generator, Kind kind, String name, String module, String valuePrefix) {
+        this(generator, kind, name, module, module, valuePrefix);
+    }
+
+    private JsonSerializerElem(JsonGenerator generator, Kind kind, String name, String module,
+            String containerModule, String valuePrefix) {
+        this.generator = generator;
+        this.kind = kind;
+        this.name = name;
+        this.module = module;
+        this.containerModule = containerModule;
+        this.valuePrefix = valuePrefix;
+    }
+
+    public static JsonSerializerElem createDocument(JsonGenerator generator) {
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new JsonSerializerElem(generator, Kind.DOCUMENT, null, null, null);
+    }
+
+    /**
+     * Write the start of a container or list entry. A list entry on document level is wrapped into
+     * an array.
+     */
+    public JsonSerializerElem createContainer(String key, String module, boolean listEntry) {
+        final boolean listEntryRoot = listEntry && this.kind == Kind.DOCUMENT;
+        final String memberName = this.getMemberName(key, module);
+        try {
+            if (memberName != null) {
+                this.generator.writeFieldName(memberName);
+            }
+            if (listEntryRoot) {
+                this.generator.writeStartArray();
+            }
+            this.generator.writeStartObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new JsonSerializerElem(this.generator, listEntryRoot ? Kind.LIST_ENTRY_ROOT : Kind.CONTAINER, null,
+                module, null);
+    }
+
+    public JsonSerializerElem createList(String key, String module) {
+        try {
+            this.generator.writeFieldName(this.getMemberName(key, module));
+            this.generator.writeStartArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new JsonSerializerElem(this.generator, Kind.LIST, null, module, null);
+    }
+
+    /**
+     * Leaf member. The member is written together with its value, so leafs without value are
+     * omitted.
+     *
+     * @param valuePrefix prefix of the value like module: for identityrefs or null
+     */
+    public JsonSerializerElem createLeaf(String key, String valuePrefix) {
+        return new JsonSerializerElem(this.generator, Kind.LEAF, this.getMemberName(key, this.module), this.module,
+                valuePrefix);
+    }
+
+    /**
+     * @return view of this container for the members of an augmentation of the given module
+     */
+    public JsonSerializerElem createAugmentation(String module) {
+        return new JsonSerializerElem(this.generator, Kind.AUGMENTATION, null, module, this.containerModule, null);
+    }
+
+    public void setValue(Object o) {
+        if (o == null) {
+            return;
+        }
+        try {
+            if (this.name != null) {
+                this.generator.writeFieldName(this.name);
+            }
+            if (this.valuePrefix != null) {
+                this.generator.writeString(this.valuePrefix + o);
+            } else if (o instanceof Boolean) {
+                this.generator.writeBoolean((Boolean) o);
+            } else if (o instanceof Integer || o instanceof Short || o instanceof Byte) {
+                this.generator.writeNumber(((Number) o).intValue());
+            } else if (o instanceof Uint8 || o instanceof Uint16 || o instanceof Uint32) {
+                this.generator.writeNumber(((Number) o).longValue());
+            } else if (o instanceof Empty) {
+                this.generator.writeStartArray();
+                this.generator.writeNull();
+                this.generator.writeEndArray();
+            } else if (o instanceof byte[]) {
+                this.generator.writeBinary((byte[]) o);
+            } else {
+                // int64, uint64 and decimal64 are strings in rfc7951
+                this.generator.writeString(String.valueOf(o));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void close() {
+        try {
+            switch (this.kind) {
+                case DOCUMENT:
+                case CONTAINER:
+                    this.generator.writeEndObject();
+                    break;
+                case LIST_ENTRY_ROOT:
+                    this.generator.writeEndObject();
+                    this.generator.writeEndArray();
+                    break;
+                case LIST:
+                    this.generator.writeEndArray();
+                    break;
+                default:
+                    break;
+            }
+            if (this.kind == Kind.DOCUMENT) {
+                this.generator.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getModule() {
+        return this.module;
+    }
+
+    /**
+     * @return member name, null for entries of an array
+     */
+    private String getMemberName(String key, String module) {
+        if (this.kind == Kind.LIST) {
+            return null;
+        }
+        if (module != null && !module.equals(this.containerModule)) {
+            return module + ":" + key;
+        }
+        return key;
+    }
+}
@@ -7,70 +7,91 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * Xml element which is written to the output while it is created. The start tag is written on
+ * creation, children are written in between and {@link #close()} writes the end tag. The document
+ * element holds the state of one serialization call (output and namespace prefix counter).
+ */
 public class SerializerElem {
+
+    private final SerializerOutput out;
+    private final SerializerElem document;
     private final String key;
     private final String namespace;
     private final String nsPrefix;
-    private final List<SerializerElem> items;
-    private String value;
-    public SerializerElem(String key, String namespace) {
-        this(key,namespace,null);
-    }
-    public SerializerElem(String key, String namespace, String prefix) {
-        this(key,null,namespace,prefix,new ArrayList<>());
-    }
-    private SerializerElem(String key, String value, String namespace, String nsPrefix, List<SerializerElem> items) {
+    private int prefixIndex;
+
+    private SerializerElem(SerializerOutput out, SerializerElem document, String key, String namespace,
+            String nsPrefix) {
+        this.out = out;
+        this.document = document == null ? this : document;
         this.key = key;
-        this.value = value;
         this.namespace = namespace;
         this.nsPrefix = nsPrefix;
-        this.items = items;
+        this.prefixIndex = 0;
     }
-    public void addChild(SerializerElem e) {
-       this.items.add(e);
+
+    public static SerializerElem createDocument(SerializerOutput out) {
+        return new SerializerElem(out, null, null, null, null);
     }
-    @Override
-    public String toString() {
 
-        if(this.namespace!=null && this.namespace.length()>0) {
-            if(this.nsPrefix!=null && this.nsPrefix.length()>0) {
-                return String.format("<%s xmlns:%s=\"%s\">%s</%s>",this.key,this.nsPrefix,this.namespace,this.getValueWithNs(),this.key);
-//                return String.format("<%s xmlns=\"%s\">%s</%s>",this.key,this.namespace,this.getValueWithNs(),this.key);
+    /**
+     * Write the start tag of a child element. A namespace with prefix is declared as xmlns:prefix,
+     * otherwise as default namespace.
+     */
+    public SerializerElem createChild(String key, String namespace, String prefix) {
+        this.out.append("<").append(key);
+        if (namespace != null && namespace.length() > 0) {
+            if (prefix != null && prefix.length() > 0) {
+                this.out.append(" xmlns:").append(prefix);
+            } else {
+                this.out.append(" xmlns");
             }
-            else {
-                return String.format("<%s xmlns=\"%s\">%s</%s>",this.key,this.namespace,this.getValueWithNs(),this.key);
-            }
-        }
-        else {
-            return String.format("<%s>%s</%s>",this.key,this.getValueWithNs(),this.key);
+            this.out.append("=\"").appendEscaped(namespace).append("\"");
         }
+        this.out.append(">");
+        return new SerializerElem(this.out, this.document, key, namespace, prefix);
     }
 
-    private String getValueWithNs() {
-        if (this.value != null) {
-            return (this.namespace != null && this.namespace.length() > 0)
-                    ? String.format("%s:%s", this.nsPrefix, this.value)
-                    : this.value;
+    /**
+     * @return next namespace prefix index of the document
+     */
+    public int nextPrefixIndex() {
+        return this.document.prefixIndex++;
+    }
+
+    public void setValue(Object o) {
+        if (o == null) {
+            return;
         }
-//        if (this.value != null) {
-//            return (this.namespace != null && this.namespace.length() > 0)
-//                    ? String.format("%s", this.value)
-//                    : this.value;
-//        }
-        if (this.items.size() > 0) {
-            StringBuilder sb = new StringBuilder();
-            for (SerializerElem e : this.items) {
-                sb.append(e.toString());
-            }
-            return sb.toString();
+        if (this.namespace != null && this.namespace.length() > 0 && this.nsPrefix != null
+                && this.nsPrefix.length() > 0) {
+            this.out.append(this.nsPrefix).append(":");
         }
-        return "";
+        this.out.appendEscaped(String.valueOf(o));
     }
-    public void setValue(Object o) {
-        this.value = o!=null?String.valueOf(o):null;
+
+    public void close() {
+        if (this.key != null) {
+            this.out.append("</").append(this.key).append(">");
+        }
     }
 
-}
\ No newline at end of file
+    public String getKey() {
+        return this.key;
+    }
+
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    public SerializerOutput getOutput() {
+        return this.out;
+    }
+
+    @Override
+    public String toString() {
+        return "SerializerElem [key=" + this.key + ", namespace=" + this.namespace + ", nsPrefix=" + this.nsPrefix
+                + "]";
+    }
+}
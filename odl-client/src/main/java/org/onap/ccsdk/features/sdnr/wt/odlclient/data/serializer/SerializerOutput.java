@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for serialized documents. Text is encoded as UTF-8 while it is appended, so
+ * a document is never materialized as string.
+ */
+public class SerializerOutput extends OutputStream {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final byte[] AMP = "&amp;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LT = "&lt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GT = "&gt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUOT = "&quot;".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int size;
+
+    public SerializerOutput() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SerializerOutput(int capacity) {
+        this.buffer = new byte[Math.max(capacity, 16)];
+        this.size = 0;
+    }
+
+    @Override
+    public void write(int b) {
+        this.ensureCapacity(1);
+        this.buffer[this.size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        this.ensureCapacity(len);
+        System.arraycopy(b, off, this.buffer, this.size, len);
+        this.size += len;
+    }
+
+    /**
+     * Append text without escaping.
+     */
+    public SerializerOutput append(String s) {
+        this.ensureCapacity(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            this.appendChar(s, i, s.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Append text with escaped xml markup characters. Quotes are escaped too, so the result can be
+     * used as text content and attribute value.
+     */
+    public SerializerOutput appendEscaped(String s) {
+        this.ensureCapacity(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '&':
+                    this.write(AMP, 0, AMP.length);
+                    break;
+                case '<':
+                    this.write(LT, 0, LT.length);
+                    break;
+                case '>':
+                    this.write(GT, 0, GT.length);
+                    break;
+                case '"':
+                    this.write(QUOT, 0, QUOT.length);
+                    break;
+                default:
+                    this.appendChar(s, i, c);
+                    break;
+            }
+        }
+        return this;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.buffer, 0, this.size, StandardCharsets.UTF_8);
+    }
+
+    private void appendChar(String s, int i, char c) {
+        if (c < 0x80) {
+            this.write(c);
+        } else if (c < 0x800) {
+            this.write(0xc0 | (c >> 6));
+            this.write(0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                && Character.isLowSurrogate(s.charAt(i + 1))) {
+            // the low surrogate is written as part of this code point and skipped
+            int cp = Character.toCodePoint(c, s.charAt(i + 1));
+            this.write(0xf0 | (cp >> 18));
+            this.write(0x80 | ((cp >> 12) & 0x3f));
+            this.write(0x80 | ((cp >> 6) & 0x3f));
+            this.write(0x80 | (cp & 0x3f));
+        } else if (Character.isLowSurrogate(c) && i > 0 && Character.isHighSurrogate(s.charAt(i - 1))) {
+            return;
+        } else if (Character.isSurrogate(c)) {
+            this.write('?');
+        } else {
+            this.write(0xe0 | (c >> 12));
+            this.write(0x80 | ((c >> 6) & 0x3f));
+            this.write(0x80 | (c & 0x3f));
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (this.size + additional > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.size + additional));
+        }
+    }
+}
@@ -9,12 +9,19 @@ package org.onap.ccsdk.features.sdnr.wt.odlclient.data.status;
 
 public class InternalStatus {
 
-    private static final String JSON_FORMAT = "{\"websocket\":\"%s\",\"responses\":%s}";
+    private static final String JSON_FORMAT = "{\"websocket\":\"%s\",\"responses\":%s,\"notifications\":%s,"
+            + "\"read-cache\":%s}";
     private static final String JSON_FORMAT_RESPONSES = "{\"succeeded\":%d,\"failed\":%d}";
+    private static final String JSON_FORMAT_NOTIFICATIONS = "{\"queued\":%d,\"max-stripe-queued\":%d,"
+            + "\"capacity\":%d,\"dispatched\":%d,\"dropped\":%d,\"coalesced\":%d}";
+    private static final String JSON_FORMAT_READCACHE = "{\"size\":%d,\"capacity\":%d,\"hits\":%d,"
+            + "\"misses\":%d,\"evictions\":%d,\"invalidations\":%d}";
 
     private String webSocket;
 
     private ResponseStatus responses;
+    private NotificationQueueStatus notificationQueue;
+    private ReadCacheStatus readCache;
 
     public InternalStatus() {
         this.webSocket = "unknown";
@@ -24,6 +31,15 @@ public class InternalStatus {
     public void setWebSocket(String status) {
         this.webSocket = status;
     }
+
+    public void setNotificationQueue(NotificationQueueStatus status) {
+        this.notificationQueue = status;
+    }
+
+    public void setReadCache(ReadCacheStatus status) {
+        this.readCache = status;
+    }
+
     public void addResponse(boolean succeeded) {
         if(succeeded) {
             this.responses.succeeded++;
@@ -34,9 +50,28 @@ public class InternalStatus {
     }
 
     public String toJSON() {
-        return String.format(JSON_FORMAT, this.webSocket,this.responses.toJSON());
+        return String.format(JSON_FORMAT, this.webSocket,this.responses.toJSON(),this.getNotificationsJSON(),
+                this.getReadCacheJSON());
     }
 
+    private String getNotificationsJSON() {
+        final NotificationQueueStatus queue = this.notificationQueue;
+        if (queue == null) {
+            return "null";
+        }
+        return String.format(JSON_FORMAT_NOTIFICATIONS, queue.getQueueDepth(), queue.getMaxStripeDepth(),
+                queue.getQueueCapacity(), queue.getDispatchedCount(), queue.getDroppedCount(),
+                queue.getCoalescedCount());
+    }
+
+    private String getReadCacheJSON() {
+        final ReadCacheStatus cache = this.readCache;
+        if (cache == null) {
+            return "null";
+        }
+        return String.format(JSON_FORMAT_READCACHE, cache.getSize(), cache.getCapacity(), cache.getHitCount(),
+                cache.getMissCount(), cache.getEvictionCount(), cache.getInvalidationCount());
+    }
 
     private class ResponseStatus {
 
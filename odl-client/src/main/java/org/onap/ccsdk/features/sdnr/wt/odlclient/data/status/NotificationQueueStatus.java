@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.status;
+
+/**
+ * Statistics of the websocket notification dispatch.
+ */
+public interface NotificationQueueStatus {
+
+    /**
+     * @return number of queued notifications over all stripes
+     */
+    int getQueueDepth();
+
+    /**
+     * @return number of queued notifications of the fullest stripe
+     */
+    int getMaxStripeDepth();
+
+    int getQueueCapacity();
+
+    long getDispatchedCount();
+
+    long getDroppedCount();
+
+    long getCoalescedCount();
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.data.status;
+
+/**
+ * Statistics of the device read cache.
+ */
+public interface ReadCacheStatus {
+
+    int getSize();
+
+    int getCapacity();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    /**
+     * @return number of entries removed because of size limit or ttl
+     */
+    long getEvictionCount();
+
+    /**
+     * @return number of node invalidations by notifications or commits
+     */
+    long getInvalidationCount();
+}
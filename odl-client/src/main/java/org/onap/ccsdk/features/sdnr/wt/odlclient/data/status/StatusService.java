@@ -12,4 +12,6 @@ public interface StatusService {
 
     public void setWebsocketStatus(String connectionStatus);
     public void addResponse(boolean success);
+    public void setNotificationQueueStatus(NotificationQueueStatus status);
+    public void setReadCacheStatus(ReadCacheStatus status);
 }
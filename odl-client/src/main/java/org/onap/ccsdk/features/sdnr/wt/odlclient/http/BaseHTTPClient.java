@@ -8,16 +8,17 @@
 
 package org.onap.ccsdk.features.sdnr.wt.odlclient.http;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLConnection;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -36,13 +37,24 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Base64;
 import java.util.Map;
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.xml.bind.DatatypeConverter;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.client.util.BytesContentProvider;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,15 +64,20 @@ public class BaseHTTPClient {
     private static final int SSLCERT_NONE = -1;
     private static final int SSLCERT_PCKS = 0;
     private static final int SSLCERT_PEM = 1;
-    private static final int BUFSIZE = 1024;
+    private static final int MAX_RESPONSE_BUFSIZE = 64 * 1024 * 1024;
     private static final Charset CHARSET = StandardCharsets.UTF_8;
     private static final String SSLCONTEXT = "TLSv1.2";
     private static final int DEFAULT_HTTP_TIMEOUT_MS = 30000; // in ms
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 60000;
+    private static final long DEFAULT_REQUEST_TIMEOUT_MS = 0; // no limit
 
     private final boolean trustAll;
     private final String baseUrl;
 
+    private final HttpClient httpClient;
     private SSLContext sc = null;
+    private volatile long requestTimeout;
 
     public BaseHTTPClient(String base) {
         this(base, false);
@@ -72,6 +89,18 @@ public class BaseHTTPClient {
 
     public BaseHTTPClient(String base, boolean trustAllCerts, String certFilename, String passphrase,
             int sslCertType) {
+        this(base, trustAllCerts, certFilename, passphrase, sslCertType, DEFAULT_MAX_CONNECTIONS_PER_HOST,
+                DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Create client with its own connection pool.
+     *
+     * @param maxConnectionsPerHost max number of pooled connections to one host
+     * @param idleTimeoutMs time in ms after which idle connections are closed
+     */
+    public BaseHTTPClient(String base, boolean trustAllCerts, String certFilename, String passphrase,
+            int sslCertType, int maxConnectionsPerHost, long idleTimeoutMs) {
         if (!base.endsWith("/")) {
             base += "/";
         }
@@ -83,21 +112,166 @@ public class BaseHTTPClient {
                 | CertificateException | KeyStoreException | IOException | InvalidKeySpecException e) {
             LOG.warn("problem ssl setup: " + e.getMessage());
         }
+        this.httpClient = createHttpClient(sc, trustAll, maxConnectionsPerHost, idleTimeoutMs);
+        this.requestTimeout = DEFAULT_REQUEST_TIMEOUT_MS;
+    }
+
+    /**
+     * @param connectTimeoutMs time in ms to establish a connection
+     */
+    public void setConnectTimeout(long connectTimeoutMs) {
+        this.httpClient.setConnectTimeout(connectTimeoutMs);
+    }
+
+    /**
+     * @param requestTimeoutMs max time in ms for a whole request including the response or 0 for no limit
+     */
+    public void setRequestTimeout(long requestTimeoutMs) {
+        this.requestTimeout = requestTimeoutMs;
     }
 
     public BaseHTTPResponse sendRequest(String uri, final String method, final String body,
             final Map<String, String> headers) throws IOException {
-        return this.sendRequest(uri, method, body, headers, DEFAULT_HTTP_TIMEOUT_MS);
+        return this.sendRequest(uri, method, body != null ? body.getBytes(CHARSET) : null, headers);
     }
 
+    /**
+     * @deprecated the connect timeout is set for the client, see {@link #setConnectTimeout(long)}
+     */
+    @Deprecated
     public BaseHTTPResponse sendRequest(String uri, final String method, final String body,
             final Map<String, String> headers, final int timeout) throws IOException {
-        return this.sendRequest(uri, method, body != null ? body.getBytes(CHARSET) : null, headers,
-                timeout);
+        return this.sendRequest(uri, method, body, headers);
     }
 
+    /**
+     * @deprecated the connect timeout is set for the client, see {@link #setConnectTimeout(long)}
+     */
+    @Deprecated
     public BaseHTTPResponse sendRequest(String uri, final String method, final byte[] body,
             final Map<String, String> headers, final int timeout) throws IOException {
+        return this.sendRequest(uri, method, body, headers);
+    }
+
+    public BaseHTTPResponse sendRequest(String uri, final String method, final byte[] body,
+            final Map<String, String> headers) throws IOException {
+        ListenableFuture<BaseHTTPResponse> future = this.sendRequestAsync(uri, method, body, headers);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new InterruptedIOException("request to " + uri + " interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Send request without blocking the calling thread. The returned future completes with the
+     * response (also for non 2xx codes) or exceptionally if the request failed, e.g. due to a
+     * timeout or connection problem. Cancelling the future aborts the request.
+     */
+    public ListenableFuture<BaseHTTPResponse> sendRequestAsync(String uri, final String method,
+            final byte[] body, final Map<String, String> headers) {
+        final Request request;
+        try {
+            request = this.createRequest(uri, method, body, headers);
+        } catch (IOException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        if (request == null) {
+            return Futures.immediateFuture(new BaseHTTPResponse(-1, "", ""));
+        }
+        final SettableFuture<BaseHTTPResponse> future = SettableFuture.create();
+        abortOnCancel(future, request);
+        request.send(new BufferingResponseListener(MAX_RESPONSE_BUFSIZE) {
+
+            @Override
+            public void onComplete(Result result) {
+                if (result.isFailed()) {
+                    future.setException(
+                            new IOException("request to " + request.getURI() + " failed", result.getFailure()));
+                    return;
+                }
+                Response response = result.getResponse();
+                int responseCode = response.getStatus();
+                String contentType = "";
+                if (responseCode >= 200 && responseCode < 300) {
+                    contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+                    if (contentType == null) {
+                        contentType = "";
+                    }
+                }
+                String sresponse = this.getContentAsString();
+                LOG.debug("ResponseCode: " + responseCode);
+                LOG.trace("Response (len:{}): {}", String.valueOf(this.getContent().length), sresponse);
+                future.set(new BaseHTTPResponse(responseCode, sresponse, contentType));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Send request without blocking the calling thread. The returned future completes as soon as
+     * the response headers are received, the body is streamed from the connection. The caller has
+     * to close the response.
+     */
+    public ListenableFuture<BaseHTTPStreamingResponse> sendStreamingRequestAsync(String uri,
+            final String method, final byte[] body, final Map<String, String> headers) {
+        final Request request;
+        try {
+            request = this.createRequest(uri, method, body, headers);
+        } catch (IOException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        if (request == null) {
+            return Futures.immediateFuture(
+                    new BaseHTTPStreamingResponse(-1, new ByteArrayInputStream(new byte[0]), ""));
+        }
+        final SettableFuture<BaseHTTPStreamingResponse> future = SettableFuture.create();
+        abortOnCancel(future, request);
+        request.send(new InputStreamResponseListener() {
+
+            @Override
+            public void onHeaders(Response response) {
+                super.onHeaders(response);
+                int responseCode = response.getStatus();
+                String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+                LOG.debug("ResponseCode: " + responseCode);
+                future.set(new BaseHTTPStreamingResponse(responseCode, this.getInputStream(),
+                        contentType == null ? "" : contentType));
+            }
+
+            @Override
+            public void onComplete(Result result) {
+                super.onComplete(result);
+                if (result.isFailed()) {
+                    // only effective if failed before the headers were received
+                    future.setException(
+                            new IOException("request to " + request.getURI() + " failed", result.getFailure()));
+                }
+            }
+        });
+        return future;
+    }
+
+    private static void abortOnCancel(final ListenableFuture<?> future, final Request request) {
+        future.addListener(() -> {
+            if (future.isCancelled()) {
+                request.abort(new CancellationException("request cancelled"));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * @return request for the pooled http client or null if no ssl context is available for an https url
+     */
+    private Request createRequest(String uri, final String method, final byte[] body,
+            final Map<String, String> headers) throws IOException {
         if (uri == null) {
             uri = "";
         }
@@ -111,81 +285,81 @@ public class BaseHTTPClient {
         surl += uri;
         LOG.debug("try to send request with url=" + this.baseUrl + uri + " as method=" + method);
         LOG.trace("body:" + (body == null ? "null" : new String(body, CHARSET)));
-        URL url = new URL(surl);
-        URLConnection http = url.openConnection();
-        http.setConnectTimeout(timeout);
-        if (surl.toString().startsWith("https")) {
-            if (sc != null) {
-                ((HttpsURLConnection) http).setSSLSocketFactory(sc.getSocketFactory());
-                if (trustAll) {
-                    LOG.debug("trusting all certs");
-                    HostnameVerifier allHostsValid = (hostname, session) -> true;
-                    ((HttpsURLConnection) http).setHostnameVerifier(allHostsValid);
-                }
-            } else {
-                // Should never happen
-                LOG.warn("No SSL context available");
-                return new BaseHTTPResponse(-1, "", "");
-            }
+        if (surl.startsWith("https") && sc == null) {
+            // Should never happen
+            LOG.warn("No SSL context available");
+            return null;
+        }
+        final Request request;
+        try {
+            request = this.getHttpClient().newRequest(surl).method(method);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedURLException(e.getMessage());
+        }
+        if (this.requestTimeout > 0) {
+            request.timeout(this.requestTimeout, TimeUnit.MILLISECONDS);
         }
-        ((HttpURLConnection) http).setRequestMethod(method);
-        http.setDoOutput(true);
         if (headers != null && headers.size() > 0) {
             for (String key : headers.keySet()) {
-                http.setRequestProperty(key, headers.get(key));
+                request.header(key, headers.get(key));
                 LOG.trace("set http header " + key + ": " + headers.get(key));
             }
         }
-        byte[] buffer = new byte[BUFSIZE];
-        int len = 0;
-        int lensum = 0;
-        // send request
-        // Send the message to destination
         if (!method.equals("GET") && body != null && body.length > 0) {
-            try (OutputStream output = http.getOutputStream()) {
-                output.write(body);
-            }
+            request.content(new BytesContentProvider(body));
         }
-        // Receive answer
-        int responseCode = ((HttpURLConnection) http).getResponseCode();
-        String contentType = "";
-        String sresponse = "";
-        InputStream response = null;
+        return request;
+    }
+
+    /**
+     * Stop the underlying http client and close all pooled connections.
+     */
+    public void close() {
         try {
-            if (responseCode >= 200 && responseCode < 300) {
-                contentType = http.getHeaderField("Content-Type");
-                if (contentType == null) {
-                    contentType = "";
-                }
-                response = http.getInputStream();
-            } else {
-                response = ((HttpURLConnection) http).getErrorStream();
-                if (response == null) {
-                    response = http.getInputStream();
-                }
-            }
-            if (response != null) {
-                while (true) {
-                    len = response.read(buffer, 0, BUFSIZE);
-                    if (len <= 0) {
-                        break;
+            this.httpClient.stop();
+        } catch (Exception e) {
+            LOG.warn("problem stopping http client: ", e);
+        }
+    }
+
+    /**
+     * The http client is started with the first request. All requests of this client share its
+     * connection pool, so keep-alive connections and tls sessions are reused.
+     */
+    private HttpClient getHttpClient() throws IOException {
+        if (!this.httpClient.isStarted()) {
+            synchronized (this.httpClient) {
+                if (!this.httpClient.isStarted()) {
+                    try {
+                        this.httpClient.start();
+                    } catch (Exception e) {
+                        throw new IOException("unable to start http client", e);
                     }
-                    lensum += len;
-                    sresponse += new String(buffer, 0, len, CHARSET);
                 }
-            } else {
-                LOG.debug("response is null");
-            }
-        } catch (IOException e) {
-            LOG.debug("No response. ", e);
-        } finally {
-            if (response != null) {
-                response.close();
             }
         }
-        LOG.debug("ResponseCode: " + responseCode);
-        LOG.trace("Response (len:{}): {}", String.valueOf(lensum), sresponse);
-        return new BaseHTTPResponse(responseCode, sresponse, contentType);
+        return this.httpClient;
+    }
+
+    private static HttpClient createHttpClient(SSLContext sslContext, boolean trustAll,
+            int maxConnectionsPerHost, long idleTimeoutMs) {
+        SslContextFactory sslContextFactory = new SslContextFactory.Client(trustAll);
+        if (sslContext != null) {
+            sslContextFactory.setSslContext(sslContext);
+        }
+        if (trustAll) {
+            LOG.debug("trusting all certs");
+            sslContextFactory.setEndpointIdentificationAlgorithm(null);
+        }
+        HttpClient client = new HttpClient(sslContextFactory);
+        QueuedThreadPool threadPool = new QueuedThreadPool();
+        threadPool.setName("odlclient-http");
+        threadPool.setDaemon(true);
+        client.setExecutor(threadPool);
+        client.setMaxConnectionsPerDestination(maxConnectionsPerHost);
+        client.setIdleTimeout(idleTimeoutMs);
+        client.setConnectTimeout(DEFAULT_HTTP_TIMEOUT_MS);
+        return client;
     }
 
     public static SSLContext setupSsl(boolean trustall) throws NoSuchAlgorithmException,
@@ -305,4 +479,20 @@ public class BaseHTTPClient {
         return SSLCERT_PEM;
     }
 
+    public static int getDefaultTimeout() {
+        return DEFAULT_HTTP_TIMEOUT_MS;
+    }
+
+    public static long getDefaultRequestTimeout() {
+        return DEFAULT_REQUEST_TIMEOUT_MS;
+    }
+
+    public static int getDefaultMaxConnections() {
+        return DEFAULT_MAX_CONNECTIONS_PER_HOST;
+    }
+
+    public static long getDefaultIdleTimeout() {
+        return DEFAULT_IDLE_TIMEOUT_MS;
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.http;
+
+import com.google.common.io.ByteStreams;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response which is available as soon as the headers are received. The body is read from the
+ * connection while consuming the stream.
+ */
+public class BaseHTTPStreamingResponse implements Closeable {
+
+    public final int code;
+    public final InputStream body;
+    public final String contentType;
+
+    public BaseHTTPStreamingResponse(int code, InputStream body, String contentType) {
+        this.code = code;
+        this.body = body;
+        this.contentType = contentType;
+    }
+
+    public boolean isSuccess() {
+        return this.code >= 200 && this.code < 300;
+    }
+
+    public String readBodyAsString() throws IOException {
+        return new String(ByteStreams.toByteArray(this.body), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Consume the rest of the body before closing. Otherwise the request would be aborted and the
+     * connection could not be reused.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            ByteStreams.exhaust(this.body);
+        } finally {
+            this.body.close();
+        }
+    }
+
+    /**
+     * Close without consuming the rest of the body, so the request is aborted.
+     */
+    public void abort() {
+        try {
+            this.body.close();
+        } catch (IOException e) {
+            // nothing to do, the request is aborted anyway
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BaseHTTPStreamingResponse [code=" + code + ", contentType=" + contentType + "]";
+    }
+}
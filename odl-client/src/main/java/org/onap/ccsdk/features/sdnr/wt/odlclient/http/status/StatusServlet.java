@@ -14,6 +14,8 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.InternalStatus;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.NotificationQueueStatus;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.ReadCacheStatus;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.StatusService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,15 @@ public class StatusServlet extends HttpServlet implements StatusService {
 
     }
 
+    @Override
+    public void setNotificationQueueStatus(NotificationQueueStatus queueStatus) {
+        this.status.setNotificationQueue(queueStatus);
+    }
+
+    @Override
+    public void setReadCacheStatus(ReadCacheStatus cacheStatus) {
+        this.status.setReadCache(cacheStatus);
+    }
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.remote;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.Nullable;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.DeviceConnectionChangedHandler;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus.ConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local copy of the netconf nodes of the remote topology-netconf. The mirror is filled by one
+ * bulk read, kept current by the connection changes of the controller notifications and
+ * reconciled periodically and after a websocket reconnect. While the websocket is down the mirror
+ * is not synced and callers have to read the remote odl. A reconcile only marks the mirror as
+ * synced if the websocket is connected and the mirror was not invalidated during the read.
+ */
+public class NetconfTopologyMirror implements DeviceConnectionChangedHandler, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfTopologyMirror.class);
+    public static final long DEFAULT_RECONCILE_INTERVAL_MS = 300000;
+
+    private final RestconfHttpClient client;
+    private final long reconcileInterval;
+    private final Map<String, Entry> nodes;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong generation;
+    private volatile boolean websocketConnected;
+    private volatile boolean synced;
+
+    public NetconfTopologyMirror(RestconfHttpClient client) {
+        this(client, DEFAULT_RECONCILE_INTERVAL_MS);
+    }
+
+    /**
+     * @param client client for the remote odl
+     * @param reconcileInterval interval in ms to reread the topology
+     */
+    public NetconfTopologyMirror(RestconfHttpClient client, long reconcileInterval) {
+        this.client = client;
+        this.reconcileInterval = reconcileInterval;
+        this.nodes = new ConcurrentHashMap<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "odlclient-topology-mirror");
+            t.setDaemon(true);
+            return t;
+        });
+        this.generation = new AtomicLong();
+        this.websocketConnected = false;
+        this.synced = false;
+    }
+
+    /**
+     * Read the topology in background and reconcile it periodically.
+     */
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(this::reconcile, 0, this.reconcileInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return true if the mirror reflects the remote topology
+     */
+    public boolean isSynced() {
+        return this.synced;
+    }
+
+    /**
+     * Mark the mirror as outdated, e.g. because notifications may be lost.
+     */
+    public synchronized void invalidate() {
+        this.generation.incrementAndGet();
+        if (this.synced) {
+            LOG.info("topology mirror invalidated");
+        }
+        this.synced = false;
+    }
+
+    /**
+     * Notifications are only received while the websocket is connected. On connect the topology is
+     * reread, on disconnect the mirror is invalidated.
+     */
+    public void setWebsocketConnected(boolean connected) {
+        this.websocketConnected = connected;
+        if (connected) {
+            this.requestReconcile();
+        } else {
+            this.invalidate();
+        }
+    }
+
+    /**
+     * Reread the topology in background.
+     */
+    public void requestReconcile() {
+        this.scheduler.execute(this::reconcile);
+    }
+
+    /**
+     * @return mirrored netconf node or null if the node is not in the topology
+     */
+    public @Nullable NetconfNode getNetconfNode(String nodeId) {
+        final Entry entry = this.nodes.get(nodeId);
+        return entry == null ? null : entry.netconfNode;
+    }
+
+    @Override
+    public void onRemoteDeviceConnected(String nodeId, NetconfNode netconfNode) {
+        this.nodes.put(nodeId, new Entry(netconfNode));
+    }
+
+    @Override
+    public void onRemoteDeviceDisConnected(String nodeId) {
+        // keep a tombstone, so a running reconcile does not add the node again
+        this.nodes.put(nodeId, new Entry(null));
+    }
+
+    @Override
+    public void onRemoteDeviceUnableToConnect(String nodeId) {
+        this.setConnectionStatus(nodeId, ConnectionStatus.UnableToConnect);
+    }
+
+    @Override
+    public void onRemoteDeviceConnecting(String nodeId) {
+        this.setConnectionStatus(nodeId, ConnectionStatus.Connecting);
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        this.invalidate();
+    }
+
+    private void setConnectionStatus(String nodeId, ConnectionStatus status) {
+        this.nodes.compute(nodeId, (k, entry) -> {
+            final NetconfNodeBuilder builder =
+                    entry == null || entry.netconfNode == null ? new NetconfNodeBuilder()
+                            : new NetconfNodeBuilder(entry.netconfNode);
+            return new Entry(builder.setConnectionStatus(status).build());
+        });
+    }
+
+    /**
+     * Replace the mirror by the remote topology. Nodes changed by notifications during the read are
+     * kept.
+     */
+    private void reconcile() {
+        final long start = System.nanoTime();
+        final long readGeneration = this.generation.get();
+        final Map<String, NetconfNode> remoteNodes = new HashMap<>();
+        try {
+            Optional<Topology> topology = this.client.readFields(LogicalDatastoreType.OPERATIONAL,
+                    RemoteDeviceConnectionChangeProvider.NETCONF_TOPO_IID, null,
+                    RemoteDeviceConnectionChangeProvider.TOPOLOGY_FIELDS).get();
+            List<Node> topologyNodes = topology.isPresent() ? topology.get().getNode() : null;
+            if (topologyNodes != null) {
+                for (Node node : topologyNodes) {
+                    NetconfNode netconfNode = node.augmentation(NetconfNode.class);
+                    if (node.getNodeId() != null && netconfNode != null) {
+                        remoteNodes.put(node.getNodeId().getValue(), netconfNode);
+                    }
+                }
+            }
+        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
+                | IllegalAccessException | ExecutionException | IOException e) {
+            LOG.warn("unable to read netconf topology: ", e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        this.nodes.entrySet().removeIf(e -> e.getValue().updated < start && !remoteNodes.containsKey(e.getKey()));
+        for (Map.Entry<String, NetconfNode> remoteNode : remoteNodes.entrySet()) {
+            this.nodes.compute(remoteNode.getKey(),
+                    (k, entry) -> entry != null && entry.updated >= start ? entry : new Entry(remoteNode.getValue()));
+        }
+        synchronized (this) {
+            this.synced = this.websocketConnected && this.generation.get() == readGeneration;
+        }
+        LOG.debug("topology mirror reconciled with {} nodes in {}ms, synced={}", remoteNodes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), this.synced);
+    }
+
+    private static final class Entry {
+        private final NetconfNode netconfNode;
+        private final long updated;
+
+        Entry(NetconfNode netconfNode) {
+            this.netconfNode = netconfNode;
+            this.updated = System.nanoTime();
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.onap.ccsdk.features.sdnr.wt.odlclient.remote;
 import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
 import org.eclipse.jdt.annotation.NonNull;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteTransactionChain;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
@@ -62,15 +63,13 @@ public class RemoteDataBroker implements DataBroker {
 
     @Override
     public @NonNull TransactionChain createTransactionChain(@NonNull TransactionChainListener listener) {
-        // TODO Auto-generated method stub
-        return null;
+        return new RemoteTransactionChain(this.remoteOdlClient, null, listener, false, null);
     }
 
     @Override
     public @NonNull TransactionChain createMergingTransactionChain(
             @NonNull TransactionChainListener listener) {
-        // TODO Auto-generated method stub
-        return null;
+        return new RemoteTransactionChain(this.remoteOdlClient, null, listener, true, null);
     }
 
     private static final class RemoteReadOnlyTransaction implements ReadTransaction {
@@ -7,11 +7,21 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.remote;
 
+import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.jdt.annotation.Nullable;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.DeviceConnectionChangedHandler;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
@@ -34,20 +44,58 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RemoteDeviceConnectionChangeProvider {
+/**
+ * Forwards connection state changes of the remote netconf nodes to the registered handlers.
+ * Changes are collected for a debounce window and the state of the changed nodes is read
+ * afterwards, so a node flapping through connecting and connected is read once and the handlers
+ * only get its final state. A few nodes are read one by one, many nodes with one topology request.
+ * Nodes which could not be read are read again with the next window.
+ */
+public class RemoteDeviceConnectionChangeProvider implements AutoCloseable {
 
-    private static final InstanceIdentifier<Topology> NETCONF_TOPO_IID = InstanceIdentifier
+    static final InstanceIdentifier<Topology> NETCONF_TOPO_IID = InstanceIdentifier
             .create(NetworkTopology.class).child(Topology.class,
                     new TopologyKey(new TopologyId(TopologyNetconf.QNAME.getLocalName())));
 
     private static final Logger LOG = LoggerFactory
             .getLogger(RemoteDeviceConnectionChangeProvider.class);
+    public static final long DEFAULT_DEBOUNCE_MS = 1000;
+    /**
+     * Min number of changed nodes to read the whole topology instead of the single nodes.
+     */
+    static final int BULK_READ_MIN_NODES = 10;
+    private static final String NETCONF_NODE_FIELDS = "netconf-node-topology:host;netconf-node-topology:port;"
+            + "netconf-node-topology:connection-status;netconf-node-topology:available-capabilities;"
+            + "netconf-node-topology:unavailable-capabilities;netconf-node-topology:connected-message";
+    static final String TOPOLOGY_FIELDS = "node(node-id;" + NETCONF_NODE_FIELDS + ")";
     private final RestconfHttpClient client;
     private final List<DeviceConnectionChangedHandler> listeners;
+    private final long debounceMs;
+    // changed nodes, value is true if the last change was a deletion
+    private final Map<String, Boolean> pendingNodes;
+    private final AtomicBoolean flushScheduled;
+    private final ScheduledExecutorService scheduler;
 
     public RemoteDeviceConnectionChangeProvider(RestconfHttpClient restClient) {
+        this(restClient, DEFAULT_DEBOUNCE_MS);
+    }
+
+    /**
+     * @param restClient client for the remote odl
+     * @param debounceMs window in ms to collect changes before they are read, 0 to read every
+     *        change immediately
+     */
+    public RemoteDeviceConnectionChangeProvider(RestconfHttpClient restClient, long debounceMs) {
         this.client = restClient;
-        this.listeners = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.debounceMs = debounceMs;
+        this.pendingNodes = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.scheduler = debounceMs > 0 ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "odlclient-connection-change");
+            t.setDaemon(true);
+            return t;
+        }) : null;
     }
 
     public void onControllerNotification(SdnrNotification notification) {
@@ -55,19 +103,19 @@ public class RemoteDeviceConnectionChangeProvider {
             if (notification instanceof ObjectCreationNotification) {
                 LOG.debug("handle create notification");
                 String nodeId = ((ObjectCreationNotification) notification).getObjectId();
-                this.handleChange(nodeId);
+                this.onChange(nodeId, false);
 
             } else if (notification instanceof ObjectDeletionNotification) {
                 LOG.debug("handle delete notification");
-                String nodeId = ((ObjectCreationNotification) notification).getObjectId();
-                this.pushDisconnect(nodeId);
+                String nodeId = ((ObjectDeletionNotification) notification).getObjectId();
+                this.onChange(nodeId, true);
 
             } else if (notification instanceof AttributeValueChangedNotification) {
                 AttributeValueChangedNotification notification2 = (AttributeValueChangedNotification) notification;
                 LOG.debug("handle change notification for {}",notification2.getAttributeName());
                 if (notification2.getAttributeName().equals("ConnectionStatus")) {
                     String nodeId = notification2.getObjectId();
-                    this.handleChange(nodeId);
+                    this.onChange(nodeId, false);
                 }
             } else {
                 LOG.debug("notification {} ignored by type", notification);
@@ -77,20 +125,153 @@ public class RemoteDeviceConnectionChangeProvider {
         }
     }
 
-    private void handleChange(String nodeId) {
-        InstanceIdentifier<NetconfNode> nodeIif = NETCONF_TOPO_IID.child(Node.class,new NodeKey(new NodeId(nodeId)))
-                .augmentation(NetconfNode.class);
+    /**
+     * Mark the node as changed. The first change within a window schedules the read of all nodes
+     * changed until then. Only the last change of a node is handled.
+     */
+    private void onChange(String nodeId, boolean deleted) {
+        if (this.scheduler == null) {
+            if (deleted) {
+                this.pushDisconnect(nodeId);
+            } else {
+                this.handleChanges(Collections.singletonList(nodeId));
+            }
+            return;
+        }
+        this.pendingNodes.put(nodeId, deleted);
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            this.scheduler.schedule(this::flush, this.debounceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        this.flushScheduled.set(false);
+        final List<String> nodeIds = new ArrayList<>();
+        final List<String> deletedNodeIds = new ArrayList<>();
+        for (String nodeId : this.pendingNodes.keySet()) {
+            final Boolean deleted = this.pendingNodes.remove(nodeId);
+            if (deleted != null) {
+                (deleted ? deletedNodeIds : nodeIds).add(nodeId);
+            }
+        }
         try {
-            LOG.debug("read remote netconfnode for node {}",nodeId);
-            Optional<NetconfNode> netconfNode = this.client.read(LogicalDatastoreType.CONFIGURATION, nodeIif)
-                    .get();
-            this.handleChange(nodeId, netconfNode.isPresent() ? netconfNode.get() : null);
+            for (String nodeId : deletedNodeIds) {
+                this.pushDisconnect(nodeId);
+            }
+            if (!nodeIds.isEmpty()) {
+                this.handleChanges(nodeIds);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("problem handling connection changes for {}: ", nodeIds, e);
+        }
+    }
+
+    /**
+     * Read the state of the changed nodes and push it to the listeners. Nodes which could not be
+     * read are queued again.
+     */
+    private void handleChanges(List<String> ids) {
+        final Map<String, NetconfNode> nodes = new HashMap<>();
+        final List<String> failedIds;
+        if (ids.size() < BULK_READ_MIN_NODES) {
+            failedIds = this.readNodes(ids, nodes);
+        } else {
+            failedIds = this.readTopology(nodes) ? Collections.emptyList() : ids;
+        }
+        for (String nodeId : ids) {
+            if (!failedIds.contains(nodeId)) {
+                this.handleChange(nodeId, nodes.get(nodeId));
+            }
+        }
+        if (!failedIds.isEmpty()) {
+            this.retry(failedIds);
+        }
+    }
+
+    /**
+     * Read the nodes with parallel requests.
+     *
+     * @return ids of the nodes which could not be read
+     */
+    private List<String> readNodes(List<String> ids, Map<String, NetconfNode> nodes) {
+        LOG.debug("read remote netconfnodes {}", ids);
+        final Map<String, FluentFuture<Optional<NetconfNode>>> requests = new HashMap<>();
+        final List<String> failedIds = new ArrayList<>();
+        for (String nodeId : ids) {
+            InstanceIdentifier<NetconfNode> nodeIif = NETCONF_TOPO_IID
+                    .child(Node.class, new NodeKey(new NodeId(nodeId))).augmentation(NetconfNode.class);
+            try {
+                requests.put(nodeId, this.client.readFields(LogicalDatastoreType.OPERATIONAL, nodeIif, null,
+                        NETCONF_NODE_FIELDS));
+            } catch (ClassNotFoundException | NoSuchFieldException | SecurityException
+                    | IllegalArgumentException | IllegalAccessException | IOException e) {
+                LOG.warn("problem reading netconfnode for {}: ", nodeId, e);
+                failedIds.add(nodeId);
+            }
+        }
+        for (Map.Entry<String, FluentFuture<Optional<NetconfNode>>> request : requests.entrySet()) {
+            try {
+                Optional<NetconfNode> netconfNode = request.getValue().get();
+                if (netconfNode.isPresent()) {
+                    nodes.put(request.getKey(), netconfNode.get());
+                }
+            } catch (ExecutionException e) {
+                LOG.warn("problem reading netconfnode for {}: ", request.getKey(), e);
+                failedIds.add(request.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(request.getKey());
+            }
+        }
+        return failedIds;
+    }
+
+    /**
+     * Read all nodes of the netconf topology.
+     *
+     * @return false if the topology could not be read
+     */
+    private boolean readTopology(Map<String, NetconfNode> nodes) {
+        LOG.debug("read remote netconf topology");
+        final Optional<Topology> topology;
+        try {
+            topology = this.client
+                    .readFields(LogicalDatastoreType.OPERATIONAL, NETCONF_TOPO_IID, null, TOPOLOGY_FIELDS).get();
         } catch (ClassNotFoundException | NoSuchFieldException | SecurityException
-                | IllegalArgumentException | IllegalAccessException | InterruptedException
-                | ExecutionException | IOException e) {
-            LOG.warn("problem reading netconfnode for {}: ", nodeId, e);
+                | IllegalArgumentException | IllegalAccessException | ExecutionException | IOException e) {
+            LOG.warn("problem reading netconf topology: ", e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        List<Node> topologyNodes = topology.isPresent() ? topology.get().getNode() : null;
+        if (topologyNodes != null) {
+            for (Node node : topologyNodes) {
+                NetconfNode netconfNode = node.augmentation(NetconfNode.class);
+                if (node.getNodeId() != null && netconfNode != null) {
+                    nodes.put(node.getNodeId().getValue(), netconfNode);
+                }
+            }
         }
+        return true;
+    }
 
+    /**
+     * Queue the nodes again, if they were not changed meanwhile, so they are read with the next
+     * window. Without debounce they are dropped.
+     */
+    private void retry(List<String> ids) {
+        if (this.scheduler == null) {
+            LOG.warn("unable to read state of {}", ids);
+            return;
+        }
+        for (String nodeId : ids) {
+            this.pendingNodes.putIfAbsent(nodeId, false);
+        }
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            this.scheduler.schedule(this::flush, this.debounceMs, TimeUnit.MILLISECONDS);
+        }
     }
 
     private void handleChange(String nodeId, NetconfNode netconfNode) {
@@ -153,4 +334,11 @@ public class RemoteDeviceConnectionChangeProvider {
         this.listeners.remove(listener);
     }
 
+    @Override
+    public void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
 }
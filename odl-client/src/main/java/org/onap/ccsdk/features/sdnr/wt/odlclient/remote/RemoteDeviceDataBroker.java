@@ -8,36 +8,76 @@
 package org.onap.ccsdk.features.sdnr.wt.odlclient.remote;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteDeviceReadOnlyTransaction;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteDeviceReadWriteTransaction;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteTransaction;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteTransactionChain;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteWriteOnlyTransaction;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.mdsal.binding.api.TransactionChainListener;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 
 public class RemoteDeviceDataBroker extends RemoteDataBroker {
 
 
     private final String nodeId;
+    private final @Nullable RemoteReadCache cache;
 
     public RemoteDeviceDataBroker(RestconfHttpClient odlClient, String nodeId) {
+        this(odlClient, nodeId, null);
+    }
+
+    /**
+     * @param cache cache for reads of read-only transactions or null to read always from remote
+     */
+    public RemoteDeviceDataBroker(RestconfHttpClient odlClient, String nodeId, @Nullable RemoteReadCache cache) {
         super(odlClient);
         this.nodeId = nodeId;
+        this.cache = cache;
     }
 
     @Override
     public ReadTransaction newReadOnlyTransaction() {
-        return new RemoteDeviceReadOnlyTransaction(this.remoteOdlClient, this.nodeId);
+        return new RemoteDeviceReadOnlyTransaction(this.remoteOdlClient, this.nodeId, this.cache);
     }
 
     @Override
     public @NonNull ReadWriteTransaction newReadWriteTransaction() {
-        return new RemoteDeviceReadWriteTransaction(this.remoteOdlClient, this.nodeId);
+        return this.invalidateOnCommit(new RemoteDeviceReadWriteTransaction(this.remoteOdlClient, this.nodeId));
     }
     @Override
     public @NonNull WriteTransaction newWriteOnlyTransaction() {
-        return new RemoteWriteOnlyTransaction(this.remoteOdlClient, this.nodeId);
+        return this.invalidateOnCommit(new RemoteWriteOnlyTransaction(this.remoteOdlClient, this.nodeId));
+    }
+
+    @Override
+    public @NonNull TransactionChain createTransactionChain(@NonNull TransactionChainListener listener) {
+        return new RemoteTransactionChain(this.remoteOdlClient, this.nodeId, listener, false, this.getCommitHook());
+    }
+
+    @Override
+    public @NonNull TransactionChain createMergingTransactionChain(@NonNull TransactionChainListener listener) {
+        return new RemoteTransactionChain(this.remoteOdlClient, this.nodeId, listener, true, this.getCommitHook());
+    }
+
+    private <T extends RemoteTransaction> T invalidateOnCommit(T transaction) {
+        final Runnable hook = this.getCommitHook();
+        if (hook != null) {
+            transaction.setCommitHook(hook);
+        }
+        return transaction;
+    }
+
+    private @Nullable Runnable getCommitHook() {
+        if (this.cache == null) {
+            return null;
+        }
+        final RemoteReadCache readCache = this.cache;
+        return () -> readCache.invalidate(this.nodeId);
     }
 
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.remote;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNull;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectCreationNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectDeletionNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.ReadCacheStatus;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache for device data shared by all device data brokers. Entries are kept per
+ * node, datastore and instance identifier until their ttl expires, they are evicted as least
+ * recently used or their node is invalidated. Nodes are invalidated by value changed, creation and
+ * deletion notifications of the device and by commits of write transactions.
+ * The ttl can be set per subtree by the simple class name of a path argument, e.g. Info:60000.
+ * The most specific subtree wins and a ttl of 0 disables caching for the subtree. Empty results
+ * are not cached.
+ */
+public class RemoteReadCache implements ReadCacheStatus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteReadCache.class);
+    public static final int DEFAULT_SIZE = 1000;
+    public static final long DEFAULT_TTL_MS = 30000;
+
+    private final int maxSize;
+    private final long defaultTtl;
+    private final Map<String, Long> subtreeTtls;
+    private final Map<Key, Entry> entries;
+    /**
+     * Incremented on invalidation, so reads started before are not cached afterwards.
+     */
+    private final Map<String, AtomicLong> generations;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder invalidations;
+
+    public RemoteReadCache() {
+        this(DEFAULT_SIZE, DEFAULT_TTL_MS, Collections.emptyMap());
+    }
+
+    /**
+     * @param maxSize max number of cached entries
+     * @param defaultTtl ttl in ms for entries without subtree ttl
+     * @param subtreeTtls ttl in ms by simple class name of the subtree root
+     */
+    public RemoteReadCache(int maxSize, long defaultTtl, Map<String, Long> subtreeTtls) {
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        this.subtreeTtls = new HashMap<>(subtreeTtls);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (this.size() > RemoteReadCache.this.maxSize) {
+                    RemoteReadCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.generations = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.invalidations = new LongAdder();
+    }
+
+    /**
+     * Get the data from the cache or load it.
+     *
+     * @param nodeId mountpoint
+     * @param store datastore
+     * @param path instance identifier inside the mountpoint
+     * @param loader reads the data from remote
+     * @return cached or loaded data
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(String nodeId,
+            LogicalDatastoreType store, InstanceIdentifier<T> path, Supplier<FluentFuture<Optional<T>>> loader) {
+        final long ttl = this.getTtl(path);
+        if (ttl <= 0) {
+            return loader.get();
+        }
+        final Key key = new Key(nodeId, store, path);
+        synchronized (this.entries) {
+            final Entry entry = this.entries.get(key);
+            if (entry != null) {
+                if (entry.expires - System.nanoTime() > 0) {
+                    this.hits.increment();
+                    return FluentFutures.immediateFluentFuture((Optional<T>) entry.data);
+                }
+                this.entries.remove(key);
+                this.evictions.increment();
+            }
+        }
+        this.misses.increment();
+        final AtomicLong generation = this.generations.computeIfAbsent(nodeId, k -> new AtomicLong());
+        final long readGeneration = generation.get();
+        final FluentFuture<Optional<T>> future = loader.get();
+        future.addCallback(new FutureCallback<Optional<T>>() {
+
+            @Override
+            public void onSuccess(Optional<T> result) {
+                // reads which failed with an error response are empty as well, absence is not cached
+                if (result == null || !result.isPresent()) {
+                    return;
+                }
+                synchronized (RemoteReadCache.this.entries) {
+                    if (generation.get() == readGeneration) {
+                        RemoteReadCache.this.entries.put(key,
+                                new Entry(result, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl)));
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // failures are not cached
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Remove all entries of a node.
+     */
+    public void invalidate(String nodeId) {
+        this.generations.computeIfAbsent(nodeId, k -> new AtomicLong()).incrementAndGet();
+        synchronized (this.entries) {
+            final Iterator<Key> it = this.entries.keySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().nodeId.equals(nodeId)) {
+                    it.remove();
+                }
+            }
+        }
+        this.invalidations.increment();
+        LOG.debug("read cache invalidated for {}", nodeId);
+    }
+
+    public void invalidateAll() {
+        for (AtomicLong generation : this.generations.values()) {
+            generation.incrementAndGet();
+        }
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+        this.invalidations.increment();
+    }
+
+    /**
+     * Invalidate the node of a data change notification. Controller notifications for a mountpoint
+     * invalidate the mountpoint.
+     */
+    public void onNotification(SdnrNotification notification) {
+        if (!(notification instanceof AttributeValueChangedNotification
+                || notification instanceof ObjectCreationNotification
+                || notification instanceof ObjectDeletionNotification)) {
+            return;
+        }
+        final BaseNotification baseNotification = (BaseNotification) notification;
+        final String nodeId = notification.isControllerNotification() ? baseNotification.getObjectId()
+                : baseNotification.getNodeName();
+        if (nodeId != null) {
+            this.invalidate(nodeId);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return this.maxSize;
+    }
+
+    @Override
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return this.invalidations.sum();
+    }
+
+    private long getTtl(InstanceIdentifier<?> path) {
+        long ttl = this.defaultTtl;
+        if (!this.subtreeTtls.isEmpty()) {
+            for (PathArgument arg : path.getPathArguments()) {
+                final Long subtreeTtl = this.subtreeTtls.get(arg.getType().getSimpleName());
+                if (subtreeTtl != null) {
+                    ttl = subtreeTtl.longValue();
+                }
+            }
+        }
+        return ttl;
+    }
+
+    private static final class Key {
+        private final String nodeId;
+        private final LogicalDatastoreType store;
+        private final InstanceIdentifier<?> path;
+
+        Key(String nodeId, LogicalDatastoreType store, InstanceIdentifier<?> path) {
+            this.nodeId = nodeId;
+            this.store = store;
+            this.path = path;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.nodeId, this.store, this.path);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return this.nodeId.equals(other.nodeId) && this.store == other.store && this.path.equals(other.path);
+        }
+    }
+
+    private static final class Entry {
+        private final Optional<?> data;
+        private final long expires;
+
+        Entry(Optional<?> data, long expires) {
+            this.data = data;
+            this.expires = expires;
+        }
+    }
+}
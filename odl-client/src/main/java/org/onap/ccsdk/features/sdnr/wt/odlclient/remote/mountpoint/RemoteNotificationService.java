@@ -7,62 +7,61 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.remote.mountpoint;
 
-import javax.management.Notification;
 import org.eclipse.jdt.annotation.NonNull;
-import org.eclipse.jetty.websocket.api.Session;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.FilteredNotificationWebsocketCallback;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketCallback;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketClient;
 import org.opendaylight.mdsal.binding.api.NotificationService;
+import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.NotificationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Notification service of a mountpoint.
+ *
+ * <p>
+ * The remote controller only forwards its own sdnr notifications (problem, attribute value changed,
+ * object creation and deletion) over the websocket, not the yang notifications of the devices.
+ * These can not be converted into the binding notifications the listeners declare, so node
+ * notifications are not delivered to binding listeners. Registering a listener is accepted and
+ * returns its registration, but no route is added to the websocket client.
+ */
 public class RemoteNotificationService implements NotificationService{
 
-    private final String nodeId;
-    private final SdnrWebsocketClient wsClient;
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteNotificationService.class);
 
+    private final String nodeId;
 
+    /**
+     * @param wsClient websocket client of the remote controller, unused as long as it does not
+     *        forward device notifications
+     * @param nodeId mountpoint node id
+     */
     public RemoteNotificationService(SdnrWebsocketClient wsClient, String nodeId) {
-        this.wsClient = wsClient;
         this.nodeId = nodeId;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends NotificationListener> @NonNull ListenerRegistration<T> registerNotificationListener(
             @NonNull T listener) {
-        return (@NonNull ListenerRegistration<T>) new WebsocketListenerRegistration(this.wsClient,this.nodeId);
+        LOG.debug("notifications of node {} are not delivered to binding listener {}", this.nodeId,
+                listener.getClass());
+        return new WebsocketListenerRegistration<>(listener);
     }
 
-    public class WebsocketListenerRegistration extends FilteredNotificationWebsocketCallback implements ListenerRegistration<NotificationListener> {
+    /**
+     * Registration of a binding listener which keeps the listener instance only.
+     */
+    public static class WebsocketListenerRegistration<T extends NotificationListener>
+            extends AbstractListenerRegistration<T> {
 
-        private final SdnrWebsocketClient wsClient;
-        private final NotificationListener instance;
-        public WebsocketListenerRegistration(SdnrWebsocketClient wsClient,String nodeId) {
-            super(nodeId);
-            this.wsClient = wsClient;
-            this.wsClient.registerWebsocketEventListener(this);
-            this.instance = new NotificationListener() {
-            };
-        }
-        @Override
-        public @NonNull NotificationListener getInstance() {
-           return this.instance;
+        public WebsocketListenerRegistration(T listener) {
+            super(listener);
         }
-        @Override
-        public void close() {
-            this.wsClient.unregisterWebsocketEventListener(this);
 
-        }
         @Override
-        public void onFilteredNotificationReceived(ProblemNotification notification) {
-
+        protected void removeRegistration() {
+            // nothing registered
         }
-
-
-
     }
 }
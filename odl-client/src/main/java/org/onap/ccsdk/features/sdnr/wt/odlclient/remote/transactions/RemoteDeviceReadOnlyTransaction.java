@@ -11,6 +11,8 @@ import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteReadCache;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -20,13 +22,33 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class RemoteDeviceReadOnlyTransaction extends RemoteTransaction implements ReadTransaction {
 
+    private final @Nullable RemoteReadCache cache;
+
     public RemoteDeviceReadOnlyTransaction(RestconfHttpClient remoteOdlClient, String nodeId) {
+        this(remoteOdlClient, nodeId, null);
+    }
+
+    public RemoteDeviceReadOnlyTransaction(RestconfHttpClient remoteOdlClient, String nodeId,
+            @Nullable RemoteReadCache cache) {
         super(remoteOdlClient, nodeId);
+        this.cache = cache;
     }
 
     @Override
     public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<T> path) {
+        if (this.cache != null) {
+            return this.readAfterPendingWrites(
+                    () -> this.cache.read(this.nodeId, store, path, () -> this.readRemote(store, path)));
+        }
+        return this.readAfterPendingWrites(() -> this.readRemote(store, path));
+    }
+
+    private <T extends DataObject> @NonNull FluentFuture<Optional<T>> readRemote(
+            @NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path) {
+        if (this.client.isLazyRead()) {
+            return this.readLazyRemote(store, path);
+        }
         try {
             return this.client.read(store, path, this.nodeId);
         } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
@@ -35,6 +57,25 @@ public class RemoteDeviceReadOnlyTransaction extends RemoteTransaction implement
         }
     }
 
+    /**
+     * Read data as lazy proxy. Child containers and lists are decoded from the kept response when
+     * their getters are called first.
+     */
+    public <T extends DataObject> @NonNull FluentFuture<Optional<T>> readLazy(@NonNull LogicalDatastoreType store,
+            @NonNull InstanceIdentifier<T> path) {
+        return this.readAfterPendingWrites(() -> this.readLazyRemote(store, path));
+    }
+
+    private <T extends DataObject> @NonNull FluentFuture<Optional<T>> readLazyRemote(
+            @NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path) {
+        try {
+            return this.client.readLazy(store, path, this.nodeId);
+        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
+                | IllegalAccessException | IOException e) {
+            return FluentFutures.immediateFailedFluentFuture(e);
+        }
+    }
+
     @Override
     public @NonNull FluentFuture<Boolean> exists(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<?> path) {
@@ -10,7 +10,6 @@ package org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions;
 import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
 import org.eclipse.jdt.annotation.NonNull;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
@@ -25,34 +24,19 @@ import org.slf4j.LoggerFactory;
 public class RemoteDeviceReadWriteTransaction extends RemoteTransaction implements ReadWriteTransaction {
 
     private static final Logger LOG = LoggerFactory.getLogger(RemoteDeviceReadWriteTransaction.class);
-    private FluentFuture<?> futureRequest;
 
     public RemoteDeviceReadWriteTransaction(RestconfHttpClient remoteOdlClient, String nodeId) {
         super(remoteOdlClient, nodeId);
-        this.futureRequest = null;
     }
 
     @Override
     public boolean cancel() {
-        // TODO Auto-generated method stub
-        return false;
+        return this.cancelRequests();
     }
 
     @Override
     public @NonNull FluentFuture<? extends @NonNull CommitInfo> commit() {
-        CommitInfo result = new CommitInfo() {
-
-        };
-        //       LOG.warn("rw transaction not yet implemented: commit, {}",whoCalledMeAll());
-        if (this.futureRequest != null) {
-            try {
-                this.futureRequest.get();
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("problem executing request: ", e);
-            }
-        }
-        this.pushSuccess(result, COMMIT_DELAY);
-        return FluentFutures.immediateFluentFuture(result);
+        return this.commitRequests();
     }
 
     @Override
@@ -65,24 +49,14 @@ public class RemoteDeviceReadWriteTransaction extends RemoteTransaction implemen
     public <T extends DataObject> void put(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path,
             @NonNull T data) {
         LOG.debug("rw transaction now implemented: put");
-        try {
-            this.futureRequest = this.client.put(store, path, data, this.nodeId);
-        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
-                | IllegalAccessException e) {
-            LOG.warn("problem creating put request: ", e);
-        }
+        this.addPut(store, path, data);
     }
 
     @Override
     public <T extends DataObject> void put(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path,
             @NonNull T data, boolean createMissingParents) {
         LOG.debug("rw transaction now implemented: deprecated put");
-        try {
-            this.futureRequest = this.client.put(store, path, data, this.nodeId);
-        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
-                | IllegalAccessException e) {
-            LOG.warn("problem creating put request: ", e);
-        }
+        this.addPut(store, path, data);
     }
 
     @Override
@@ -95,24 +69,14 @@ public class RemoteDeviceReadWriteTransaction extends RemoteTransaction implemen
     public <T extends DataObject> void merge(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> instanceIdentifier,
             @NonNull T data, boolean createMissingParents) {
         LOG.debug("rw transaction now implemented: deprecated merge ");
-        try {
-            this.futureRequest = this.client.merge(store, instanceIdentifier, data, this.nodeId);
-        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
-                | IllegalAccessException e) {
-            LOG.warn("problem creating merge request: ", e);
-        }
+        this.addMerge(store, instanceIdentifier, data);
     }
 
     @Override
     public <T extends DataObject> void merge(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<T> instanceIdentifier, @NonNull T data) {
         LOG.debug("rw transaction now implemented: merge ");
-        try {
-            this.futureRequest = this.client.merge(store, instanceIdentifier, data, this.nodeId);
-        } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
-                | IllegalAccessException e) {
-            LOG.warn("problem creating merge request: ", e);
-        }
+        this.addMerge(store, instanceIdentifier, data);
     }
 
     @Override
@@ -124,17 +88,17 @@ public class RemoteDeviceReadWriteTransaction extends RemoteTransaction implemen
     @Override
     public void delete(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<?> path) {
         LOG.debug("rw transaction now implemented: delete ");
-        try {
-            this.futureRequest = this.client.delete(store, path, this.nodeId);
-        } catch (SecurityException | IllegalArgumentException | ClassNotFoundException | NoSuchFieldException
-                | IllegalAccessException e) {
-            LOG.warn("problem deleting {} in {} for node {}: ", path, store, this.nodeId, e);
-        }
+        this.addDelete(store, path);
     }
 
     @Override
     public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<T> path) {
+        return this.readAfterPendingWrites(() -> this.readRemote(store, path));
+    }
+
+    private <T extends DataObject> @NonNull FluentFuture<Optional<T>> readRemote(
+            @NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path) {
         try {
             return this.client.read(store, path, this.nodeId);
         } catch (ClassNotFoundException | NoSuchFieldException | SecurityException | IllegalArgumentException
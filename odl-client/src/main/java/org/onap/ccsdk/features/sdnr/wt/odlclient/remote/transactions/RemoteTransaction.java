@@ -7,58 +7,285 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions;
 
+import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import org.checkerframework.checker.nullness.qual.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit.Operation;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfRequestException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.YangPatchException;
 import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Base of the remote transactions. Put, merge and delete operations are recorded and sent on
+ * commit. More than one operation is sent as one ietf-yang-patch request. If the remote odl does
+ * not support yang-patch for the node, the requests are chained without blocking, so the commit future
+ * completes when the remote odl acknowledged the last request or fails with the first failed
+ * request.
+ */
 public class RemoteTransaction {
 
-    public static final long COMMIT_DELAY = 2000;
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteTransaction.class);
+    private static final AtomicLong PATCH_IDS = new AtomicLong();
+    private static final ExecutorService CALLBACK_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("odlclient-commit-callback-%d").setDaemon(true).build());
 
-    protected final List<FutureCallback<CommitInfo>> callbacks;
+    /**
+     * Completed with the commit result, so callbacks can be added before and after commit.
+     */
+    private final SettableFuture<CommitInfo> commitResult;
     protected final RestconfHttpClient client;
     protected final String nodeId;
+    /**
+     * Requests are sent on creation, so keep them until commit to preserve their order.
+     */
+    private final List<Edit> edits;
+    private Runnable commitHook;
+    private RemoteTransactionChain chain;
+    /**
+     * Completed when the writes committed before in the same chain are sent, null outside of a chain.
+     */
+    private ListenableFuture<?> pendingWrites;
+    private volatile boolean committed;
     public RemoteTransaction(RestconfHttpClient remoteOdlClient, String nodeId) {
-        this.callbacks = new ArrayList<>();
+        this.commitResult = SettableFuture.create();
         this.client = remoteOdlClient;
         this.nodeId = nodeId;
+        this.edits = new ArrayList<>();
+        this.committed = false;
     }
+    /**
+     * @param cb called when the commit is finished
+     * @param scheduledExecutorService executor for the callback or null to use a shared one
+     */
     public void addCallback(FutureCallback<CommitInfo> cb, ScheduledExecutorService scheduledExecutorService) {
-        this.callbacks.add(cb);
+        Futures.addCallback(this.commitResult, cb,
+                scheduledExecutorService == null ? CALLBACK_EXECUTOR : scheduledExecutorService);
+    }
+    /**
+     * @param hook called after the requests of the transaction were sent to the remote odl
+     */
+    public void setCommitHook(Runnable hook) {
+        this.commitHook = hook;
+    }
+    /**
+     * @param chain chain which sends the requests in order with the other transactions of the chain
+     */
+    void setChain(RemoteTransactionChain chain) {
+        this.chain = chain;
+    }
+
+    /**
+     * @param pendingWrites completed when the earlier transactions of the chain are sent or null
+     */
+    void setPendingWrites(ListenableFuture<?> pendingWrites) {
+        this.pendingWrites = pendingWrites;
+    }
+
+    /**
+     * Start the read after the earlier transactions of the chain were sent, so it sees their
+     * effects. A failed write does not fail the read.
+     */
+    protected <T> FluentFuture<T> readAfterPendingWrites(Supplier<FluentFuture<T>> read) {
+        final ListenableFuture<?> writes = this.pendingWrites;
+        if (writes == null || writes.isDone()) {
+            return read.get();
+        }
+        return FluentFuture.from(Futures.whenAllComplete(Futures.nonCancellationPropagating(writes))
+                .callAsync(read::get, MoreExecutors.directExecutor()));
+    }
+
+    protected void onCommitted() {
+        if (this.commitHook != null) {
+            this.commitHook.run();
+        }
+    }
+
+    protected <T extends DataObject> void addPut(LogicalDatastoreType store, InstanceIdentifier<T> path, T data) {
+        this.checkNotCommitted();
+        this.edits.add(new Edit(this, Operation.REPLACE, store, path, data,
+                () -> this.client.put(store, path, data, this.nodeId)));
+    }
+
+    protected <T extends DataObject> void addMerge(LogicalDatastoreType store, InstanceIdentifier<T> path, T data) {
+        this.checkNotCommitted();
+        this.edits.add(new Edit(this, Operation.MERGE, store, path, data,
+                () -> this.client.merge(store, path, data, this.nodeId)));
     }
-    protected void pushFailure(Throwable t) {
-        for(FutureCallback<CommitInfo> cb:this.callbacks) {
-            cb.onFailure(t);
+
+    protected void addDelete(LogicalDatastoreType store, InstanceIdentifier<?> path) {
+        this.checkNotCommitted();
+        this.edits.add(new Edit(this, Operation.REMOVE, store, path, null,
+                () -> this.client.delete(store, path, this.nodeId)));
+    }
+
+    private void checkNotCommitted() {
+        if (this.committed) {
+            throw new IllegalStateException("transaction for " + this.nodeId + " already committed");
         }
     }
-    protected void pushSuccess(@Nullable CommitInfo result) {
-        for(FutureCallback<CommitInfo> cb:this.callbacks) {
-            cb.onSuccess(result);
+
+    /**
+     * Drop the recorded requests.
+     *
+     * @return false if the transaction was already committed
+     */
+    protected boolean cancelRequests() {
+        if (this.committed) {
+            return false;
         }
+        this.committed = true;
+        this.edits.clear();
+        this.commitResult.cancel(false);
+        return true;
     }
 
-    protected void pushSuccess(final @Nullable CommitInfo result, long delayMillis) {
-        new Thread(new Runnable() {
+    /**
+     * Send the recorded requests as one yang-patch or one by one, if yang-patch is not supported.
+     *
+     * @return future which completes when all requests succeeded
+     */
+    protected FluentFuture<? extends CommitInfo> commitRequests() {
+        if (this.committed) {
+            return FluentFutures.immediateFailedFluentFuture(
+                    new IllegalStateException("transaction for " + this.nodeId + " already committed"));
+        }
+        this.committed = true;
+        if (this.chain != null) {
+            return this.chain.enqueue(this);
+        }
+        return this.complete(this.send(this.edits));
+    }
 
-            @Override
-            public void run() {
-                try {
-                    Thread.sleep(delayMillis);
-                } catch (InterruptedException e) {
+    /**
+     * @return recorded edits
+     */
+    List<Edit> getEdits() {
+        return this.edits;
+    }
 
+    /**
+     * Send edits of this or of several transactions of a chain.
+     */
+    ListenableFuture<Object> send(List<Edit> batch) {
+        if (batch.size() > 1 && this.client.isYangPatch(this.nodeId)) {
+            return Futures.catchingAsync(this.sendPatch(batch), RestconfRequestException.class, e -> {
+                if (!isYangPatchUnsupported(e.getCode())) {
+                    throw e;
                 }
-                RemoteTransaction.this.pushSuccess(result);
+                LOG.info("yang-patch not supported for {} by remote odl ({}). sending single requests", this.nodeId,
+                        e.getCode());
+                this.client.setYangPatchUnsupported(this.nodeId);
+                return sendSequential(batch);
+            }, MoreExecutors.directExecutor());
+        }
+        return sendSequential(batch);
+    }
+
+    /**
+     * Complete the commit when the requests are sent.
+     *
+     * @param requests result of the requests
+     * @return commit future of this transaction
+     */
+    FluentFuture<CommitInfo> complete(ListenableFuture<?> requests) {
+        // run the hook before the commit future completes, also on failure as some requests may be applied
+        final FluentFuture<CommitInfo> result = FluentFuture.from(requests).transform(r -> {
+            this.onCommitted();
+            return CommitInfo.empty();
+        }, MoreExecutors.directExecutor()).catchingAsync(Exception.class, e -> {
+            final Throwable cause = e instanceof EditFailedException ? e.getCause() : e;
+            LOG.warn("problem executing requests: ", cause);
+            this.onCommitted();
+            return Futures.immediateFailedFuture(
+                    new TransactionCommitFailedException("commit for " + this.nodeId + " failed", cause));
+        }, MoreExecutors.directExecutor());
+        this.commitResult.setFuture(result);
+        return result;
+    }
+
+    /**
+     * Send the edits as one yang-patch. If the yang-patch-status rejects an edit, the future fails
+     * with an {@link EditFailedException} for the first rejected edit.
+     */
+    private ListenableFuture<Object> sendPatch(List<Edit> batch) {
+        final List<YangPatchEdit> patchEdits = new ArrayList<>(batch.size());
+        final Map<String, Edit> editIds = new HashMap<>();
+        try {
+            for (Edit edit : batch) {
+                final String editId = "edit-" + (patchEdits.size() + 1);
+                patchEdits.add(new YangPatchEdit(editId, edit.operation, this.client.getYangPatchTarget(edit.path),
+                        edit.data));
+                editIds.put(editId, edit);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        final ListenableFuture<Object> result =
+                asObjectFuture(this.client.patch(this.nodeId, "odlclient-" + PATCH_IDS.incrementAndGet(), patchEdits));
+        return Futures.catchingAsync(result, YangPatchException.class, e -> {
+            final List<String> failed = e.getStatus().getFailedEditIds();
+            final Edit edit = failed.isEmpty() ? null : editIds.get(failed.get(0));
+            if (edit == null) {
+                throw e;
             }
+            return Futures.immediateFailedFuture(new EditFailedException(edit, e));
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Each request is sent when the previous one was acknowledged. A failed request fails with an
+     * {@link EditFailedException}.
+     */
+    private static ListenableFuture<Object> sendSequential(List<Edit> batch) {
+        ListenableFuture<?> requests = Futures.immediateFuture(null);
+        for (Edit edit : batch) {
+            requests = Futures.transformAsync(requests, r -> Futures.catchingAsync(edit.send(), Exception.class,
+                    e -> Futures.immediateFailedFuture(new EditFailedException(edit, e)),
+                    MoreExecutors.directExecutor()), MoreExecutors.directExecutor());
+        }
+        return asObjectFuture(requests);
+    }
 
-        }).start();
+    /**
+     * Widen the result type, so patch and fallback can be combined.
+     */
+    private static ListenableFuture<Object> asObjectFuture(ListenableFuture<?> future) {
+        return Futures.transform(future, r -> r, MoreExecutors.directExecutor());
     }
+
+    /**
+     * @return true if the response code means that the remote odl does not accept yang-patch
+     */
+    private static boolean isYangPatchUnsupported(int code) {
+        return code == 405 || code == 415 || code == 501;
+    }
+
     public static String whoCalledMe() {
         StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
         StackTraceElement caller = stackTraceElements[3];
@@ -86,4 +313,68 @@ public class RemoteTransaction {
         }
         return exception;
     }
-}
\ No newline at end of file
+
+    /**
+     * Failure of a request which was sent for an edit.
+     */
+    static final class EditFailedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+        private final transient Edit edit;
+
+        EditFailedException(Edit edit, Throwable cause) {
+            super(cause);
+            this.edit = edit;
+        }
+
+        Edit getEdit() {
+            return this.edit;
+        }
+    }
+
+    static final class Edit {
+        private final RemoteTransaction transaction;
+        private final Operation operation;
+        private final LogicalDatastoreType store;
+        private final InstanceIdentifier<?> path;
+        private final DataObject data;
+        private final Callable<FluentFuture<?>> request;
+
+        Edit(RemoteTransaction transaction, Operation operation, LogicalDatastoreType store,
+                InstanceIdentifier<?> path, DataObject data, Callable<FluentFuture<?>> request) {
+            this.transaction = transaction;
+            this.operation = operation;
+            this.store = store;
+            this.path = path;
+            this.data = data;
+            this.request = request;
+        }
+
+        Operation getOperation() {
+            return this.operation;
+        }
+
+        LogicalDatastoreType getStore() {
+            return this.store;
+        }
+
+        InstanceIdentifier<?> getPath() {
+            return this.path;
+        }
+
+        /**
+         * @return transaction which recorded the edit
+         */
+        RemoteTransaction getTransaction() {
+            return this.transaction;
+        }
+
+        ListenableFuture<?> send() {
+            try {
+                return this.request.call();
+            } catch (Exception e) {
+                return Futures.immediateFailedFuture(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit.Operation;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.binding.api.Transaction;
+import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.mdsal.binding.api.TransactionChainListener;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.TransactionChainClosedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Chain of remote transactions for one mountpoint or the datastore of the remote odl. Commits do
+ * not block, the transactions are queued and a transaction is sent when the requests of the
+ * previous one were acknowledged, so the remote odl applies them in commit order. Requests are not
+ * pipelined, only one transaction is in flight at a time. A merging chain sends all queued
+ * transactions as one request and drops edits which are overwritten by a later replace or remove
+ * of the same or a parent path in the same datastore.
+ * Reads of a transaction created by the chain are sent when the transactions committed before
+ * were sent, so they see their effects.
+ * If a transaction fails, the chain fails and all queued and later transactions fail too. The
+ * listener is informed outside of the chain lock.
+ */
+public class RemoteTransactionChain implements TransactionChain {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteTransactionChain.class);
+
+    private final RestconfHttpClient client;
+    private final String nodeId;
+    private final TransactionChainListener listener;
+    private final boolean merging;
+    private final Runnable commitHook;
+    private final Deque<Pending> pending;
+    /**
+     * Completed when the last committed transaction was sent or failed.
+     */
+    private ListenableFuture<Object> lastSent;
+    private boolean inFlight;
+    private boolean closed;
+    private Throwable failure;
+
+    /**
+     * @param client client for the remote odl
+     * @param nodeId mountpoint or null for the datastore of the remote odl
+     * @param listener listener for the chain state
+     * @param merging true if queued transactions should be sent as one request
+     * @param commitHook called after the requests of each transaction were sent or null
+     */
+    public RemoteTransactionChain(RestconfHttpClient client, @Nullable String nodeId,
+            TransactionChainListener listener, boolean merging, @Nullable Runnable commitHook) {
+        this.client = client;
+        this.nodeId = nodeId;
+        this.listener = listener;
+        this.merging = merging;
+        this.commitHook = commitHook;
+        this.pending = new ArrayDeque<>();
+        this.lastSent = null;
+        this.inFlight = false;
+        this.closed = false;
+        this.failure = null;
+    }
+
+    @Override
+    public @NonNull ReadTransaction newReadOnlyTransaction() {
+        this.checkNotClosed();
+        final RemoteDeviceReadOnlyTransaction transaction = new RemoteDeviceReadOnlyTransaction(this.client,
+                this.nodeId);
+        transaction.setPendingWrites(this.getPendingWrites());
+        return transaction;
+    }
+
+    @Override
+    public @NonNull ReadWriteTransaction newReadWriteTransaction() {
+        this.checkNotClosed();
+        final RemoteDeviceReadWriteTransaction transaction =
+                this.attach(new RemoteDeviceReadWriteTransaction(this.client, this.nodeId));
+        transaction.setPendingWrites(this.getPendingWrites());
+        return transaction;
+    }
+
+    @Override
+    public @NonNull WriteTransaction newWriteOnlyTransaction() {
+        this.checkNotClosed();
+        return this.attach(new RemoteWriteOnlyTransaction(this.client, this.nodeId));
+    }
+
+    /**
+     * Close the chain. The listener is informed when the queued transactions are sent.
+     */
+    @Override
+    public void close() {
+        final boolean done;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            done = !this.inFlight && this.failure == null;
+        }
+        if (done) {
+            this.listener.onTransactionChainSuccessful(this);
+        }
+    }
+
+    /**
+     * @return true if the merging variant
+     */
+    public boolean isMerging() {
+        return this.merging;
+    }
+
+    private <T extends RemoteTransaction> T attach(T transaction) {
+        transaction.setChain(this);
+        if (this.commitHook != null) {
+            transaction.setCommitHook(this.commitHook);
+        }
+        return transaction;
+    }
+
+    /**
+     * @return future of the last committed transaction or null if all are sent
+     */
+    private synchronized ListenableFuture<?> getPendingWrites() {
+        return this.lastSent == null || this.lastSent.isDone() ? null : this.lastSent;
+    }
+
+    private synchronized void checkNotClosed() {
+        if (this.closed) {
+            throw new TransactionChainClosedException("transaction chain for " + this.nodeId + " is closed");
+        }
+    }
+
+    /**
+     * Queue a committed transaction.
+     *
+     * @return commit future of the transaction
+     */
+    FluentFuture<CommitInfo> enqueue(RemoteTransaction transaction) {
+        final SettableFuture<Object> sent = SettableFuture.create();
+        final List<Pending> batch;
+        synchronized (this) {
+            this.lastSent = sent;
+            if (this.failure == null) {
+                this.pending.add(new Pending(transaction, sent));
+                batch = this.inFlight ? null : this.nextBatch();
+            } else {
+                batch = null;
+                sent.setException(
+                        new IllegalStateException("transaction chain for " + this.nodeId + " failed", this.failure));
+            }
+        }
+        if (batch != null) {
+            this.send(batch);
+        }
+        return transaction.complete(sent);
+    }
+
+    /**
+     * Take the next queued transaction or all queued transactions for a merging chain. Must be
+     * called while holding the lock.
+     *
+     * @return transactions to send or null if the queue is empty
+     */
+    private List<Pending> nextBatch() {
+        if (this.pending.isEmpty()) {
+            this.inFlight = false;
+            return null;
+        }
+        final List<Pending> batch = new ArrayList<>();
+        do {
+            batch.add(this.pending.poll());
+        } while (this.merging && !this.pending.isEmpty());
+        this.inFlight = true;
+        return batch;
+    }
+
+    /**
+     * Send a batch. Must be called without holding the lock, completing the futures runs callbacks.
+     */
+    private void send(List<Pending> batch) {
+        final List<RemoteTransaction.Edit> edits = new ArrayList<>();
+        for (Pending p : batch) {
+            edits.addAll(p.transaction.getEdits());
+        }
+        final ListenableFuture<Object> result = edits.isEmpty() ? Futures.immediateFuture(null)
+                : batch.get(0).transaction.send(batch.size() > 1 ? dropOverwritten(edits) : edits);
+        if (batch.size() > 1) {
+            LOG.debug("sending {} merged transactions with {} edits for {}", batch.size(), edits.size(),
+                    this.nodeId);
+        }
+        for (Pending p : batch) {
+            p.sent.setFuture(result);
+        }
+        result.addListener(() -> this.onSent(batch, result), MoreExecutors.directExecutor());
+    }
+
+    private void onSent(List<Pending> batch, ListenableFuture<Object> result) {
+        Throwable cause = null;
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            cause = e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = e;
+        }
+        // the transaction which recorded the failed edit, the first one if the edit is not known
+        RemoteTransaction failedTransaction = batch.get(0).transaction;
+        if (cause instanceof RemoteTransaction.EditFailedException) {
+            failedTransaction = ((RemoteTransaction.EditFailedException) cause).getEdit().getTransaction();
+            cause = cause.getCause();
+        }
+        final List<Pending> failed;
+        final List<Pending> next;
+        final boolean done;
+        synchronized (this) {
+            if (cause == null) {
+                next = this.nextBatch();
+                done = this.closed && !this.inFlight;
+                failed = Collections.emptyList();
+            } else {
+                this.failure = cause;
+                this.inFlight = false;
+                failed = new ArrayList<>(this.pending);
+                this.pending.clear();
+                next = null;
+                done = false;
+            }
+        }
+        if (next != null) {
+            this.send(next);
+        } else if (cause != null) {
+            LOG.warn("transaction chain for {} failed: ", this.nodeId, cause);
+            for (Pending p : failed) {
+                p.sent.setException(
+                        new IllegalStateException("transaction chain for " + this.nodeId + " failed", cause));
+            }
+            this.listener.onTransactionChainFailed(this, (Transaction) failedTransaction, cause);
+        } else if (done) {
+            this.listener.onTransactionChainSuccessful(this);
+        }
+    }
+
+    /**
+     * Drop edits which are overwritten by a later replace or remove of the same or a parent path in
+     * the same datastore.
+     */
+    static List<RemoteTransaction.Edit> dropOverwritten(List<RemoteTransaction.Edit> edits) {
+        final List<RemoteTransaction.Edit> result = new ArrayList<>(edits.size());
+        final List<RemoteTransaction.Edit> overwriting = new ArrayList<>();
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            final RemoteTransaction.Edit edit = edits.get(i);
+            if (!isOverwritten(edit, overwriting)) {
+                result.add(edit);
+            }
+            if (edit.getOperation() != Operation.MERGE) {
+                overwriting.add(edit);
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static boolean isOverwritten(RemoteTransaction.Edit edit, List<RemoteTransaction.Edit> overwriting) {
+        for (RemoteTransaction.Edit parent : overwriting) {
+            if (parent.getStore() == edit.getStore() && parent.getPath().contains(edit.getPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Pending {
+        private final RemoteTransaction transaction;
+        private final SettableFuture<Object> sent;
+
+        Pending(RemoteTransaction transaction, SettableFuture<Object> sent) {
+            this.transaction = transaction;
+            this.sent = sent;
+        }
+    }
+}
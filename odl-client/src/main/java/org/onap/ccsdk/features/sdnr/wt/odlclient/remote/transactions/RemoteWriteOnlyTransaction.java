@@ -13,7 +13,6 @@ import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
@@ -37,7 +36,8 @@ public class RemoteWriteOnlyTransaction extends RemoteTransaction implements Wri
     @Override
     public <T extends DataObject> void put(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path,
             @NonNull T data) {
-        LOG.warn("w transaction not yet implemented: put, {}", whoCalledMeAll());
+        LOG.debug("w transaction now implemented: put");
+        this.addPut(store, path, data);
     }
 
     @Override
@@ -50,8 +50,8 @@ public class RemoteWriteOnlyTransaction extends RemoteTransaction implements Wri
     @Override
     public <T extends DataObject> void merge(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<T> path,
             @NonNull T data) {
-        LOG.warn("w transaction not yet implemented: merge, {}", whoCalledMeAll());
-
+        LOG.debug("w transaction now implemented: merge");
+        this.addMerge(store, path, data);
     }
 
     @Override
@@ -62,25 +62,18 @@ public class RemoteWriteOnlyTransaction extends RemoteTransaction implements Wri
 
     @Override
     public void delete(@NonNull LogicalDatastoreType store, @NonNull InstanceIdentifier<?> path) {
-        LOG.warn("w transaction not yet implemented: mergeParentStructureMerge {}", whoCalledMeAll());
+        LOG.debug("w transaction now implemented: delete");
+        this.addDelete(store, path);
     }
 
     @Override
     public boolean cancel() {
-
-        return false;
+        return this.cancelRequests();
     }
 
     @Override
     public @NonNull FluentFuture<? extends @NonNull CommitInfo> commit() {
-        LOG.warn("w transaction not yet implemented: commit, {}", whoCalledMeAll());
-
-        CommitInfo result = new CommitInfo() {
-
-        };
-        this.pushSuccess(result, COMMIT_DELAY);
-        return FluentFutures.immediateFluentFuture(result);
-
+        return this.commitRequests();
     }
 
 
@@ -7,131 +7,226 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
 
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPClient;
-import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPResponse;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPStreamingResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-
-public class FutureRestRequest<T> implements ListenableFuture<Optional<T>> {
+/**
+ * Restconf request which is sent when it is created. The http call itself is non blocking, the
+ * response body is decoded on a shared executor while it is received. Non 2xx responses result in
+ * an empty optional for reads and in a {@link RestconfRequestException} for requests which modify
+ * data, failed requests complete the future exceptionally.
+ */
+public class FutureRestRequest<T> extends AbstractFuture<Optional<T>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FutureRestRequest.class);
+    /**
+     * Decoders block on reading the body from the connection, so the pool is not bounded by the cpu count.
+     */
+    private static final ExecutorService DECODER_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("odlclient-decoder-%d").setDaemon(true).build());
+
+    /**
+     * Decodes the body of a successful response.
+     */
+    @FunctionalInterface
+    public interface ResponseDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
+
+    public static <T> FluentFuture<Optional<T>> createFutureGetRequest(BaseHTTPClient client, String uri, byte[] data,
+            Map<String, String> headers, Class<T> clazz, WireFormat format) {
+        return createFutureGetRequest(client, uri, data, headers, createDecoder(clazz, format));
+    }
 
-    public static <T> FluentFuture<Optional<T>> createFutureGetRequest(BaseHTTPClient client, String uri, String data,
-            Map<String, String> headers, Class<T> clazz, boolean clearWrappingParent) {
-        return FluentFuture
-                .from(new FutureRestRequest<T>(client, uri, "GET", data, headers, clazz, clearWrappingParent));
+    public static <T> FluentFuture<Optional<T>> createFutureGetRequest(BaseHTTPClient client, String uri, byte[] data,
+            Map<String, String> headers, ResponseDecoder<T> decoder) {
+        return FluentFuture.from(new FutureRestRequest<T>(client, uri, "GET", data, headers, decoder,
+                false).start());
     }
 
-    public static <T> FluentFuture<Optional<T>> createFuturePutRequest(BaseHTTPClient client, String uri, String data,
-            Map<String, String> headers, boolean clearWrappingParent) {
-        return FluentFuture
-                .from(new FutureRestRequest<T>(client, uri, "PUT", data, headers, null, clearWrappingParent));
+    public static <T> FluentFuture<Optional<T>> createFuturePutRequest(BaseHTTPClient client, String uri, byte[] data,
+            Map<String, String> headers) {
+        return FluentFuture.from(new FutureRestRequest<T>(client, uri, "PUT", data, headers, null,
+                true).start());
     }
 
-    public static <T> FluentFuture<Optional<T>> createFuturePostRequest(BaseHTTPClient client, String uri, String data,
-            Map<String, String> headers, Class<T> clazz, boolean clearWrappingParent) {
-        return FluentFuture
-                .from(new FutureRestRequest<T>(client, uri, "POST", data, headers, clazz, clearWrappingParent));
+    public static <T> FluentFuture<Optional<T>> createFuturePostRequest(BaseHTTPClient client, String uri, byte[] data,
+            Map<String, String> headers, Class<T> clazz, WireFormat format) {
+        return FluentFuture.from(new FutureRestRequest<T>(client, uri, "POST", data, headers,
+                createDecoder(clazz, format), true).start());
     }
 
     public static <T> FluentFuture<Optional<T>> createFutureDeleteRequest(BaseHTTPClient client, String uri,
-            String data, Map<String, String> headers, boolean clearWrappingParent) {
-        return FluentFuture
-                .from(new FutureRestRequest<T>(client, uri, "DELETE", data, headers, null, clearWrappingParent));
+            byte[] data, Map<String, String> headers) {
+        return FluentFuture.from(new FutureRestRequest<T>(client, uri, "DELETE", data, headers, null,
+                true).start());
+    }
+
+    /**
+     * Send an ietf-yang-patch request. A yang-patch-status without ok fails the future with a
+     * {@link YangPatchException} like a non 2xx response with a yang-patch-status.
+     */
+    public static FluentFuture<Optional<Void>> createFuturePatchRequest(BaseHTTPClient client, String uri,
+            byte[] data, Map<String, String> headers) {
+        final ResponseDecoder<Void> statusDecoder = body -> {
+            final String content = new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8);
+            final YangPatchStatus status = YangPatchStatus.parse(content);
+            if (!status.isOk()) {
+                throw new YangPatchException(uri, 200, content, status);
+            }
+            return null;
+        };
+        return FluentFuture.from(new FutureRestRequest<Void>(client, uri, "PATCH", data, headers, statusDecoder,
+                true).start());
+    }
+
+    /**
+     * @return decoder using the shared jackson mappers or null if no response data is expected
+     */
+    static <T> ResponseDecoder<T> createDecoder(Class<T> clazz, WireFormat format) {
+        if (clazz == null) {
+            return null;
+        }
+        if (format == WireFormat.JSON) {
+            return body -> OdlMapperRegistry.getInstance().getJsonDataMapper().readRestconfValue(body, clazz);
+        }
+        return body -> OdlMapperRegistry.getInstance().getDataMapper().readValue(body, clazz);
+    }
+
+    /**
+     * @return shared executor for decoding responses
+     */
+    static ExecutorService getDecoderExecutor() {
+        return DECODER_EXECUTOR;
     }
 
     private final BaseHTTPClient client;
     private final String uri;
     private final String method;
-    private final String data;
+    private final byte[] data;
     private final Map<String, String> headers;
-    private final Class<T> clazz;
-    private boolean isDone;
-    private boolean isCancelled;
-    private boolean clearWrappingParent;
-    private final RequestCallback callback;
-
-    private FutureRestRequest(BaseHTTPClient client, String uri, String method, String data,
-            Map<String, String> headers, Class<T> clazz, boolean clearWrappingParent) {
-        this(client, uri, method, data, headers, clazz, clearWrappingParent, null);
-    }
-    private FutureRestRequest(BaseHTTPClient client, String uri, String method, String data,
-            Map<String, String> headers, Class<T> clazz, boolean clearWrappingParent, RequestCallback callback) {
+    private final ResponseDecoder<T> decoder;
+    private final boolean failOnError;
+    private volatile ListenableFuture<BaseHTTPStreamingResponse> response;
+
+    private FutureRestRequest(BaseHTTPClient client, String uri, String method, byte[] data,
+            Map<String, String> headers, ResponseDecoder<T> decoder, boolean failOnError) {
         this.client = client;
         this.uri = uri;
         this.method = method;
         this.data = data;
         this.headers = headers;
-        this.clazz = clazz;
-        this.isDone = false;
-        this.isCancelled = false;
-        this.clearWrappingParent = clearWrappingParent;
-        this.callback = callback;
+        this.decoder = decoder;
+        this.failOnError = failOnError;
     }
 
-    @Override
-    public boolean cancel(boolean arg0) {
-        this.isCancelled = arg0;
-        return this.isCancelled;
+    /**
+     * Dispatch the request. Cancelling this future aborts the pending http request or the transfer
+     * of the response body.
+     */
+    private FutureRestRequest<T> start() {
+        LOG.debug("request {} {}", this.method, this.uri);
+        this.response = this.client.sendStreamingRequestAsync(this.uri, this.method, this.data, this.headers);
+        this.response.addListener(this::onResponse, DECODER_EXECUTOR);
+        return this;
     }
 
-    @Override
-    public Optional<T> get() throws InterruptedException, ExecutionException {
+    /**
+     * Not done with Futures.transform to keep the checked exceptions of the decoder as cause.
+     */
+    private void onResponse() {
+        final BaseHTTPStreamingResponse r;
         try {
-            return get(30, TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            LOG.warn("request timeout:", e);
+            r = Futures.getDone(this.response);
+        } catch (ExecutionException e) {
+            this.setException(e.getCause());
+            return;
+        } catch (CancellationException e) {
+            this.cancel(false);
+            return;
+        }
+        if (this.isCancelled()) {
+            r.abort();
+            return;
+        }
+        try {
+            this.set(this.decode(r));
+        } catch (IOException | RuntimeException e) {
+            this.setException(e);
         }
-        return Optional.empty();
     }
 
     @Override
-    public Optional<T> get(long arg0, TimeUnit arg1) throws InterruptedException, ExecutionException, TimeoutException {
-        BaseHTTPResponse response;
-        try {
-            long timeoutMillis = arg1.toMillis(arg0);
-            response = this.client.sendRequest(this.uri, this.method, this.data, this.headers,
-                    new AtomicLong(timeoutMillis).intValue());
-            if (response.isSuccess()) {
-                LOG.debug("request to {}", uri);
-                LOG.debug("response({}):{}", response.code, response.body);
-                if (this.clazz != null) {
-                    OdlObjectMapperXml mapper = new OdlObjectMapperXml(true);
-                    return Optional.ofNullable(mapper.readValue(response.body, this.clazz));
+    protected void afterDone() {
+        if (this.isCancelled() && this.response != null) {
+            this.response.cancel(false);
+            if (this.response.isDone() && !this.response.isCancelled()) {
+                try {
+                    Futures.getDone(this.response).abort();
+                } catch (ExecutionException e) {
+                    // request failed, nothing to close
                 }
             }
-        } catch (IOException e) {
-            LOG.warn("problem requesting data: ", e);
         }
-        this.isDone = true;
-        return Optional.empty();
     }
 
-    @Override
-    public boolean isCancelled() {
-        return this.isCancelled;
+    /**
+     * Decode the response body while it is received.
+     */
+    private Optional<T> decode(BaseHTTPStreamingResponse response) throws IOException {
+        try (BaseHTTPStreamingResponse r = response) {
+            if (r.isSuccess()) {
+                LOG.debug("response({}) for {}", r.code, this.uri);
+                if (this.decoder != null) {
+                    return Optional.ofNullable(this.decoder.decode(r.body));
+                }
+            } else if (this.failOnError && !(r.code == 404 && "DELETE".equals(this.method))) {
+                throw this.createException(r.code, r.readBodyAsString());
+            } else {
+                LOG.debug("request {} {} failed with code {}: {}", this.method, this.uri, r.code,
+                        r.readBodyAsString());
+            }
+        }
+        return Optional.empty();
     }
 
-    @Override
-    public boolean isDone() {
-        return this.isDone;
+    /**
+     * @return exception for a non 2xx response, with the yang-patch-status of a rejected patch
+     */
+    private RestconfRequestException createException(int code, String body) {
+        if ("PATCH".equals(this.method)) {
+            try {
+                final YangPatchStatus status = YangPatchStatus.parse(body);
+                if (!status.isOk()) {
+                    return new YangPatchException(this.uri, code, body, status);
+                }
+            } catch (IOException e) {
+                LOG.debug("no yang-patch-status in response for {}: ", this.uri, e);
+            }
+        }
+        return new RestconfRequestException(this.method, this.uri, code, body);
     }
 
     @Override
-    public void addListener(Runnable listener, Executor executor) {
-
+    protected String pendingToString() {
+        return "request=" + this.method + " " + this.uri;
     }
-
 }
@@ -7,34 +7,37 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Field;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NotImplementedException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlRpcObjectMapperXml;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.BindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy.LazyDataObjects;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPClient;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPResponse;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
-import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
-import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
-import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -44,32 +47,121 @@ import org.slf4j.LoggerFactory;
 public class RestconfHttpClient extends BaseHTTPClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(RestconfHttpClient.class);
-    private static final int DEFAULT_TIMEOUT = 5000;
+    private static final String YANG_PATCH_MEDIATYPE = "application/yang-patch+xml";
+    /**
+     * Time until yang-patch is tried again for a node which rejected it.
+     */
+    private static final long YANG_PATCH_RETRY_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final String CONTROLLER_KEY = "";
     private final Map<String, String> headers;
+    private final Map<String, String> jsonHeaders;
+    private final Map<String, String> patchHeaders;
+    private final WireFormat wireFormat;
     private final OdlRpcObjectMapperXml mapper;
+    private final Rfc8040UriCodec uriCodec;
+    private volatile BindingCodec codec;
+    private boolean lazyRead;
+    private volatile boolean yangPatch;
+    private final Map<String, Long> yangPatchUnsupported;
     private RequestCallback callback;
 
     public RestconfHttpClient(String base, boolean trustAllCerts, AuthMethod authMethod, String username,
             String password) throws NotImplementedException {
-        super(base, trustAllCerts);
+        this(base, trustAllCerts, authMethod, username, password, BaseHTTPClient.getDefaultMaxConnections(),
+                BaseHTTPClient.getDefaultIdleTimeout());
+    }
+
+    public RestconfHttpClient(String base, boolean trustAllCerts, AuthMethod authMethod, String username,
+            String password, int maxConnections, long idleTimeout) throws NotImplementedException {
+        this(base, trustAllCerts, authMethod, username, password, maxConnections, idleTimeout, WireFormat.XML);
+    }
+
+    /**
+     * @param wireFormat default encoding of request and response bodies. Can be overridden per call.
+     */
+    public RestconfHttpClient(String base, boolean trustAllCerts, AuthMethod authMethod, String username,
+            String password, int maxConnections, long idleTimeout, WireFormat wireFormat)
+            throws NotImplementedException {
+        super(base, trustAllCerts, null, null, BaseHTTPClient.getSslCertNone(), maxConnections, idleTimeout);
         if (authMethod == AuthMethod.TOKEN) {
             throw new NotImplementedException();
         }
         this.headers = new HashMap<>();
-        this.headers.put("Content-Type", "application/xml");
+        this.headers.put("Content-Type", WireFormat.XML.getMediaType());
         this.headers.put("Authorization", BaseHTTPClient.getAuthorizationHeaderValue(username, password));
-        this.headers.put("Accept", "application/xml");
-        this.mapper = new OdlRpcObjectMapperXml();
+        this.headers.put("Accept", WireFormat.XML.getMediaType());
+        this.jsonHeaders = new HashMap<>(this.headers);
+        this.jsonHeaders.put("Content-Type", WireFormat.JSON.getMediaType());
+        this.jsonHeaders.put("Accept", WireFormat.JSON.getMediaType());
+        this.patchHeaders = new HashMap<>(this.headers);
+        this.patchHeaders.put("Content-Type", YANG_PATCH_MEDIATYPE);
+        this.yangPatch = true;
+        this.yangPatchUnsupported = new ConcurrentHashMap<>();
+        this.wireFormat = wireFormat == null ? WireFormat.XML : wireFormat;
+        this.mapper = OdlMapperRegistry.getInstance().getRpcMapper();
+        this.uriCodec = Rfc8040UriCodec.getInstance();
+        this.codec = OdlMapperRegistry.getInstance().getCodec(CodecEngine.JACKSON);
+    }
 
+    public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(LogicalDatastoreType storage,
+            InstanceIdentifier<T> instanceIdentifier, String nodeId) throws IOException, ClassNotFoundException,
+            NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
+        return this.read(storage, instanceIdentifier, nodeId, this.wireFormat);
     }
 
+    /**
+     * Read data with the response encoded in the given format.
+     */
     public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(LogicalDatastoreType storage,
+            InstanceIdentifier<T> instanceIdentifier, String nodeId, WireFormat format) throws IOException,
+            ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
+            IllegalAccessException {
+        final boolean isLeafList = isCompleteLeafListRequest(instanceIdentifier);
+        final String uri = this.getRfc8040UriFromIif(storage, instanceIdentifier, nodeId, false, isLeafList);
+        if (format == WireFormat.JSON) {
+            return FutureRestRequest.createFutureGetRequest(this, uri, (byte[]) null, this.jsonHeaders,
+                    instanceIdentifier.getTargetType(), format);
+        }
+        final BindingCodec readCodec = this.codec;
+        return FutureRestRequest.createFutureGetRequest(this, uri, (byte[]) null, this.headers,
+                body -> readCodec.readData(instanceIdentifier, body));
+    }
+
+    /**
+     * Read data with a fields query parameter (rfc8040 4.8.3), so only the selected descendants are
+     * transferred.
+     *
+     * @param fields selector like node(node-id;netconf-node-topology:connection-status)
+     */
+    public <T extends DataObject> @NonNull FluentFuture<Optional<T>> readFields(LogicalDatastoreType storage,
+            InstanceIdentifier<T> instanceIdentifier, String nodeId, String fields) throws IOException,
+            ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
+            IllegalAccessException {
+        final String uri = this.getRfc8040UriFromIif(storage, instanceIdentifier, nodeId, false) + "?fields="
+                + fields;
+        if (this.wireFormat == WireFormat.JSON) {
+            return FutureRestRequest.createFutureGetRequest(this, uri, (byte[]) null, this.jsonHeaders,
+                    instanceIdentifier.getTargetType(), this.wireFormat);
+        }
+        final BindingCodec readCodec = this.codec;
+        return FutureRestRequest.createFutureGetRequest(this, uri, (byte[]) null, this.headers,
+                body -> readCodec.readData(instanceIdentifier, body));
+    }
+
+    /**
+     * Read data as lazy proxy. The xml response is kept as byte array and child containers and
+     * lists are decoded when their getters are called first. The request always asks for xml and the
+     * proxy decodes with the jackson data mapper, the configured wire format and codec are not used.
+     */
+    public <T extends DataObject> @NonNull FluentFuture<Optional<T>> readLazy(LogicalDatastoreType storage,
             InstanceIdentifier<T> instanceIdentifier, String nodeId) throws IOException, ClassNotFoundException,
             NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
         final boolean isLeafList = isCompleteLeafListRequest(instanceIdentifier);
         final String uri = this.getRfc8040UriFromIif(storage, instanceIdentifier, nodeId, false, isLeafList);
-        return FutureRestRequest.createFutureGetRequest(this, uri, (String) null, this.headers,
-                instanceIdentifier.getTargetType(), isLeafList);
+        final Class<T> type = instanceIdentifier.getTargetType();
+        return FutureRestRequest.createFutureGetRequest(this, uri, (byte[]) null, this.headers,
+                body -> LazyDataObjects.create(ByteStreams.toByteArray(body), type,
+                        OdlMapperRegistry.getInstance().getDataMapper()));
     }
 
     private <T extends DataObject> boolean isCompleteLeafListRequest(InstanceIdentifier<T> instanceIdentifier) {
@@ -105,107 +197,22 @@ public class RestconfHttpClient extends BaseHTTPClient {
 
         LOG.debug("try to create rfc8040 uri for datastore {}, iid: {} and nodeId {}", storage, instanceIdentifier,
                 nodeId);
-        String uri = "";
-        Iterable<PathArgument> iterable = instanceIdentifier.getPathArguments();
-        Iterator<PathArgument> it = iterable.iterator();
-        boolean isNewModule = true;
-        String moduleName = null;
-        while (it.hasNext()) {
-            PathArgument pa = it.next();
-            Class<?> cls = this.mapper.findClass(pa.getType().getName(), RestconfHttpClient.class);
-            String key = getKeyOrNull(pa);
-            Field qname = cls.getField("QNAME");
-            QName value = (QName) qname.get(cls);
-            if (!implementsChildOf(cls)) {
-                continue;
-            }
-            if (isNewModule) {
-                moduleName = value.getLocalName();
-            }
-            if (key == null) {
-                uri += String.format("/%s%s", urlencode(isNewModule ? (moduleName + ":") : ""),
-                        urlencode(value.getLocalName()));
-            } else {
-                uri += String.format("/%s=%s", urlencode(value.getLocalName()), urlencode(key));
-            }
-            isNewModule = false;
-        }
+        final String uri = this.uriCodec.encode(instanceIdentifier);
         final String retValue = this.getRfc8040UriFromIif(storage, uri, nodeId, isRpc);
         LOG.debug("uri={}", retValue);
         return retValue;
     }
 
-    private static final String urlencode(String value) {
-        try {
-            return URLEncoder.encode(value, StandardCharsets.UTF_8.toString()).replace("%3A", ":");
-        } catch (UnsupportedEncodingException ex) {
-            LOG.warn("problem encode {}:", value, ex);
-        }
-        return value;
-    }
-
     protected <T extends DataObject> String getRfc8040UriFromIif(LogicalDatastoreType storage, String postUri,
             String nodeId, boolean isRpc) {
         if (!postUri.startsWith("/")) {
             postUri = "/" + postUri;
         }
-        final String sstore = isRpc ? "operations" : "data";
-        return nodeId != null ? String.format(
-                "/rests/%s/network-topology:network-topology/topology=topology-netconf/node=%s/yang-ext:mount%s",
-                sstore, nodeId, postUri) : String.format("/rests/%s%s", sstore, postUri);
-    }
-
-    private static boolean implementsChildOf(Class<?> clazz) {
-
-        Class<?>[] clazzes = clazz.getInterfaces();
-        for (Class<?> cls : clazzes) {
-            if (cls.equals(ChildOf.class)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private String getKeyOrNull(PathArgument pa) {
-        try {
-            Class<? extends PathArgument> clazz = pa.getClass();
-
-            Field field = getDeclaredFieldOrNull(clazz,"key");
-            if(field==null) {
-                return null;
-            }
-            field.setAccessible(true);
-            Object keydef = field.get(pa);
-            if (keydef instanceof Identifier) {
-                // ((Identifier)keydef).
-                Field[] fields = keydef.getClass().getDeclaredFields();
-                for (Field f : fields) {
-                    if (f.getName().endsWith("serialVersionUID")) {
-                        continue;
-                    }
-                    f.setAccessible(true);
-                    Object key = f.get(keydef);
-                    if (key instanceof Uri) {
-                        return ((Uri) key).getValue();
-                    } else if (key != null) {
-                        return key.toString();
-                    }
-                }
-            }
-        } catch (SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            LOG.debug("key is not a field of class {}: ", pa.getClass(), e);
-        }
-        return null;
-    }
-
-    private static Field getDeclaredFieldOrNull(Class<?> clazz, String key) {
-        Field[] fields = clazz.getDeclaredFields();
-        for(Field f:fields) {
-            if(f.getName()==key) {
-                return f;
-            }
-        }
-        return null;
+        final String sstore = isRpc ? "/rests/operations" : "/rests/data";
+        return nodeId != null
+                ? sstore + "/network-topology:network-topology/topology=topology-netconf/node=" + nodeId
+                        + "/yang-ext:mount" + postUri
+                : sstore + postUri;
     }
 
     private static String assembleExceptionMessage(Exception exception) {
@@ -221,55 +228,191 @@ public class RestconfHttpClient extends BaseHTTPClient {
 
     public <O extends DataObject, I extends DataObject> ListenableFuture<RpcResult<O>> executeRpc(String nodeId,
             String rpc, I input, Class<O> clazz) {
-        RpcResultBuilder<O> result;
-        try {
-
-            BaseHTTPResponse response = this.sendRequest(
-                    this.getRfc8040UriFromIif(LogicalDatastoreType.OPERATIONAL, rpc, nodeId, true), "POST",
-                    input == null ? "" : this.mapper.writeValueAsString(input), this.headers, DEFAULT_TIMEOUT);
-            if (response.isSuccess()) {
-                O output = this.mapper.readValue(response.body, clazz);
-                result = RpcResultBuilder.success(output);
-            } else {
-                result = RpcResultBuilder.failed();
+        return this.executeRpc(nodeId, rpc, input, clazz, this.wireFormat);
+    }
+
+    /**
+     * Execute rpc with input and output encoded in the given format.
+     */
+    public <O extends DataObject, I extends DataObject> ListenableFuture<RpcResult<O>> executeRpc(String nodeId,
+            String rpc, I input, Class<O> clazz, WireFormat format) {
+        final byte[] body = input == null ? new byte[0]
+                : format == WireFormat.JSON ? this.mapper.writeValueAsJsonBytes(input, "input")
+                        : this.mapper.writeValueAsBytes(input);
+        ListenableFuture<BaseHTTPResponse> response = this.sendRequestAsync(
+                this.getRfc8040UriFromIif(LogicalDatastoreType.OPERATIONAL, rpc, nodeId, true), "POST", body,
+                this.getHeaders(format));
+        ListenableFuture<RpcResult<O>> result = Futures.transformAsync(response, r -> {
+            if (r.isSuccess()) {
+                O output = format == WireFormat.JSON
+                        ? OdlMapperRegistry.getInstance().getJsonDataMapper().readRestconfValue(r.body, clazz)
+                        : this.mapper.readValue(r.body, clazz);
+                return RpcResultBuilder.success(output).buildFuture();
             }
-        } catch (IOException e) {
+            return RpcResultBuilder.<O>failed().buildFuture();
+        }, FutureRestRequest.getDecoderExecutor());
+        return Futures.catchingAsync(result, IOException.class, e -> {
             LOG.info("Exception", e);
-            result = RpcResultBuilder.failed();
-            result.withError(ErrorType.APPLICATION, assembleExceptionMessage(e));
-        }
-
-        return result.buildFuture();
+            return RpcResultBuilder.<O>failed().withError(ErrorType.APPLICATION, assembleExceptionMessage(e))
+                    .buildFuture();
+        }, MoreExecutors.directExecutor());
     }
 
     public FluentFuture<?> delete(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<?> instanceIdentifier, String nodeId) throws ClassNotFoundException,
             NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
         final String uri = this.getRfc8040UriFromIif(store, instanceIdentifier, nodeId, false, false);
-        return FutureRestRequest.createFutureDeleteRequest(this, uri, (String) null, this.headers, false);
+        return FutureRestRequest.createFutureDeleteRequest(this, uri, (byte[]) null, this.headers);
     }
 
     public <O extends DataObject> FluentFuture<Optional<O>> put(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<O> instanceIdentifier, @NonNull O data, String nodeId)
             throws ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
             IllegalAccessException {
+        return this.put(store, instanceIdentifier, data, nodeId, this.wireFormat);
+    }
+
+    /**
+     * Put data with request and response body encoded in the given format.
+     */
+    public <O extends DataObject> FluentFuture<Optional<O>> put(@NonNull LogicalDatastoreType store,
+            @NonNull InstanceIdentifier<O> instanceIdentifier, @NonNull O data, String nodeId, WireFormat format)
+            throws ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
+            IllegalAccessException {
         final String uri = this.getRfc8040UriFromIif(store, instanceIdentifier, nodeId, false, false);
         LOG.debug("serialize {}",data);
-        final String strData = this.mapper.writeValueAsString(data,data.getClass());
-        LOG.debug("putting data: {}", strData);
-        return FutureRestRequest.createFuturePutRequest(this, uri, strData, this.headers, false);
+        final byte[] body = this.serialize(data, format);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("putting data: {}", new String(body, StandardCharsets.UTF_8));
+        }
+        return FutureRestRequest.createFuturePutRequest(this, uri, body, this.getHeaders(format));
     }
 
     public <O extends DataObject> FluentFuture<Optional<O>> merge(@NonNull LogicalDatastoreType store,
             @NonNull InstanceIdentifier<O> instanceIdentifier, @NonNull O data, String nodeId)
             throws ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
             IllegalAccessException {
+        return this.merge(store, instanceIdentifier, data, nodeId, this.wireFormat);
+    }
+
+    /**
+     * Merge data with request and response body encoded in the given format.
+     */
+    public <O extends DataObject> FluentFuture<Optional<O>> merge(@NonNull LogicalDatastoreType store,
+            @NonNull InstanceIdentifier<O> instanceIdentifier, @NonNull O data, String nodeId, WireFormat format)
+            throws ClassNotFoundException, NoSuchFieldException, SecurityException, IllegalArgumentException,
+            IllegalAccessException {
         final String uri = this.getRfc8040UriFromIif(store, instanceIdentifier, nodeId, false, false);
         LOG.debug("serialize {}",data);
-        final String strData = this.mapper.writeValueAsString(data,data.getClass());
-        LOG.debug("merging data: {}", strData);
-        return FutureRestRequest.createFuturePostRequest(this, uri, strData, this.headers,
-                instanceIdentifier.getTargetType(), false);
+        final byte[] body = this.serialize(data, format);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("merging data: {}", new String(body, StandardCharsets.UTF_8));
+        }
+        return FutureRestRequest.createFuturePostRequest(this, uri, body, this.getHeaders(format),
+                instanceIdentifier.getTargetType(), format);
+    }
+
+    /**
+     * Send edits as one ietf-yang-patch request to the mountpoint of the node. The future fails
+     * with a {@link RestconfRequestException} if the patch or one of its edits is rejected.
+     *
+     * @param nodeId mountpoint or null for the datastore of the remote odl
+     * @param patchId id of the patch
+     * @param edits edits with targets relative to the mountpoint, see {@link #getYangPatchTarget}
+     */
+    public FluentFuture<?> patch(String nodeId, String patchId, List<YangPatchEdit> edits) {
+        final String uri = this.getRfc8040UriFromIif(LogicalDatastoreType.CONFIGURATION, "/", nodeId, false);
+        final byte[] body = this.mapper.writeYangPatchAsBytes(patchId, edits);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("patching data: {}", new String(body, StandardCharsets.UTF_8));
+        }
+        return FutureRestRequest.createFuturePatchRequest(this, uri.substring(0, uri.length() - 1), body,
+                this.patchHeaders);
+    }
+
+    /**
+     * @return target of a yang-patch edit for the path
+     */
+    public String getYangPatchTarget(InstanceIdentifier<?> instanceIdentifier)
+            throws NoSuchFieldException, IllegalAccessException {
+        return this.uriCodec.encode(instanceIdentifier);
+    }
+
+    /**
+     * @param yangPatch false if transactions should send one request per edit
+     */
+    public void setYangPatch(boolean yangPatch) {
+        this.yangPatch = yangPatch;
+    }
+
+    public boolean isYangPatch() {
+        return this.yangPatch;
+    }
+
+    /**
+     * @param nodeId mountpoint or null for the datastore of the remote odl
+     * @return false if yang-patch is disabled or was rejected for the node recently
+     */
+    public boolean isYangPatch(String nodeId) {
+        if (!this.yangPatch) {
+            return false;
+        }
+        final String key = nodeId == null ? CONTROLLER_KEY : nodeId;
+        final Long retry = this.yangPatchUnsupported.get(key);
+        if (retry == null) {
+            return true;
+        }
+        if (System.currentTimeMillis() < retry.longValue()) {
+            return false;
+        }
+        this.yangPatchUnsupported.remove(key, retry);
+        return true;
+    }
+
+    /**
+     * Send single requests instead of yang-patch for a while, as the remote odl or the device rejected it.
+     *
+     * @param nodeId mountpoint or null for the datastore of the remote odl
+     */
+    public void setYangPatchUnsupported(String nodeId) {
+        this.yangPatchUnsupported.put(nodeId == null ? CONTROLLER_KEY : nodeId,
+                Long.valueOf(System.currentTimeMillis() + YANG_PATCH_RETRY_MS));
+    }
+
+    private <O extends DataObject> byte[] serialize(O data, WireFormat format) {
+        return format == WireFormat.JSON ? this.mapper.writeValueAsJsonBytes(data, data.getClass())
+                : this.mapper.writeValueAsBytes(data, data.getClass());
+    }
+
+    private Map<String, String> getHeaders(WireFormat format) {
+        return format == WireFormat.JSON ? this.jsonHeaders : this.headers;
+    }
+
+    public WireFormat getWireFormat() {
+        return this.wireFormat;
+    }
+
+    /**
+     * Set the engine which decodes xml data of read requests.
+     */
+    public void setCodec(BindingCodec codec) {
+        LOG.debug("using codec {}", codec.getName());
+        this.codec = codec;
+    }
+
+    public BindingCodec getCodec() {
+        return this.codec;
+    }
+
+    /**
+     * @param lazyRead true if read only transactions should return lazy proxies
+     */
+    public void setLazyRead(boolean lazyRead) {
+        this.lazyRead = lazyRead;
+    }
+
+    public boolean isLazyRead() {
+        return this.lazyRead;
     }
 
     public void registerRequestCallback(RequestCallback callback) {
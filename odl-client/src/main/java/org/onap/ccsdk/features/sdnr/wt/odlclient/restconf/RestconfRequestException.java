@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
+
+import java.io.IOException;
+
+/**
+ * Non 2xx response for a request which modifies data.
+ */
+public class RestconfRequestException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+    private final int code;
+
+    public RestconfRequestException(String method, String uri, int code, String body) {
+        super(String.format("request %s %s failed with code %d: %s", method, uri, code, body));
+        this.code = code;
+    }
+
+    public int getCode() {
+        return this.code;
+    }
+}
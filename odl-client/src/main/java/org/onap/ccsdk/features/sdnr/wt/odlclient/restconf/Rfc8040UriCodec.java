@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts instance identifiers into the data path of a rfc8040 uri. All reflective lookups (QNAME,
+ * ChildOf, key fields) are done once per binding class, so encoding a path only appends
+ * precomputed segments and the encoded key values.
+ */
+public class Rfc8040UriCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Rfc8040UriCodec.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static Rfc8040UriCodec instance;
+
+    private final Map<Class<?>, SegmentCodec> segmentCodecs;
+    private final Map<Class<?>, KeyCodec> keyCodecs;
+
+    private Rfc8040UriCodec() {
+        this.segmentCodecs = new ConcurrentHashMap<>();
+        this.keyCodecs = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized Rfc8040UriCodec getInstance() {
+        if (instance == null) {
+            instance = new Rfc8040UriCodec();
+        }
+        return instance;
+    }
+
+    /**
+     * Create data path for instance identifier. Path arguments which are not a child of another
+     * data object (like augmentations) are skipped. The first element is prefixed by the module
+     * name.
+     *
+     * @param instanceIdentifier path
+     * @return encoded path like /org-openroadm-device:org-openroadm-device/info
+     * @throws NoSuchFieldException if a path element has no QNAME
+     * @throws IllegalAccessException if the QNAME or a key field is not accessible
+     */
+    public String encode(InstanceIdentifier<?> instanceIdentifier)
+            throws NoSuchFieldException, IllegalAccessException {
+        StringBuilder uri = new StringBuilder();
+        boolean isNewModule = true;
+        for (PathArgument pa : instanceIdentifier.getPathArguments()) {
+            SegmentCodec codec = this.getSegmentCodec(pa.getType());
+            if (!codec.isChildOf) {
+                continue;
+            }
+            String key = this.getKeyOrNull(pa);
+            if (key == null) {
+                uri.append(isNewModule ? codec.moduleSegment : codec.segment);
+            } else {
+                uri.append(codec.segment).append('=').append(urlencode(key));
+            }
+            isNewModule = false;
+        }
+        return uri.toString();
+    }
+
+    private SegmentCodec getSegmentCodec(Class<?> cls) throws NoSuchFieldException, IllegalAccessException {
+        SegmentCodec codec = this.segmentCodecs.get(cls);
+        if (codec == null) {
+            codec = new SegmentCodec(cls);
+            this.segmentCodecs.put(cls, codec);
+        }
+        return codec;
+    }
+
+    private String getKeyOrNull(PathArgument pa) {
+        if (!(pa instanceof IdentifiableItem)) {
+            return null;
+        }
+        Identifier<?> keydef = ((IdentifiableItem<?, ?>) pa).getKey();
+        if (keydef == null) {
+            return null;
+        }
+        return this.keyCodecs.computeIfAbsent(keydef.getClass(), KeyCodec::new).getValue(keydef);
+    }
+
+    static String urlencode(String value) {
+        if (isUnreserved(value)) {
+            return value;
+        }
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.toString()).replace("%3A", ":");
+        } catch (UnsupportedEncodingException ex) {
+            LOG.warn("problem encode {}:", value, ex);
+        }
+        return value;
+    }
+
+    /**
+     * @return true if value is not changed by url encoding
+     */
+    private static boolean isUnreserved(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-'
+                    || c == '_' || c == '.' || c == '*' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean implementsChildOf(Class<?> clazz) {
+        for (Class<?> cls : clazz.getInterfaces()) {
+            if (cls.equals(ChildOf.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class SegmentCodec {
+
+        private final boolean isChildOf;
+        private final String segment;
+        private final String moduleSegment;
+
+        SegmentCodec(Class<?> cls) throws NoSuchFieldException, IllegalAccessException {
+            this.isChildOf = implementsChildOf(cls);
+            if (this.isChildOf) {
+                QName qname = (QName) cls.getField("QNAME").get(cls);
+                String name = urlencode(qname.getLocalName());
+                this.segment = "/" + name;
+                this.moduleSegment = "/" + urlencode(qname.getLocalName() + ":") + name;
+            } else {
+                this.segment = null;
+                this.moduleSegment = null;
+            }
+        }
+    }
+
+    /**
+     * Key value is the first non null field of the key class.
+     */
+    private static class KeyCodec {
+
+        private final Class<?> keyClass;
+        private final List<MethodHandle> getters;
+
+        KeyCodec(Class<?> keyClass) {
+            this.keyClass = keyClass;
+            this.getters = new ArrayList<>();
+            for (Field f : keyClass.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()) || f.getName().endsWith("serialVersionUID")) {
+                    continue;
+                }
+                try {
+                    f.setAccessible(true);
+                    this.getters.add(LOOKUP.unreflectGetter(f));
+                } catch (SecurityException | IllegalAccessException e) {
+                    LOG.debug("key field {} of class {} is not accessible: ", f.getName(), keyClass, e);
+                }
+            }
+        }
+
+        String getValue(Object keydef) {
+            for (MethodHandle getter : this.getters) {
+                Object key;
+                try {
+                    key = getter.invoke(keydef);
+                } catch (Throwable e) {
+                    LOG.debug("unable to read key of class {}: ", this.keyClass, e);
+                    continue;
+                }
+                if (key instanceof Uri) {
+                    return ((Uri) key).getValue();
+                } else if (key != null) {
+                    return key.toString();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
+
+/**
+ * Encoding of restconf request and response bodies.
+ */
+public enum WireFormat {
+
+    XML("application/xml"),
+    JSON("application/yang-data+json");
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return this.mediaType;
+    }
+}
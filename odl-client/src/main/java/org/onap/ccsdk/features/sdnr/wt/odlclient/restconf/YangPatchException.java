@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
+
+/**
+ * Rejected ietf-yang-patch request with the parsed yang-patch-status.
+ */
+public class YangPatchException extends RestconfRequestException {
+
+    private static final long serialVersionUID = 1L;
+    private final transient YangPatchStatus status;
+
+    public YangPatchException(String uri, int code, String body, YangPatchStatus status) {
+        super("PATCH", uri, code, body);
+        this.status = status;
+    }
+
+    public YangPatchStatus getStatus() {
+        return this.status;
+    }
+}
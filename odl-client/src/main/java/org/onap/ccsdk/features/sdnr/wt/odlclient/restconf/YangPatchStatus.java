@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.restconf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.XmlInputFactories;
+
+/**
+ * Result of an ietf-yang-patch request (RFC 8072). The patch succeeded if the yang-patch-status
+ * contains the global ok leaf and neither global nor edit errors.
+ */
+public class YangPatchStatus {
+
+    private static final XMLInputFactory INPUT_FACTORY = XmlInputFactories.createInputFactory();
+    private static final String ROOT = "yang-patch-status";
+
+    private final boolean ok;
+    private final boolean globalErrors;
+    private final List<String> failedEditIds;
+
+    private YangPatchStatus(boolean ok, boolean globalErrors, List<String> failedEditIds) {
+        this.ok = ok;
+        this.globalErrors = globalErrors;
+        this.failedEditIds = failedEditIds;
+    }
+
+    /**
+     * @return true if the patch was applied
+     */
+    public boolean isOk() {
+        return this.ok && !this.globalErrors && this.failedEditIds.isEmpty();
+    }
+
+    /**
+     * @return true if the patch failed without an edit error
+     */
+    public boolean hasGlobalErrors() {
+        return this.globalErrors;
+    }
+
+    /**
+     * @return ids of the edits which were rejected in document order
+     */
+    public List<String> getFailedEditIds() {
+        return this.failedEditIds;
+    }
+
+    /**
+     * Parse the xml encoded yang-patch-status. An empty body is a successful patch.
+     *
+     * @param body response body
+     * @return status
+     * @throws IOException if the body is no yang-patch-status
+     */
+    public static YangPatchStatus parse(String body) throws IOException {
+        if (body == null || body.trim().isEmpty()) {
+            return new YangPatchStatus(true, false, Collections.emptyList());
+        }
+        try (Reader src = new StringReader(body)) {
+            return parse(INPUT_FACTORY.createXMLStreamReader(src));
+        } catch (XMLStreamException e) {
+            throw new IOException("unable to parse yang-patch-status", e);
+        }
+    }
+
+    private static YangPatchStatus parse(XMLStreamReader reader) throws XMLStreamException, IOException {
+        final Deque<String> path = new ArrayDeque<>();
+        final List<String> failedEditIds = new ArrayList<>();
+        boolean ok = false;
+        boolean globalErrors = false;
+        String editId = null;
+        boolean editErrors = false;
+        try {
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = reader.getLocalName();
+                    if (path.isEmpty() && !ROOT.equals(name)) {
+                        throw new IOException("unexpected root element " + name + " instead of " + ROOT);
+                    }
+                    // yang-patch-status/ok or /errors, yang-patch-status/edit-status/edit/edit-id or /errors
+                    if (path.size() == 1) {
+                        ok |= "ok".equals(name);
+                        globalErrors |= "errors".equals(name);
+                    } else if (path.size() == 3 && "edit".equals(path.peek())) {
+                        if ("edit-id".equals(name)) {
+                            editId = reader.getElementText();
+                            continue;
+                        }
+                        editErrors |= "errors".equals(name);
+                    }
+                    path.push(name);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    path.pop();
+                    if (path.size() == 2 && "edit".equals(reader.getLocalName())) {
+                        if (editErrors) {
+                            failedEditIds.add(editId);
+                        }
+                        editId = null;
+                        editErrors = false;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return new YangPatchStatus(ok, globalErrors, failedEditIds);
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.ws;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.status.NotificationQueueStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decouples the websocket thread from the notification listeners. Notifications are striped by
+ * device onto bounded queues with one worker each, so notifications of one device are delivered
+ * in order while different devices are processed in parallel. The device of a controller
+ * notification is its object id, so connection changes of many devices are distributed as well.
+ * The queues are lock-free, a full queue is handled by the {@link OverflowPolicy}.
+ */
+public class NotificationDispatcher implements NotificationQueueStatus, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    public enum OverflowPolicy {
+        /**
+         * wait until the queue has space again. This slows down the websocket.
+         */
+        BLOCK,
+        /**
+         * remove the oldest queued notification of the stripe.
+         */
+        DROP_OLDEST,
+        /**
+         * if the queue is full, the newest queued value change of the same attribute and device is
+         * replaced by the newer one. Otherwise the oldest notification is removed.
+         */
+        COALESCE
+    }
+
+    private final Consumer<SdnrNotification> sink;
+    private final OverflowPolicy policy;
+    private final int capacity;
+    private final Stripe[] stripes;
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param sink receiver of the notifications, called by the worker threads
+     * @param threads number of stripes and worker threads
+     * @param capacity max number of queued notifications per stripe
+     * @param policy behavior for a full queue
+     */
+    public NotificationDispatcher(Consumer<SdnrNotification> sink, int threads, int capacity,
+            OverflowPolicy policy) {
+        this.sink = sink;
+        this.policy = policy;
+        this.capacity = Math.max(1, capacity);
+        this.stripes = new Stripe[Math.max(1, threads)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(i);
+            this.stripes[i].worker.start();
+        }
+        LOG.info("notification dispatcher started with {} threads, capacity={} and overflow={}",
+                this.stripes.length, this.capacity, this.policy);
+    }
+
+    /**
+     * Queue a notification for delivery. Depending on the overflow policy the caller is blocked
+     * while the queue of the stripe is full.
+     *
+     * @param notification notification to deliver
+     */
+    public void dispatch(SdnrNotification notification) {
+        if (this.closed) {
+            LOG.debug("dispatcher closed. ignoring {}", notification);
+            return;
+        }
+        final String device = getDevice(notification);
+        this.stripes[this.getStripeIndex(device)].offer(notification, device);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        int sum = 0;
+        for (Stripe stripe : this.stripes) {
+            sum += stripe.size.get();
+        }
+        return sum;
+    }
+
+    @Override
+    public int getMaxStripeDepth() {
+        int max = 0;
+        for (Stripe stripe : this.stripes) {
+            max = Math.max(max, stripe.size.get());
+        }
+        return max;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return this.capacity * this.stripes.length;
+    }
+
+    @Override
+    public long getDispatchedCount() {
+        return this.dispatched.sum();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Stop all workers. Queued notifications are discarded.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (Stripe stripe : this.stripes) {
+            LockSupport.unpark(stripe.worker);
+        }
+        final int remaining = this.getQueueDepth();
+        if (remaining > 0) {
+            LOG.info("dispatcher closed with {} queued notifications", remaining);
+        }
+    }
+
+    private int getStripeIndex(String device) {
+        if (device == null) {
+            return 0;
+        }
+        final int h = device.hashCode();
+        return ((h ^ (h >>> 16)) & 0x7fffffff) % this.stripes.length;
+    }
+
+    /**
+     * @return device which the notification is about, the object id for controller notifications
+     */
+    private static String getDevice(SdnrNotification notification) {
+        if (!(notification instanceof BaseNotification)) {
+            return null;
+        }
+        final BaseNotification n = (BaseNotification) notification;
+        if (n.isControllerNotification() && n.getObjectId() != null) {
+            return n.getObjectId();
+        }
+        return n.getNodeName();
+    }
+
+    /**
+     * @return key of notifications which can replace each other or null
+     */
+    private static String getCoalesceKey(SdnrNotification notification) {
+        if (notification instanceof AttributeValueChangedNotification) {
+            final AttributeValueChangedNotification n = (AttributeValueChangedNotification) notification;
+            return n.getObjectId() + "\u0000" + n.getAttributeName();
+        }
+        return null;
+    }
+
+    /**
+     * Queued notification. A coalesced entry gets the newer notification, the worker takes the
+     * value with getAndSet(null) so an update is either delivered by this entry or queued anew.
+     */
+    private static final class Entry {
+        private final String device;
+        private final String coalesceKey;
+        private final AtomicReference<SdnrNotification> notification;
+
+        Entry(SdnrNotification notification, String device, String coalesceKey) {
+            this.device = device;
+            this.coalesceKey = coalesceKey;
+            this.notification = new AtomicReference<>(notification);
+        }
+    }
+
+    private final class Stripe implements Runnable {
+
+        private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        // last queued entry per device, only a device's newest entry may be replaced to keep the order
+        private final ConcurrentHashMap<String, Entry> lastEntries = new ConcurrentHashMap<>();
+        private final Thread worker;
+
+        Stripe(int index) {
+            this.worker = new Thread(this, "odlclient-notification-dispatch-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        void offer(SdnrNotification notification, String device) {
+            final String key = NotificationDispatcher.this.policy == OverflowPolicy.COALESCE
+                    ? getCoalesceKey(notification) : null;
+            final Entry entry = new Entry(notification, device, key);
+            while (!this.tryReserve()) {
+                if (NotificationDispatcher.this.closed) {
+                    return;
+                }
+                if (NotificationDispatcher.this.policy == OverflowPolicy.BLOCK) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                } else if (key != null && device != null && this.tryCoalesce(notification, device, key)) {
+                    NotificationDispatcher.this.coalesced.increment();
+                    return;
+                } else if (this.dropOldest()) {
+                    // the slot of the dropped entry is taken over
+                    break;
+                }
+            }
+            if (device != null && NotificationDispatcher.this.policy == OverflowPolicy.COALESCE) {
+                this.lastEntries.put(device, entry);
+            }
+            this.queue.offer(entry);
+            LockSupport.unpark(this.worker);
+        }
+
+        private boolean tryCoalesce(SdnrNotification notification, String device, String key) {
+            final Entry last = this.lastEntries.get(device);
+            if (last == null || !key.equals(last.coalesceKey)) {
+                return false;
+            }
+            SdnrNotification queued = last.notification.get();
+            while (queued != null) {
+                if (last.notification.compareAndSet(queued, notification)) {
+                    return true;
+                }
+                queued = last.notification.get();
+            }
+            return false;
+        }
+
+        private boolean tryReserve() {
+            int current = this.size.get();
+            while (current < NotificationDispatcher.this.capacity) {
+                if (this.size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                current = this.size.get();
+            }
+            return false;
+        }
+
+        private boolean dropOldest() {
+            final Entry oldest = this.queue.poll();
+            if (oldest == null) {
+                return false;
+            }
+            final SdnrNotification notification = this.release(oldest);
+            NotificationDispatcher.this.dropped.increment();
+            LOG.debug("queue full. dropped notification {}", notification);
+            return true;
+        }
+
+        private SdnrNotification release(Entry entry) {
+            if (entry.device != null) {
+                this.lastEntries.remove(entry.device, entry);
+            }
+            return entry.notification.getAndSet(null);
+        }
+
+        @Override
+        public void run() {
+            while (!NotificationDispatcher.this.closed) {
+                final Entry entry = this.queue.poll();
+                if (entry == null) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                this.size.decrementAndGet();
+                final SdnrNotification notification = this.release(entry);
+                if (notification == null) {
+                    continue;
+                }
+                try {
+                    NotificationDispatcher.this.sink.accept(notification);
+                } catch (RuntimeException e) {
+                    LOG.warn("problem handling notification {}: ", notification, e);
+                }
+                NotificationDispatcher.this.dispatched.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.ws;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routing table for notification handlers by node id and notification type. Routing a
+ * notification is one lookup for the node, so the costs do not grow with the number of mounted
+ * devices. Routes can be added and closed while notifications are routed.
+ */
+public class NotificationRoutes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationRoutes.class);
+
+    private final Map<String, Map<Class<?>, List<Route<?>>>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Add a handler for notifications of a node.
+     *
+     * @param nodeId node name of the notifications
+     * @param type notification type, subtypes are routed too
+     * @param handler receiver of the notifications
+     * @return route which is removed by close()
+     */
+    public <T extends SdnrNotification> Route<T> register(String nodeId, Class<T> type, Consumer<? super T> handler) {
+        final Route<T> route = new Route<>(nodeId, type, handler);
+        this.routes.compute(nodeId, (k, types) -> {
+            final Map<Class<?>, List<Route<?>>> map = types == null ? new ConcurrentHashMap<>() : types;
+            map.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add(route);
+            return map;
+        });
+        return route;
+    }
+
+    /**
+     * Deliver a notification to the handlers registered for its node and type.
+     *
+     * @param notification received notification
+     * @return true if at least one handler was called
+     */
+    public boolean route(SdnrNotification notification) {
+        if (!(notification instanceof BaseNotification)) {
+            return false;
+        }
+        final String nodeName = ((BaseNotification) notification).getNodeName();
+        final Map<Class<?>, List<Route<?>>> types = nodeName == null ? null : this.routes.get(nodeName);
+        if (types == null) {
+            return false;
+        }
+        boolean routed = false;
+        for (Map.Entry<Class<?>, List<Route<?>>> entry : types.entrySet()) {
+            if (entry.getKey().isInstance(notification)) {
+                for (Route<?> route : entry.getValue()) {
+                    route.deliver(notification);
+                    routed = true;
+                }
+            }
+        }
+        return routed;
+    }
+
+    /**
+     * @return number of nodes with at least one route
+     */
+    public int getNodeCount() {
+        return this.routes.size();
+    }
+
+    private void remove(Route<?> route) {
+        this.routes.computeIfPresent(route.nodeId, (k, types) -> {
+            types.computeIfPresent(route.type, (t, list) -> {
+                list.remove(route);
+                return list.isEmpty() ? null : list;
+            });
+            return types.isEmpty() ? null : types;
+        });
+    }
+
+    public final class Route<T extends SdnrNotification> implements AutoCloseable {
+
+        private final String nodeId;
+        private final Class<T> type;
+        private final Consumer<? super T> handler;
+        private volatile boolean closed;
+
+        private Route(String nodeId, Class<T> type, Consumer<? super T> handler) {
+            this.nodeId = nodeId;
+            this.type = type;
+            this.handler = handler;
+        }
+
+        private void deliver(SdnrNotification notification) {
+            if (this.closed) {
+                return;
+            }
+            try {
+                this.handler.accept(this.type.cast(notification));
+            } catch (RuntimeException e) {
+                LOG.warn("problem handling notification for {}: ", this.nodeId, e);
+            }
+        }
+
+        public String getNodeId() {
+            return this.nodeId;
+        }
+
+        public Class<T> getType() {
+            return this.type;
+        }
+
+        public boolean isClosed() {
+            return this.closed;
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                NotificationRoutes.this.remove(this);
+            }
+        }
+    }
+}
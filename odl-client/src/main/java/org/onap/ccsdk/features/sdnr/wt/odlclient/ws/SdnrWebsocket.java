@@ -14,6 +14,7 @@ import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotificationMapperXml;
 import org.slf4j.Logger;
@@ -33,7 +34,7 @@ public class SdnrWebsocket {
 
     public SdnrWebsocket(SdnrWebsocketCallback cb) {
         this.callback = cb;
-        this.mappper = new SdnrNotificationMapperXml();
+        this.mappper = OdlMapperRegistry.getInstance().getNotificationMapper();
     }
 
     public boolean sendNotificationRegistration() {
@@ -16,6 +16,7 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.http.BaseHTTPClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationDispatcher.OverflowPolicy;
 
 public class SdnrWebsocketClient extends WebsocketWatchDog {
 
@@ -29,7 +30,12 @@ public class SdnrWebsocketClient extends WebsocketWatchDog {
         }
     };
     public SdnrWebsocketClient(String url, SdnrWebsocketCallback callback, boolean trustAllCerts) throws URISyntaxException {
-        super(callback);
+        this(url, callback, trustAllCerts, DEFAULT_DISPATCH_THREADS, DEFAULT_DISPATCH_QUEUESIZE, OverflowPolicy.BLOCK);
+    }
+
+    public SdnrWebsocketClient(String url, SdnrWebsocketCallback callback, boolean trustAllCerts,
+            int dispatchThreads, int dispatchQueueSize, OverflowPolicy overflowPolicy) throws URISyntaxException {
+        super(callback, dispatchThreads, dispatchQueueSize, overflowPolicy);
         this.url = new URI(url);
         this.trustAllCerts = trustAllCerts;
     }
@@ -8,11 +8,13 @@
 package org.onap.ccsdk.features.sdnr.wt.odlclient.ws;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import org.eclipse.jetty.websocket.api.Session;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationDispatcher.OverflowPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +24,8 @@ public abstract class WebsocketWatchDog implements SdnrWebsocketCallback {
     private static final Logger LOG = LoggerFactory.getLogger(WebsocketWatchDog.class);
 
     private static final int DELAY_BETWEEN_CONNECTIONTRIALS = 5000;
+    public static final int DEFAULT_DISPATCH_THREADS = 4;
+    public static final int DEFAULT_DISPATCH_QUEUESIZE = 10000;
 
     private final TriggeredRunner runner = new TriggeredRunner() {
 
@@ -80,14 +84,30 @@ public abstract class WebsocketWatchDog implements SdnrWebsocketCallback {
 
     private final SdnrWebsocketCallback remoteCallback;
     private final List<SdnrWebsocketCallback> listeners;
+    private final NotificationDispatcher dispatcher;
+    private final NotificationRoutes routes;
     private final Thread watcherThread;
     private Session session;
     private boolean closed;
 
     public WebsocketWatchDog(SdnrWebsocketCallback callback) {
+        this(callback, DEFAULT_DISPATCH_THREADS, DEFAULT_DISPATCH_QUEUESIZE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param callback receiver of all websocket events
+     * @param dispatchThreads number of threads delivering notifications
+     * @param dispatchQueueSize max number of queued notifications per dispatch thread
+     * @param overflowPolicy behavior if a dispatch queue is full
+     */
+    public WebsocketWatchDog(SdnrWebsocketCallback callback, int dispatchThreads, int dispatchQueueSize,
+            OverflowPolicy overflowPolicy) {
         this.remoteCallback = callback;
         this.watcherThread = new Thread(this.runner);
-        this.listeners = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.routes = new NotificationRoutes();
+        this.dispatcher = new NotificationDispatcher(this::deliverNotification, dispatchThreads,
+                dispatchQueueSize, overflowPolicy);
     }
 
     private void decrementAndTriggerDelayed() {
@@ -142,13 +162,25 @@ public abstract class WebsocketWatchDog implements SdnrWebsocketCallback {
 
     }
 
+    /**
+     * Queue the notification for the listeners. They are called by the dispatcher threads, so the
+     * websocket is not blocked by slow listeners.
+     */
     @Override
     public void onNotificationReceived(SdnrNotification notification) {
+        this.dispatcher.dispatch(notification);
+    }
+
+    private void deliverNotification(SdnrNotification notification) {
         this.remoteCallback.onNotificationReceived(notification);
+        this.routes.route(notification);
         for (SdnrWebsocketCallback cb : this.listeners) {
             cb.onNotificationReceived(notification);
         }
+    }
 
+    public NotificationDispatcher getDispatcher() {
+        return this.dispatcher;
     }
 
     public void stop() {
@@ -158,6 +190,7 @@ public abstract class WebsocketWatchDog implements SdnrWebsocketCallback {
                 this.session.close();
             }
             this.watcherThread.join();
+            this.dispatcher.close();
 
         } catch (Exception e) {
             LOG.warn("problem closing watcher thread: ", e);
@@ -191,4 +224,18 @@ public abstract class WebsocketWatchDog implements SdnrWebsocketCallback {
         this.listeners.remove(cb);
     }
 
+    /**
+     * Register a handler only for notifications of one node. Unlike websocket event listeners the
+     * handler is looked up by node id, closing the route unregisters it.
+     *
+     * @param nodeId node name of the notifications
+     * @param type notification type
+     * @param handler receiver of the notifications
+     * @return route to close
+     */
+    public <T extends SdnrNotification> NotificationRoutes.Route<T> registerNotificationHandler(String nodeId,
+            Class<T> type, Consumer<? super T> handler) {
+        return this.routes.register(nodeId, type, handler);
+    }
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.Collection;
+import java.util.List;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.AugmentationRegistry;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.Interface;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Protocols;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.ProtocolsBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.Protocols1;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.lldp.rev181019.Protocols1Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+
+public class TestAugmentationRegistry {
+
+    @Test
+    public void testDiscoveredAugmentations() {
+        final AugmentationRegistry registry = AugmentationRegistry.getInstance();
+        final List<Class<?>> interfaceAugs = registry.getAugmentations(Interface.class);
+        assertTrue(interfaceAugs.contains(
+                org.opendaylight.yang.gen.v1.http.org.openroadm.otn.otu.interfaces.rev181019.Interface1.class));
+        assertTrue(interfaceAugs.contains(
+                org.opendaylight.yang.gen.v1.http.org.openroadm.otn.odu.interfaces.rev181019.Interface1.class));
+        assertTrue(interfaceAugs.contains(
+                org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.Interface1.class));
+        assertTrue(interfaceAugs.contains(
+                org.opendaylight.yang.gen.v1.http.org.openroadm.optical.channel.interfaces.rev181019.Interface1.class));
+        assertTrue(registry.getAugmentations(Protocols.class).contains(Protocols1.class));
+        // both former entries of the node key
+        final List<Class<?>> nodeAugs = registry.getAugmentations(Node.class);
+        assertTrue(nodeAugs.contains(org.opendaylight.yang.gen.v1.http.org.openroadm.network.rev181130.Node1.class));
+        assertTrue(nodeAugs.contains(
+                org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Node1.class));
+    }
+
+    @Test
+    public void testAugmentationValues() {
+        final Protocols1 lldp = new Protocols1Builder().build();
+        final Protocols protocols = new ProtocolsBuilder().addAugmentation(Protocols1.class, lldp).build();
+        final Collection<Object> values = AugmentationRegistry.getInstance().getAugmentationValues(protocols);
+        assertEquals(1, values.size());
+        assertEquals(lldp, values.iterator().next());
+        assertNull(AugmentationRegistry.getInstance().getAugmentationValues("no data object"));
+    }
+}
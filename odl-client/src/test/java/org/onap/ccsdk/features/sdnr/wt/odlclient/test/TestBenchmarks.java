@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assume.assumeTrue;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NormalizingXmlStreamReader;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlJsonSerializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapper;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlXmlSerializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotificationDecoder;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotificationMapperXml;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.BindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.EnumJsonDeserializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.TypeObjectJsonDeserializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy.LazyDataObjects;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectCreationNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectDeletionNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.Rfc8040UriCodec;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.FrequencyTHz;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacks;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev171215.AdminStates;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single threaded timings of the optimized code paths compared to what they replaced. The results are
+ * only logged, the functional checks are in the tests of the single components. Skipped unless
+ * started with -Dbenchmark=true, e.g. mvn test -Dtest=TestBenchmarks -Dbenchmark=true.
+ */
+public class TestBenchmarks {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TestBenchmarks.class);
+    private static final String DEVICE_FIXTURE = "/xml/roadm-device-complete.xml";
+
+    @BeforeClass
+    public static void checkEnabled() {
+        assumeTrue("benchmarks are disabled", Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void testNotificationDecoder() throws Exception {
+        final int n = 100000;
+        final String[] notifications = TestWebsocketClient.NOTIFICATIONS;
+        final Class<?>[] classes = {AttributeValueChangedNotification.class, ObjectCreationNotification.class,
+            ObjectDeletionNotification.class, ProblemNotification.class};
+        final SdnrNotificationDecoder decoder = new SdnrNotificationDecoder();
+        final SdnrNotificationMapperXml mapper = new SdnrNotificationMapperXml();
+        final long decoderNs = measure(n, i -> decoder.decode(notifications[i % notifications.length]));
+        final long jacksonNs =
+                measure(n, i -> mapper.readValue(notifications[i % notifications.length], classes[i % classes.length]));
+        LOG.info("notifications per second and core: decoder={} jackson={}", 1000000000L / decoderNs,
+                1000000000L / jacksonNs);
+    }
+
+    @Test
+    public void testUriCodec() throws Exception {
+        final int n = 20000;
+        final List<InstanceIdentifier<?>> iids = TestIifToUri.URI_IIDS;
+        final OdlObjectMapperXml mapper = new OdlObjectMapperXml();
+        final Rfc8040UriCodec codec = Rfc8040UriCodec.getInstance();
+        final long legacyNs = measure(n * iids.size(), i -> TestIifToUri.legacyUri(mapper, iids.get(i % iids.size())));
+        final long codecNs = measure(n * iids.size(), i -> codec.encode(iids.get(i % iids.size())));
+        LOG.info("uri creation: reflective {} ns/uri, cached codec {} ns/uri", legacyNs, codecNs);
+    }
+
+    @Test
+    public void testXmlNormalization() throws Exception {
+        final int n = 200;
+        final String content = new String(getFileContent(DEVICE_FIXTURE), StandardCharsets.UTF_8);
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        final long regexNs = measure(n, i -> TestNormalizingXmlStreamReader.getEvents(factory
+                .createXMLStreamReader(new StringReader(TestNormalizingXmlStreamReader.legacyNormalize(content)))));
+        final long streamingNs = measure(n, i -> TestNormalizingXmlStreamReader
+                .getEvents(NormalizingXmlStreamReader.create(new StringReader(content))));
+        LOG.info("normalize {}: regex={}us streaming={}us", DEVICE_FIXTURE, regexNs / 1000, streamingNs / 1000);
+    }
+
+    @Test
+    public void testWireFormat() throws Exception {
+        this.benchmarkWireFormat(DEVICE_FIXTURE, OrgOpenroadmDevice.class, "org-openroadm-device");
+        this.benchmarkWireFormat("/xml/roadm-circuitpacks.xml", CircuitPacks.class, "circuit-packs");
+    }
+
+    @Test
+    public void testLazyRead() throws Exception {
+        final int n = 100;
+        final OdlObjectMapperXml mapper = OdlMapperRegistry.getInstance().getDataMapper();
+        final byte[] xml = getFileContent(DEVICE_FIXTURE);
+        final long eagerNs = measure(n, i -> mapper.readValue(new ByteArrayInputStream(xml), OrgOpenroadmDevice.class)
+                .getInfo().getNodeId());
+        final long lazyNs = measure(n, i -> {
+            final OrgOpenroadmDevice lazy = LazyDataObjects.create(xml, OrgOpenroadmDevice.class, mapper);
+            lazy.getInfo().getNodeId();
+            lazy.getInfo().getNodeType();
+        });
+        LOG.info("read info of {}B device: eager={}us lazy={}us", xml.length, eagerNs / 1000, lazyNs / 1000);
+    }
+
+    @Test
+    public void testLeafDeserializers() throws Exception {
+        final int n = 100000;
+        final EnumJsonDeserializer enumDeser = new EnumJsonDeserializer(AdminStates.class);
+        final long enumReflectiveNs = measure(n, i -> TestLeafDeserializers.readReflective("outOfService"));
+        final long enumTableNs = measure(n, i -> enumDeser.forName("outOfService"));
+        LOG.info("enum per leaf: reflective={}ns table={}ns", enumReflectiveNs, enumTableNs);
+        final TypeObjectJsonDeserializer<FrequencyTHz> typeDeser =
+                new TypeObjectJsonDeserializer<>(TypeFactory.defaultInstance().constructType(FrequencyTHz.class), null);
+        final long typeReflectiveNs = measure(n, i -> TestLeafDeserializers.readTypeObjectReflective("196.1"));
+        final long typeCachedNs =
+                measure(n, i -> typeDeser.deserialize(TestLeafDeserializers.createParser("\"196.1\""), null));
+        LOG.info("type object per leaf (incl. parser): reflective={}ns cached={}ns", typeReflectiveNs, typeCachedNs);
+    }
+
+    @Test
+    public void testCodecEngines() throws Exception {
+        final int n = 100;
+        final InstanceIdentifier<OrgOpenroadmDevice> path = InstanceIdentifier.create(OrgOpenroadmDevice.class);
+        final byte[] xml = getFileContent(DEVICE_FIXTURE);
+        for (CodecEngine engine : CodecEngine.values()) {
+            final BindingCodec codec = OdlMapperRegistry.getInstance().getCodec(engine);
+            final long ns = measure(n, i -> codec.readData(path, new ByteArrayInputStream(xml)));
+            LOG.info("{}: engine {} read {}B in {}us", DEVICE_FIXTURE, codec.getName(), xml.length, ns / 1000);
+        }
+    }
+
+    private <T extends DataObject> void benchmarkWireFormat(String fixture, Class<T> clazz, String rootName)
+            throws Exception {
+        final int n = 100;
+        final OdlObjectMapperXml xmlMapper = OdlMapperRegistry.getInstance().getDataMapper();
+        final OdlObjectMapper jsonMapper = OdlMapperRegistry.getInstance().getJsonDataMapper();
+        final OdlXmlSerializer xmlSerializer = new OdlXmlSerializer();
+        final OdlJsonSerializer jsonSerializer = new OdlJsonSerializer();
+        final T data = xmlMapper.readValue(new ByteArrayInputStream(getFileContent(fixture)), clazz);
+        final byte[] xml = xmlSerializer.writeValueAsBytes(data, rootName);
+        final byte[] json = jsonSerializer.writeValueAsBytes(data, rootName);
+        final long xmlRead = measure(n, i -> xmlMapper.readValue(new ByteArrayInputStream(xml), clazz));
+        final long jsonRead = measure(n, i -> jsonMapper.readRestconfValue(new ByteArrayInputStream(json), clazz));
+        final long xmlWrite = measure(n, i -> xmlSerializer.writeValueAsBytes(data, rootName));
+        final long jsonWrite = measure(n, i -> jsonSerializer.writeValueAsBytes(data, rootName));
+        LOG.info("{}: size xml={}B json={}B, read xml={}us json={}us, write xml={}us json={}us", fixture,
+                xml.length, json.length, xmlRead / 1000, jsonRead / 1000, xmlWrite / 1000, jsonWrite / 1000);
+    }
+
+    /**
+     * Run the action n times to warm up and n times measured.
+     *
+     * @return average time of one run in ns
+     */
+    private static long measure(int n, Action action) throws Exception {
+        for (int i = 0; i < n; i++) {
+            action.run(i);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            action.run(i);
+        }
+        return Math.max(1, (System.nanoTime() - start) / n);
+    }
+
+    private static byte[] getFileContent(String filename) throws IOException {
+        return Files.toByteArray(new File(TestBenchmarks.class.getResource(filename).getFile()));
+    }
+
+    private interface Action {
+        void run(int i) throws Exception;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.BindingCodec;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Compares the jackson and the dom codec engine on the complete roadm device fixture.
+ */
+public class TestCodecEngines {
+
+    private static final InstanceIdentifier<OrgOpenroadmDevice> DEVICE_IID =
+            InstanceIdentifier.create(OrgOpenroadmDevice.class);
+
+    @Test
+    public void testEnginesDecodeSameData() throws IOException {
+        final byte[] xml = getFileContent("/xml/roadm-device-complete.xml");
+        final OrgOpenroadmDevice jacksonDevice = getCodec(CodecEngine.JACKSON).readData(DEVICE_IID,
+                new ByteArrayInputStream(xml));
+        final OrgOpenroadmDevice domDevice = getCodec(CodecEngine.DOM).readData(DEVICE_IID,
+                new ByteArrayInputStream(xml));
+        assertNotNull(jacksonDevice);
+        assertNotNull(domDevice);
+        assertEquals(jacksonDevice, domDevice);
+    }
+
+    private static BindingCodec getCodec(CodecEngine engine) {
+        return OdlMapperRegistry.getInstance().getCodec(engine);
+    }
+
+    private static byte[] getFileContent(String filename) throws IOException {
+        return Files.toByteArray(new File(TestCodecEngines.class.getResource(filename).getFile()));
+    }
+}
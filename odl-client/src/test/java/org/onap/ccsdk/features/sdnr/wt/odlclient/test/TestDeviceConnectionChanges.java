@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.DeviceConnectionChangedHandler;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NotImplementedException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectDeletionNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDeviceConnectionChangeProvider;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus.ConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class TestDeviceConnectionChanges {
+
+    private static final String CONTROLLER = "SDN-Controller-0";
+    private static final List<String> NODES = Arrays.asList("ROADM-A", "ROADM-B", "ROADM-C");
+
+    @Test
+    public void testDebounce() throws NotImplementedException, InterruptedException {
+        final TopologyClient client = new TopologyClient(0);
+        final StateRecorder recorder = new StateRecorder(NODES.size() + 1);
+        final RemoteDeviceConnectionChangeProvider provider = new RemoteDeviceConnectionChangeProvider(client, 200);
+        provider.register(recorder);
+        for (int i = 0; i < 5; i++) {
+            for (String nodeId : NODES) {
+                provider.onControllerNotification(createConnectionStatusChange(nodeId, "connecting"));
+                provider.onControllerNotification(createConnectionStatusChange(nodeId, "connected"));
+            }
+        }
+        ObjectDeletionNotification deletion = new ObjectDeletionNotification();
+        deletion.setNodeName(CONTROLLER);
+        deletion.setObjectId("ROADM-D");
+        provider.onControllerNotification(deletion);
+
+        assertTrue(recorder.done.await(5, TimeUnit.SECONDS));
+        provider.close();
+        // a few nodes are read one by one, each once
+        assertEquals(NODES.size(), client.reads.get());
+        assertEquals(0, client.topologyReads.get());
+        assertEquals(NODES.size() + 1, recorder.pushed.get());
+        for (String nodeId : NODES) {
+            assertEquals("connected", recorder.states.get(nodeId));
+        }
+        assertEquals("disconnected", recorder.states.get("ROADM-D"));
+    }
+
+    @Test
+    public void testBulkReadRetry() throws NotImplementedException, InterruptedException {
+        final List<String> nodeIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            nodeIds.add("ROADM-" + i);
+        }
+        // the first topology read fails
+        final TopologyClient client = new TopologyClient(1);
+        final StateRecorder recorder = new StateRecorder(nodeIds.size());
+        final RemoteDeviceConnectionChangeProvider provider = new RemoteDeviceConnectionChangeProvider(client, 100);
+        provider.register(recorder);
+        for (String nodeId : nodeIds) {
+            provider.onControllerNotification(createConnectionStatusChange(nodeId, "connected"));
+        }
+        assertTrue(recorder.done.await(5, TimeUnit.SECONDS));
+        provider.close();
+        assertEquals(2, client.topologyReads.get());
+        assertEquals(0, client.reads.get());
+        for (String nodeId : nodeIds) {
+            assertEquals("connected", recorder.states.get(nodeId));
+        }
+    }
+
+    private static AttributeValueChangedNotification createConnectionStatusChange(String nodeId, String value) {
+        AttributeValueChangedNotification notification = new AttributeValueChangedNotification();
+        notification.setNodeName(CONTROLLER);
+        notification.setObjectId(nodeId);
+        notification.setAttributeName("ConnectionStatus");
+        notification.setNewValue(value);
+        return notification;
+    }
+
+    private static class StateRecorder implements DeviceConnectionChangedHandler {
+
+        private final Map<String, String> states = new ConcurrentHashMap<>();
+        private final AtomicInteger pushed = new AtomicInteger();
+        private final CountDownLatch done;
+
+        StateRecorder(int expectedPushes) {
+            this.done = new CountDownLatch(expectedPushes);
+        }
+
+        @Override
+        public void onRemoteDeviceUnableToConnect(String nodeId) {
+            this.push(nodeId, "unable-to-connect");
+        }
+
+        @Override
+        public void onRemoteDeviceDisConnected(String nodeId) {
+            this.push(nodeId, "disconnected");
+        }
+
+        @Override
+        public void onRemoteDeviceConnecting(String nodeId) {
+            this.push(nodeId, "connecting");
+        }
+
+        @Override
+        public void onRemoteDeviceConnected(String nodeId, NetconfNode netconfNode) {
+            this.push(nodeId, "connected");
+        }
+
+        private void push(String nodeId, String state) {
+            this.states.put(nodeId, state);
+            this.pushed.incrementAndGet();
+            this.done.countDown();
+        }
+    }
+
+    /**
+     * Answers every fields request with connected nodes, a node request with the node and a
+     * topology request with the requested nodes.
+     */
+    private static class TopologyClient extends RestconfHttpClient {
+
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger topologyReads = new AtomicInteger();
+        private final AtomicInteger failures;
+
+        /**
+         * @param failures number of topology reads which fail
+         */
+        TopologyClient(int failures) throws NotImplementedException {
+            super("http://localhost:8181", false, AuthMethod.BASIC, "admin", "admin");
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends DataObject> @NonNull FluentFuture<Optional<T>> readFields(LogicalDatastoreType storage,
+                InstanceIdentifier<T> instanceIdentifier, String nodeId, String fields) {
+            final NetconfNode netconfNode =
+                    new NetconfNodeBuilder().setConnectionStatus(ConnectionStatus.Connected).build();
+            final NodeKey key = instanceIdentifier.firstKeyOf(Node.class);
+            if (key != null) {
+                this.reads.incrementAndGet();
+                return FluentFuture.from(Futures.immediateFuture(Optional.of((T) netconfNode)));
+            }
+            this.topologyReads.incrementAndGet();
+            if (this.failures.getAndDecrement() > 0) {
+                return FluentFuture.from(Futures.immediateFailedFuture(new IOException("not reachable")));
+            }
+            final List<Node> nodes = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                nodes.add(new NodeBuilder().setNodeId(new NodeId("ROADM-" + i))
+                        .addAugmentation(NetconfNode.class, netconfNode).build());
+            }
+            final Topology topology = new TopologyBuilder().setNode(nodes).build();
+            return FluentFuture.from(Futures.immediateFuture(Optional.of((T) topology)));
+        }
+    }
+}
@@ -7,7 +7,23 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -18,10 +34,23 @@ import org.onap.ccsdk.features.sdnr.wt.odlclient.OpendaylightClient;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NotImplementedException;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.RemoteOpendaylightClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.YangPatchEdit.Operation;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteDeviceDataBroker;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.transactions.RemoteWriteOnlyTransaction;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfRequestException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.YangPatchException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.YangPatchStatus;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.binding.api.Transaction;
+import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.mdsal.binding.api.TransactionChainListener;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.OpticalControlMode;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.connection.DestinationBuilder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.connection.SourceBuilder;
@@ -29,6 +58,7 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.open
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnections;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnectionsBuilder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.RoadmConnectionsKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +67,10 @@ public class TestDeviceTransactions {
     private static final Logger LOG = LoggerFactory.getLogger(TestDeviceTransactions.class);
 
     private static final long TIMEOUT = 2;
+    private static final InstanceIdentifier<RoadmConnections> CONNECTION_IID = InstanceIdentifier
+            .create(OrgOpenroadmDevice.class).child(RoadmConnections.class, new RoadmConnectionsKey("conn-1"));
+    private static final InstanceIdentifier<RoadmConnections> OTHER_CONNECTION_IID = InstanceIdentifier
+            .create(OrgOpenroadmDevice.class).child(RoadmConnections.class, new RoadmConnectionsKey("conn-2"));
 
     @Test
     public void testPut() throws NotImplementedException, URISyntaxException, InterruptedException, ExecutionException {
@@ -69,4 +103,371 @@ public class TestDeviceTransactions {
         @NonNull
         CommitInfo result = rwtx.commit().withTimeout(TIMEOUT, TimeUnit.SECONDS, scheduledExecutor).get();
     }
+
+    @Test
+    public void testCommitOrder() throws NotImplementedException, InterruptedException, ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        client.setYangPatch(false);
+        final ReadWriteTransaction rwtx = new RemoteDeviceDataBroker(client, "ROADM-A1").newReadWriteTransaction();
+        rwtx.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        rwtx.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        rwtx.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        assertTrue(client.sent.isEmpty());
+
+        final FluentFuture<? extends CommitInfo> commit = rwtx.commit();
+        // only the first request is sent until it is acknowledged
+        assertEquals(Collections.singletonList("DELETE"), client.sent);
+        client.acknowledge(null);
+        client.acknowledge(null);
+        assertFalse(commit.isDone());
+        client.acknowledge(null);
+        commit.get();
+        assertEquals(3, client.sent.size());
+        assertEquals("PUT", client.sent.get(1));
+    }
+
+    @Test
+    public void testCommitFailure() throws NotImplementedException, InterruptedException {
+        final RecordingClient client = new RecordingClient();
+        client.setYangPatch(false);
+        final ReadWriteTransaction rwtx = new RemoteDeviceDataBroker(client, "ROADM-A1").newReadWriteTransaction();
+        rwtx.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        rwtx.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit = rwtx.commit();
+        client.acknowledge(new RestconfRequestException("PUT", "uri", 400, "bad request"));
+        try {
+            commit.get();
+            fail("commit should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+        assertTrue(commit.isDone());
+        // the delete is not sent after a failed put
+        assertEquals(1, client.sent.size());
+    }
+
+    @Test
+    public void testCallbackAfterCommit() throws NotImplementedException, InterruptedException {
+        final RecordingClient client = new RecordingClient();
+        final RemoteWriteOnlyTransaction wtx = new RemoteWriteOnlyTransaction(client, "ROADM-A1");
+        wtx.commit();
+        // an empty transaction is completed within commit
+        final CountDownLatch called = new CountDownLatch(1);
+        wtx.addCallback(new FutureCallback<CommitInfo>() {
+
+            @Override
+            public void onSuccess(CommitInfo result) {
+                called.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // not expected
+            }
+        }, null);
+        assertTrue(called.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testYangPatch() throws NotImplementedException, InterruptedException, ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final WriteTransaction wtx = new RemoteDeviceDataBroker(client, "ROADM-A1").newWriteOnlyTransaction();
+        wtx.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        wtx.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        final FluentFuture<? extends CommitInfo> commit = wtx.commit();
+        assertEquals(Collections.singletonList("PATCH"), client.sent);
+        assertEquals(2, client.edits.size());
+        assertEquals(Operation.REMOVE, client.edits.get(0).getOperation());
+        assertEquals(Operation.REPLACE, client.edits.get(1).getOperation());
+        assertEquals("/org-openroadm-device:org-openroadm-device/roadm-connections=conn-1",
+                client.edits.get(1).getTarget());
+        client.acknowledge(null);
+        commit.get();
+        assertTrue(client.isYangPatch("ROADM-A1"));
+    }
+
+    @Test
+    public void testYangPatchFallback() throws NotImplementedException, InterruptedException, ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final WriteTransaction wtx = new RemoteDeviceDataBroker(client, "ROADM-A1").newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit = wtx.commit();
+        client.acknowledge(new RestconfRequestException("PATCH", "uri", 415, "unsupported media type"));
+        // only this node falls back to single requests
+        assertTrue(client.isYangPatch());
+        assertFalse(client.isYangPatch("ROADM-A1"));
+        assertTrue(client.isYangPatch("ROADM-B1"));
+        client.acknowledge(null);
+        client.acknowledge(null);
+        commit.get();
+        assertEquals(Arrays.asList("PATCH", "PUT", "DELETE"), client.sent);
+    }
+
+    @Test
+    public void testTransactionChain() throws NotImplementedException, InterruptedException, ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final RecordingChainListener listener = new RecordingChainListener();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createTransactionChain(listener);
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        final FluentFuture<? extends CommitInfo> commit1 = wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit2 = wtx2.commit();
+        chain.close();
+        // the second transaction is sent when the first one is acknowledged
+        assertEquals(Collections.singletonList("PUT"), client.sent);
+        client.acknowledge(null);
+        commit1.get();
+        assertEquals(Arrays.asList("PUT", "DELETE"), client.sent);
+        assertFalse(listener.successful);
+        client.acknowledge(null);
+        commit2.get();
+        assertTrue(listener.successful);
+        assertFalse(listener.locked);
+        assertNull(listener.failure);
+    }
+
+    @Test
+    public void testMergingTransactionChain() throws NotImplementedException, InterruptedException,
+            ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createMergingTransactionChain(
+                        new RecordingChainListener());
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.merge(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx2.commit();
+        final WriteTransaction wtx3 = chain.newWriteOnlyTransaction();
+        wtx3.put(LogicalDatastoreType.CONFIGURATION, OTHER_CONNECTION_IID, createConnection());
+        wtx3.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit3 = wtx3.commit();
+        client.acknowledge(null);
+        // the queued transactions are sent as one patch without the overwritten merge
+        assertEquals(Arrays.asList("PUT", "PATCH"), client.sent);
+        assertEquals(2, client.edits.size());
+        assertEquals(Operation.REPLACE, client.edits.get(0).getOperation());
+        assertEquals(Operation.REMOVE, client.edits.get(1).getOperation());
+        client.acknowledge(null);
+        commit3.get();
+    }
+
+    @Test
+    public void testMergingTransactionChainStores() throws NotImplementedException, InterruptedException,
+            ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createMergingTransactionChain(
+                        new RecordingChainListener());
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, OTHER_CONNECTION_IID, createConnection());
+        wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx2.commit();
+        final WriteTransaction wtx3 = chain.newWriteOnlyTransaction();
+        wtx3.delete(LogicalDatastoreType.OPERATIONAL, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit3 = wtx3.commit();
+        client.acknowledge(null);
+        // a remove in the operational store does not overwrite the put into the config store
+        assertEquals(Arrays.asList("PUT", "PATCH"), client.sent);
+        assertEquals(2, client.edits.size());
+        assertEquals(Operation.REPLACE, client.edits.get(0).getOperation());
+        assertEquals(Operation.REMOVE, client.edits.get(1).getOperation());
+        client.acknowledge(null);
+        commit3.get();
+    }
+
+    @Test
+    public void testTransactionChainReadAfterCommit() throws NotImplementedException, InterruptedException,
+            ExecutionException {
+        final RecordingClient client = new RecordingClient();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createTransactionChain(new RecordingChainListener());
+        final WriteTransaction wtx = chain.newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx.commit();
+        final FluentFuture<Optional<RoadmConnections>> read =
+                chain.newReadOnlyTransaction().read(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        // the read is sent when the committed transaction is acknowledged
+        assertEquals(Collections.singletonList("PUT"), client.sent);
+        assertFalse(read.isDone());
+        client.acknowledge(null);
+        assertEquals(Arrays.asList("PUT", "GET"), client.sent);
+        assertFalse(read.isDone());
+        client.acknowledge(null);
+        assertFalse(read.get().isPresent());
+        // without pending writes the read is sent at once
+        final ReadWriteTransaction rwtx = chain.newReadWriteTransaction();
+        rwtx.read(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        assertEquals(Arrays.asList("PUT", "GET", "GET"), client.sent);
+    }
+
+    @Test
+    public void testTransactionChainFailure() throws NotImplementedException, InterruptedException {
+        final RecordingClient client = new RecordingClient();
+        final RecordingChainListener listener = new RecordingChainListener();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createTransactionChain(listener);
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        final FluentFuture<? extends CommitInfo> commit2 = wtx2.commit();
+        client.acknowledge(new RestconfRequestException("PUT", "uri", 400, "bad request"));
+        assertTrue(listener.failure instanceof RestconfRequestException);
+        assertSame(wtx1, listener.transaction);
+        assertFalse(listener.locked);
+        try {
+            commit2.get();
+            fail("commit should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+        assertEquals(1, client.sent.size());
+    }
+
+    @Test
+    public void testMergingTransactionChainFailure() throws NotImplementedException {
+        final RecordingClient client = new RecordingClient();
+        client.setYangPatch(false);
+        final RecordingChainListener listener = new RecordingChainListener();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createMergingTransactionChain(listener);
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.put(LogicalDatastoreType.CONFIGURATION, OTHER_CONNECTION_IID, createConnection());
+        wtx2.commit();
+        final WriteTransaction wtx3 = chain.newWriteOnlyTransaction();
+        wtx3.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        wtx3.commit();
+        client.acknowledge(null);
+        // the merged transactions are sent one request after the other, the request of wtx3 fails
+        client.acknowledge(null);
+        client.acknowledge(new RestconfRequestException("DELETE", "uri", 400, "bad request"));
+        assertEquals(Arrays.asList("PUT", "PUT", "DELETE"), client.sent);
+        assertTrue(listener.failure instanceof RestconfRequestException);
+        assertSame(wtx3, listener.transaction);
+        assertFalse(listener.locked);
+    }
+
+    @Test
+    public void testYangPatchEditFailure() throws NotImplementedException, IOException {
+        final RecordingClient client = new RecordingClient();
+        final RecordingChainListener listener = new RecordingChainListener();
+        final TransactionChain chain =
+                new RemoteDeviceDataBroker(client, "ROADM-A1").createMergingTransactionChain(listener);
+        final WriteTransaction wtx1 = chain.newWriteOnlyTransaction();
+        wtx1.put(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID, createConnection());
+        wtx1.commit();
+        final WriteTransaction wtx2 = chain.newWriteOnlyTransaction();
+        wtx2.put(LogicalDatastoreType.CONFIGURATION, OTHER_CONNECTION_IID, createConnection());
+        wtx2.commit();
+        final WriteTransaction wtx3 = chain.newWriteOnlyTransaction();
+        wtx3.delete(LogicalDatastoreType.CONFIGURATION, CONNECTION_IID);
+        wtx3.commit();
+        client.acknowledge(null);
+        assertEquals(Arrays.asList("PUT", "PATCH"), client.sent);
+        final String status = "<yang-patch-status xmlns=\"urn:ietf:params:xml:ns:yang:ietf-yang-patch\">"
+                + "<patch-id>p</patch-id><edit-status>"
+                + "<edit><edit-id>edit-1</edit-id><ok/></edit>"
+                + "<edit><edit-id>edit-2</edit-id><errors><error><error-type>application</error-type>"
+                + "<error-tag>data-missing</error-tag></error></errors></edit>"
+                + "</edit-status></yang-patch-status>";
+        client.acknowledge(new YangPatchException("uri", 409, status, YangPatchStatus.parse(status)));
+        // the delete of the third transaction was rejected
+        assertTrue(listener.failure instanceof YangPatchException);
+        assertSame(wtx3, listener.transaction);
+        assertTrue(client.isYangPatch("ROADM-A1"));
+    }
+
+    private static RoadmConnections createConnection() {
+        return new RoadmConnectionsBuilder().setConnectionName("conn-1").setOpticalControlMode(OpticalControlMode.Off)
+                .build();
+    }
+
+    /**
+     * Records the write requests. Each request is completed by acknowledge().
+     */
+    private static class RecordingClient extends RestconfHttpClient {
+
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private final List<SettableFuture<Optional<?>>> pending = Collections.synchronizedList(new ArrayList<>());
+        private final List<YangPatchEdit> edits = new ArrayList<>();
+
+        RecordingClient() throws NotImplementedException {
+            super("http://localhost:8181", false, AuthMethod.BASIC, "admin", "admin");
+        }
+
+        void acknowledge(IOException error) {
+            final SettableFuture<Optional<?>> request = this.pending.remove(0);
+            if (error == null) {
+                request.set(Optional.empty());
+            } else {
+                request.setException(error);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends DataObject> @NonNull FluentFuture<Optional<T>> read(LogicalDatastoreType storage,
+                InstanceIdentifier<T> instanceIdentifier, String nodeId) {
+            return (FluentFuture<Optional<T>>) this.record("GET");
+        }
+
+        @Override
+        public FluentFuture<?> delete(LogicalDatastoreType store, InstanceIdentifier<?> instanceIdentifier,
+                String nodeId) {
+            return this.record("DELETE");
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <O extends DataObject> FluentFuture<Optional<O>> put(LogicalDatastoreType store,
+                InstanceIdentifier<O> instanceIdentifier, O data, String nodeId) {
+            return (FluentFuture<Optional<O>>) this.record("PUT");
+        }
+
+        @Override
+        public FluentFuture<?> patch(String nodeId, String patchId, List<YangPatchEdit> patchEdits) {
+            this.edits.addAll(patchEdits);
+            return this.record("PATCH");
+        }
+
+        private FluentFuture<?> record(String method) {
+            final SettableFuture<Optional<?>> request = SettableFuture.create();
+            this.sent.add(method);
+            this.pending.add(request);
+            return FluentFuture.from(request);
+        }
+    }
+
+    private static class RecordingChainListener implements TransactionChainListener {
+
+        private volatile boolean successful;
+        private volatile Throwable failure;
+        private volatile Transaction transaction;
+        private volatile boolean locked;
+
+        @Override
+        public void onTransactionChainFailed(TransactionChain chain, Transaction transaction, Throwable cause) {
+            this.failure = cause;
+            this.transaction = transaction;
+            this.locked = Thread.holdsLock(chain);
+        }
+
+        @Override
+        public void onTransactionChainSuccessful(TransactionChain chain) {
+            this.successful = true;
+            this.locked = Thread.holdsLock(chain);
+        }
+    }
 }
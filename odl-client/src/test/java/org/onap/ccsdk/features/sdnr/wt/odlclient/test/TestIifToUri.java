@@ -8,11 +8,19 @@
 package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
 
 import static org.junit.Assert.assertEquals;
+import java.lang.reflect.Field;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.junit.Test;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.Rfc8040UriCodec;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Info;
@@ -21,8 +29,13 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.open
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroup;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroupKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.optional.rev190614.netconf.node.fields.optional.Topology;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +47,10 @@ public class TestIifToUri {
     private static final String ROADMAA_NODEID = "roadmaa";
     private static final Object ROADMAA_SRG_1 = "/rests/data/network-topology:network-topology/topology=topology-"
             + "netconf/node=roadmaa/yang-ext:mount/org-openroadm-device:org-openroadm-device/shared-risk-group=1";
+    static final List<InstanceIdentifier<?>> URI_IIDS = Arrays.asList(
+            InstanceIdentifier.create(OrgOpenroadmDevice.class).child(Info.class),
+            InstanceIdentifier.create(OrgOpenroadmDevice.class).child(SharedRiskGroup.class, new SharedRiskGroupKey(1)),
+            InstanceIdentifier.create(OrgOpenroadmDevice.class).child(OduConnection.class, new OduConnectionKey("1")));
 
     @Test
     public void test1() throws Exception {
@@ -104,4 +121,82 @@ public class TestIifToUri {
         LOG.info("odu uri={}",restconfClient.getRfc8040UriFromIif(LogicalDatastoreType.CONFIGURATION, iif, "abc", false));
 
     }
+
+    @Test
+    public void testUriCodecMatchesLegacy() throws Exception {
+        final OdlObjectMapperXml mapper = new OdlObjectMapperXml();
+        for (InstanceIdentifier<?> iid : URI_IIDS) {
+            assertEquals(legacyUri(mapper, iid), Rfc8040UriCodec.getInstance().encode(iid));
+        }
+    }
+
+    /**
+     * former implementation of RestconfHttpClient.getRfc8040UriFromIif
+     */
+    static String legacyUri(OdlObjectMapperXml mapper, InstanceIdentifier<?> instanceIdentifier)
+            throws Exception {
+        String uri = "";
+        Iterator<PathArgument> it = instanceIdentifier.getPathArguments().iterator();
+        boolean isNewModule = true;
+        String moduleName = null;
+        while (it.hasNext()) {
+            PathArgument pa = it.next();
+            Class<?> cls = mapper.findClass(pa.getType().getName(), RestconfHttpClient.class);
+            String key = legacyKeyOrNull(pa);
+            QName value = (QName) cls.getField("QNAME").get(cls);
+            boolean childOf = false;
+            for (Class<?> c : cls.getInterfaces()) {
+                if (c.equals(ChildOf.class)) {
+                    childOf = true;
+                }
+            }
+            if (!childOf) {
+                continue;
+            }
+            if (isNewModule) {
+                moduleName = value.getLocalName();
+            }
+            if (key == null) {
+                uri += String.format("/%s%s", legacyUrlencode(isNewModule ? (moduleName + ":") : ""),
+                        legacyUrlencode(value.getLocalName()));
+            } else {
+                uri += String.format("/%s=%s", legacyUrlencode(value.getLocalName()), legacyUrlencode(key));
+            }
+            isNewModule = false;
+        }
+        return uri;
+    }
+
+    private static String legacyKeyOrNull(PathArgument pa) throws Exception {
+        Field field = null;
+        for (Field f : pa.getClass().getDeclaredFields()) {
+            if (f.getName().equals("key")) {
+                field = f;
+            }
+        }
+        if (field == null) {
+            return null;
+        }
+        field.setAccessible(true);
+        Object keydef = field.get(pa);
+        if (keydef instanceof Identifier) {
+            for (Field f : keydef.getClass().getDeclaredFields()) {
+                if (f.getName().endsWith("serialVersionUID")) {
+                    continue;
+                }
+                f.setAccessible(true);
+                Object key = f.get(keydef);
+                if (key instanceof Uri) {
+                    return ((Uri) key).getValue();
+                } else if (key != null) {
+                    return key.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String legacyUrlencode(String value) throws Exception {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8.toString()).replace("%3A", ":");
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlObjectMapperXml;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlXmlSerializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.lazy.LazyDataObjects;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacks;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+
+public class TestLazyRead {
+
+    @Test
+    public void testLazyDevice() throws IOException {
+        final OdlObjectMapperXml mapper = OdlMapperRegistry.getInstance().getDataMapper();
+        final byte[] xml = getFileContent("/xml/roadm-device-complete.xml");
+        final OrgOpenroadmDevice device = mapper.readValue(new ByteArrayInputStream(xml), OrgOpenroadmDevice.class);
+        final OrgOpenroadmDevice lazy = LazyDataObjects.create(xml, OrgOpenroadmDevice.class, mapper);
+        assertTrue(LazyDataObjects.isLazy(lazy));
+        assertEquals(OrgOpenroadmDevice.class, lazy.implementedInterface());
+        assertEquals(device.getInfo().getNodeId(), lazy.getInfo().getNodeId());
+        assertEquals(device.getInfo().getNodeType(), lazy.getInfo().getNodeType());
+        assertEquals(device.getCircuitPacks().size(), lazy.getCircuitPacks().size());
+        final CircuitPacks cp = lazy.getCircuitPacks().get(0);
+        assertEquals(device.getCircuitPacks().get(0).key(), cp.key());
+        assertEquals(device.getCircuitPacks().get(0).getPorts().size(), cp.getPorts().size());
+        assertFalse(LazyDataObjects.isLazy(LazyDataObjects.materialize(lazy)));
+        assertEquals(device, LazyDataObjects.materialize(lazy));
+        // serializer has to see the decoded data
+        final OdlXmlSerializer serializer = new OdlXmlSerializer();
+        assertEquals(serializer.writeValueAsString(device, "org-openroadm-device"),
+                serializer.writeValueAsString(lazy, "org-openroadm-device"));
+    }
+
+    private static byte[] getFileContent(String filename) throws IOException {
+        return Files.toByteArray(new File(TestLazyRead.class.getResource(filename).getFile()));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.EnumJsonDeserializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.deserializer.TypeObjectJsonDeserializer;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.FrequencyTHz;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev171215.AdminStates;
+
+/**
+ * Enum and type object leaves. The reflective lookups are what the deserializers did for every leaf
+ * before the factories were cached.
+ */
+public class TestLeafDeserializers {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Test
+    public void testEnumDeserializer() throws Exception {
+        final EnumJsonDeserializer deser = new EnumJsonDeserializer(AdminStates.class);
+        assertEquals(AdminStates.InService, deser.forName("inService"));
+        assertEquals(AdminStates.InService, readReflective("inService"));
+        assertEquals(AdminStates.InService, deser.deserialize(createParser("\"inService\""), null));
+    }
+
+    @Test
+    public void testTypeObjectDeserializer() throws Exception {
+        final TypeObjectJsonDeserializer<FrequencyTHz> deser =
+                new TypeObjectJsonDeserializer<>(TypeFactory.defaultInstance().constructType(FrequencyTHz.class), null);
+        final FrequencyTHz expected = new FrequencyTHz(new BigDecimal("196.1"));
+        assertEquals(expected, deser.deserialize(createParser("\"196.1\""), null));
+        assertEquals(expected, readTypeObjectReflective("196.1"));
+    }
+
+    static Object readReflective(String value) throws Exception {
+        Method method = AdminStates.class.getDeclaredMethod("forName", String.class);
+        return ((Optional<?>) method.invoke(null, value)).get();
+    }
+
+    static Object readTypeObjectReflective(String value) throws Exception {
+        createParser("\"" + value + "\"").getValueAsString();
+        for (Method m : FrequencyTHz.class.getDeclaredMethods()) {
+            if (m.getName().equals("getDefaultInstance")) {
+                return FrequencyTHz.class.getDeclaredMethod("getDefaultInstance", String.class).invoke(null, value);
+            }
+        }
+        return null;
+    }
+
+    static JsonParser createParser(String json) throws IOException {
+        JsonParser parser = FACTORY.createParser(json);
+        parser.nextToken();
+        return parser;
+    }
+}
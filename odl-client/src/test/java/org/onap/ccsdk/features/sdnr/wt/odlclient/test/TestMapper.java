@@ -14,6 +14,8 @@ import static org.junit.Assert.fail;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Files;
 import java.io.File;
@@ -90,6 +92,8 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.user.mgmt.rev171215.user.
 import org.opendaylight.yang.gen.v1.http.org.openroadm.user.mgmt.rev171215.user.profile.UserBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.available.capabilities.AvailableCapability;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -875,6 +879,28 @@ public class TestMapper {
         }
 
     }
+    @Test
+    public void testInterfaceJsonSerializer() throws IOException {
+        InterfaceBuilder interfaceBuilder = new InterfaceBuilder().setDescription("  TBD   ").setCircuitId("   TBD    ")
+                .setSupportingCircuitPackName("2/0").setSupportingPort("L1")
+                .setAdministrativeState(AdminStates.InService)
+                .setType(NetworkMediaChannelConnectionTerminationPoint.class).setName("DEG2-TTP-TXRX-nmc-1")
+                .withKey(new InterfaceKey("DEG2-TTP-TXRX-nmc-1"));
+        OdlRpcObjectMapperXml mapper = new OdlRpcObjectMapperXml();
+        byte[] res = mapper.writeValueAsJsonBytes(interfaceBuilder.build(), Interface.class);
+        LOG.info("res={}", new String(res, StandardCharsets.UTF_8));
+        JsonNode root = new ObjectMapper().readTree(res);
+        JsonNode interfaces = root.get("org-openroadm-device:interface");
+        assertNotNull(interfaces);
+        assertTrue(interfaces.isArray());
+        JsonNode intf = interfaces.get(0);
+        assertEquals("DEG2-TTP-TXRX-nmc-1", intf.get("name").asText());
+        assertEquals("inService", intf.get("administrative-state").asText());
+        assertEquals("L1", intf.get("supporting-port").asText());
+        assertEquals("org-openroadm-interfaces:networkMediaChannelConnectionTerminationPoint",
+                intf.get("type").asText());
+    }
+
     @Test
     public void testInterfaceWithAugmentSerializer() {
         Mapping portMap = new MappingBuilder().setSupportingCircuitPackName("cpname")
@@ -1022,11 +1048,30 @@ public class TestMapper {
             e.printStackTrace();
         }
         assertNotNull(interfaceObj);
+        assertNotNull(interfaceObj.augmentation(Interface1.class));
+        assertNotNull(interfaceObj.augmentation(Interface1.class).getOts());
         LOG.info("if = {}", interfaceObj);
         LOG.info("if1 = {}", interfaceObj.augmentation(Interface1.class));
 
     }
 
+    @Test
+    public void testAugmentDeserializerNameCollision() throws IOException {
+        final String interfaceString = "<interface xmlns=\"http://org/openroadm/device\">\n"
+                + "  <name>OTS-DEG2-TTP-TXRX</name>\n"
+                + "  <ots xmlns=\"http://org/openroadm/optical-transport-interfaces\">\n"
+                + "    <span-loss-receive>15.0</span-loss-receive>\n" + "  </ots>\n"
+                + "  <supporting-port>L1</supporting-port>\n" + "</interface>";
+        OdlObjectMapperXml mapper = new OdlObjectMapperXml(true);
+        Interface interfaceObj =
+                mapper.readValue(interfaceString, Interface.class, Interface1.class, NamedInterface.class);
+        // name is known to the base type and to the augmentation
+        assertEquals("OTS-DEG2-TTP-TXRX", interfaceObj.getName());
+        assertEquals("L1", interfaceObj.getSupportingPort());
+        assertNotNull(interfaceObj.augmentation(Interface1.class).getOts());
+        assertEquals("OTS-DEG2-TTP-TXRX", interfaceObj.augmentation(NamedInterface.class).getName());
+    }
+
     @Test
     public void testInterfaceOduDeserializer() {
         OdlObjectMapperXml mapper = new OdlObjectMapperXml(true);
@@ -1169,4 +1214,36 @@ public class TestMapper {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Augmentation with a leaf of the same name as the augmented interface.
+     */
+    public interface NamedInterface extends Augmentation<Interface> {
+        String getName();
+    }
+
+    public static class NamedInterfaceBuilder implements Builder<NamedInterface> {
+        private String name;
+
+        public NamedInterfaceBuilder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public NamedInterface build() {
+            final String value = this.name;
+            return new NamedInterface() {
+                @Override
+                public String getName() {
+                    return value;
+                }
+
+                @Override
+                public Class<NamedInterface> implementedInterface() {
+                    return NamedInterface.class;
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NormalizingXmlStreamReader;
+
+public class TestNormalizingXmlStreamReader {
+
+    private static final Pattern LEGACY_NORMALIZE_PATTERN =
+            Pattern.compile("<[\\/]{0,1}([a-z]+[A-Z]+[^>]*)>", Pattern.MULTILINE);
+    private static final Pattern LEGACY_XMLNS_PATTERN =
+            Pattern.compile("xmlns:([a-zA-Z0-9])=\"([^>]*)\">([^<]*)<\\/", Pattern.MULTILINE);
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newFactory();
+
+    @Test
+    public void testSameAsRegexNormalization() throws IOException, XMLStreamException {
+        File[] files = new File(TestNormalizingXmlStreamReader.class.getResource("/xml").getFile()).listFiles();
+        assertNotNull(files);
+        for (File file : files) {
+            String content = Files.asCharSource(file, StandardCharsets.UTF_8).read();
+            List<String> expected = getEvents(FACTORY.createXMLStreamReader(new StringReader(legacyNormalize(content))));
+            List<String> actual = getEvents(NormalizingXmlStreamReader.create(new StringReader(content)));
+            assertEquals(file.getName(), expected, actual);
+        }
+    }
+
+    /**
+     * Element names and text content. Parse errors are part of the result because some test files
+     * have more than one root element.
+     */
+    static List<String> getEvents(XMLStreamReader reader) {
+        List<String> events = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    continue;
+                }
+                if (text.length() > 0) {
+                    events.add("text:" + text);
+                    text.setLength(0);
+                }
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    events.add("start:" + reader.getNamespaceURI() + ":" + reader.getLocalName());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    events.add("end:" + reader.getLocalName());
+                }
+            }
+        } catch (XMLStreamException e) {
+            events.add("error:" + e.getLocation().getLineNumber());
+        }
+        return events;
+    }
+
+    static String legacyNormalize(String content) {
+        final Matcher matcher = LEGACY_NORMALIZE_PATTERN.matcher(content);
+        String copy = content;
+        String attr;
+        KebabCaseStrategy converter = new KebabCaseStrategy();
+        while (matcher.find()) {
+            attr = matcher.group(1);
+            copy = copy.replaceFirst(attr, converter.translate(attr));
+        }
+        final Matcher xmlnsMatcher = LEGACY_XMLNS_PATTERN.matcher(content);
+        while (xmlnsMatcher.find()) {
+            attr = xmlnsMatcher.group(3);
+            if (attr.startsWith(xmlnsMatcher.group(1) + ":")) {
+                copy = copy.replaceFirst(attr, attr.substring(xmlnsMatcher.group(1).length() + 1));
+            }
+        }
+        return copy;
+    }
+}
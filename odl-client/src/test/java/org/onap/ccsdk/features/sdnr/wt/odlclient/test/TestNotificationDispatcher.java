@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationDispatcher;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationDispatcher.OverflowPolicy;
+
+public class TestNotificationDispatcher {
+
+    private static final int NODES = 16;
+    private static final int N = 1000;
+
+    @Test
+    public void testOrderPerNode() throws InterruptedException {
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(NODES * N);
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(n -> {
+            BaseNotification notification = (BaseNotification) n;
+            received.computeIfAbsent(notification.getNodeName(), k -> new ArrayList<>())
+                    .add(Integer.valueOf(notification.getCounter()));
+            latch.countDown();
+        }, 4, 100, OverflowPolicy.BLOCK)) {
+            for (int i = 0; i < N; i++) {
+                for (int node = 0; node < NODES; node++) {
+                    dispatcher.dispatch(createProblem("node-" + node, i));
+                }
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(NODES * N, dispatcher.getDispatchedCount());
+            assertEquals(0, dispatcher.getDroppedCount());
+        }
+        assertEquals(NODES, received.size());
+        for (List<Integer> counters : received.values()) {
+            assertEquals(N, counters.size());
+            for (int i = 0; i < N; i++) {
+                assertEquals(i, counters.get(i).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final Semaphore handled = new Semaphore(0);
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(n -> {
+            awaitQuietly(blocker);
+            handled.release();
+        }, 1, 10, OverflowPolicy.DROP_OLDEST)) {
+            // the first one blocks the worker, the others are queued
+            for (int i = 0; i < 100; i++) {
+                dispatcher.dispatch(createProblem("node", i));
+            }
+            assertTrue(dispatcher.getQueueDepth() <= 10);
+            final int dropped = (int) dispatcher.getDroppedCount();
+            assertTrue(dropped >= 89);
+            blocker.countDown();
+            assertTrue(handled.tryAcquire(100 - dropped, 10, TimeUnit.SECONDS));
+            assertEquals(dropped, dispatcher.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void testCoalesce() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(4);
+        final List<SdnrNotification> received = new ArrayList<>();
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(n -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            synchronized (received) {
+                received.add(n);
+            }
+            done.countDown();
+        }, 1, 3, OverflowPolicy.COALESCE)) {
+            dispatcher.dispatch(createProblem("node", 0));
+            // the worker has taken the first notification, three value changes fill the queue
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 10; i++) {
+                dispatcher.dispatch(createValueChanged("node", i, "ROADM-A", "connecting" + i));
+            }
+            // the queue is full, so the oldest entries make room for these
+            dispatcher.dispatch(createProblem("node", 11));
+            dispatcher.dispatch(createValueChanged("node", 12, "ROADM-A", "connected"));
+            blocker.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(7, dispatcher.getCoalescedCount());
+            assertEquals(2, dispatcher.getDroppedCount());
+        }
+        synchronized (received) {
+            assertEquals(4, received.size());
+            assertEquals("connecting10", ((AttributeValueChangedNotification) received.get(1)).getNewValue());
+            assertTrue(received.get(2) instanceof ProblemNotification);
+            assertEquals("connected", ((AttributeValueChangedNotification) received.get(3)).getNewValue());
+        }
+    }
+
+    @Test
+    public void testNoCoalesceWithFreeCapacity() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(11);
+        final List<SdnrNotification> received = new ArrayList<>();
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(n -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            synchronized (received) {
+                received.add(n);
+            }
+            done.countDown();
+        }, 1, 100, OverflowPolicy.COALESCE)) {
+            dispatcher.dispatch(createProblem("node", 0));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 10; i++) {
+                dispatcher.dispatch(createValueChanged("node", i, "ROADM-A", "connecting" + i));
+            }
+            blocker.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, dispatcher.getCoalescedCount());
+        }
+        synchronized (received) {
+            assertEquals(11, received.size());
+            for (int i = 1; i <= 10; i++) {
+                assertEquals("connecting" + i, ((AttributeValueChangedNotification) received.get(i)).getNewValue());
+            }
+        }
+    }
+
+    @Test
+    public void testCoalesceControllerNotifications() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(NODES);
+        final Map<String, List<String>> received = new ConcurrentHashMap<>();
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(n -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            AttributeValueChangedNotification notification = (AttributeValueChangedNotification) n;
+            received.computeIfAbsent(notification.getObjectId(), k -> new ArrayList<>())
+                    .add(notification.getNewValue());
+            done.countDown();
+        }, 1, NODES - 1, OverflowPolicy.COALESCE)) {
+            dispatcher.dispatch(createValueChanged("SDN-Controller-0", 0, "blocker", "connected"));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // connection changes of different devices interleaved on the same controller node name,
+            // the first round fills the queue
+            for (int i = 1; i <= 10; i++) {
+                for (int node = 0; node < NODES - 1; node++) {
+                    dispatcher.dispatch(createValueChanged("SDN-Controller-0", i, "node-" + node, "connecting" + i));
+                }
+            }
+            blocker.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals((NODES - 1) * 9, dispatcher.getCoalescedCount());
+        }
+        assertEquals(NODES, received.size());
+        for (int node = 0; node < NODES - 1; node++) {
+            assertEquals(1, received.get("node-" + node).size());
+            assertEquals("connecting10", received.get("node-" + node).get(0));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ProblemNotification createProblem(String nodeName, int counter) {
+        ProblemNotification notification = new ProblemNotification();
+        notification.setNodeName(nodeName);
+        notification.setCounter(String.valueOf(counter));
+        notification.setProblem("LOS");
+        notification.setSeverity("Critical");
+        return notification;
+    }
+
+    private static AttributeValueChangedNotification createValueChanged(String nodeName, int counter,
+            String objectId, String value) {
+        AttributeValueChangedNotification notification = new AttributeValueChangedNotification();
+        notification.setNodeName(nodeName);
+        notification.setCounter(String.valueOf(counter));
+        notification.setObjectId(objectId);
+        notification.setAttributeName("ConnectionStatus");
+        notification.setNewValue(value);
+        return notification;
+    }
+}
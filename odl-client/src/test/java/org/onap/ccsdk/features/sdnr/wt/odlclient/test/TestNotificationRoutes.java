@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectCreationNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.mountpoint.RemoteNotificationService;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.NotificationRoutes;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketCallback;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketClient;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.OrgOpenroadmDeviceListener;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+
+public class TestNotificationRoutes {
+
+    @Test
+    public void testRouting() {
+        final NotificationRoutes routes = new NotificationRoutes();
+        final AtomicInteger problems = new AtomicInteger();
+        final AtomicInteger all = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            routes.register("node-" + i, ProblemNotification.class, n -> problems.incrementAndGet());
+        }
+        NotificationRoutes.Route<BaseNotification> allRoute =
+                routes.register("node-1", BaseNotification.class, n -> all.incrementAndGet());
+
+        assertTrue(routes.route(create(new ProblemNotification(), "node-1")));
+        assertTrue(routes.route(create(new ObjectCreationNotification(), "node-1")));
+        assertFalse(routes.route(create(new ObjectCreationNotification(), "node-2")));
+        assertFalse(routes.route(create(new ProblemNotification(), "unknown")));
+        assertEquals(1, problems.get());
+        assertEquals(2, all.get());
+
+        allRoute.close();
+        allRoute.close();
+        assertTrue(allRoute.isClosed());
+        assertFalse(routes.route(create(new ObjectCreationNotification(), "node-1")));
+        assertEquals(1000, routes.getNodeCount());
+    }
+
+    @Test
+    public void testCloseWhileRouting() {
+        final NotificationRoutes routes = new NotificationRoutes();
+        final AtomicInteger received = new AtomicInteger();
+        final NotificationRoutes.Route<?>[] first = new NotificationRoutes.Route<?>[1];
+        first[0] = routes.register("node", ProblemNotification.class, n -> {
+            received.incrementAndGet();
+            first[0].close();
+        });
+        routes.register("node", ProblemNotification.class, n -> received.incrementAndGet());
+
+        routes.route(create(new ProblemNotification(), "node"));
+        routes.route(create(new ProblemNotification(), "node"));
+        assertEquals(3, received.get());
+        assertEquals(1, routes.getNodeCount());
+    }
+
+    @Test
+    public void testNotificationService() throws URISyntaxException, InterruptedException {
+        final SdnrWebsocketClient wsClient =
+                new SdnrWebsocketClient("ws://localhost:8181/websocket", new NoopCallback(), false);
+        final List<Method> calls = new CopyOnWriteArrayList<>();
+        final OrgOpenroadmDeviceListener listener = (OrgOpenroadmDeviceListener) Proxy.newProxyInstance(
+                OrgOpenroadmDeviceListener.class.getClassLoader(), new Class<?>[] {OrgOpenroadmDeviceListener.class},
+                (proxy, method, args) -> {
+                    calls.add(method);
+                    return null;
+                });
+        final ListenerRegistration<OrgOpenroadmDeviceListener> registration =
+                new RemoteNotificationService(wsClient, "node-1").registerNotificationListener(listener);
+        assertSame(listener, registration.getInstance());
+        // counts the routed notifications of the node
+        final CountDownLatch routed = new CountDownLatch(2);
+        wsClient.registerNotificationHandler("node-1", BaseNotification.class, n -> routed.countDown());
+
+        wsClient.onNotificationReceived(create(new ObjectCreationNotification(), "node-1"));
+        wsClient.onNotificationReceived(create(new ProblemNotification(), "node-1"));
+        assertTrue(routed.await(10, TimeUnit.SECONDS));
+        registration.close();
+        wsClient.stop();
+        // node notifications are not delivered to binding listeners
+        assertEquals(0, calls.size());
+    }
+
+    private static <T extends BaseNotification> T create(T notification, String nodeName) {
+        notification.setNodeName(nodeName);
+        return notification;
+    }
+
+    private static class NoopCallback implements SdnrWebsocketCallback {
+
+        @Override
+        public void onConnect(Session lsession) {
+        }
+
+        @Override
+        public void onMessageReceived(String msg) {
+        }
+
+        @Override
+        public void onDisconnect(int statusCode, String reason) {
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+        }
+
+        @Override
+        public void onNotificationReceived(SdnrNotification notification) {
+        }
+    }
+}
@@ -8,6 +8,8 @@
 package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.google.common.io.Files;
 import java.io.File;
@@ -16,6 +18,8 @@ import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.codec.CodecEngine;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.WireFormat;
 
 public class TestPropertyFile {
 
@@ -53,4 +57,23 @@ public class TestPropertyFile {
         }
 
     }
+
+    @Test
+    public void testLazyReadNeedsXmlAndJackson() throws IOException {
+        assertTrue(loadLazyReadConfig(WireFormat.XML, CodecEngine.JACKSON).doLazyRead());
+        assertFalse(loadLazyReadConfig(WireFormat.JSON, CodecEngine.JACKSON).doLazyRead());
+        assertFalse(loadLazyReadConfig(WireFormat.XML, CodecEngine.DOM).doLazyRead());
+    }
+
+    private static RemoteOdlConfig loadLazyReadConfig(WireFormat wireFormat, CodecEngine codec) throws IOException {
+        File file = new File(TESTFILENAME);
+        Files.asCharSink(file, StandardCharsets.UTF_8).write(String.format("%s=true\n%s=%s\n%s=%s\n",
+                RemoteOdlConfig.KEY_LAZYREAD, RemoteOdlConfig.KEY_WIREFORMAT, wireFormat.name().toLowerCase(),
+                RemoteOdlConfig.KEY_CODEC, codec.name().toLowerCase()));
+        try {
+            return new RemoteOdlConfig(TESTFILENAME);
+        } finally {
+            file.delete();
+        }
+    }
 }
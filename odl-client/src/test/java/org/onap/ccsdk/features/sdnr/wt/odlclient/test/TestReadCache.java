@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.BaseNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.RemoteReadCache;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopologyBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class TestReadCache {
+
+    private static final InstanceIdentifier<NetworkTopology> TOPOLOGIES_IID =
+            InstanceIdentifier.create(NetworkTopology.class);
+    private static final InstanceIdentifier<Topology> TOPOLOGY_IID =
+            TOPOLOGIES_IID.child(Topology.class, new TopologyKey(new TopologyId("topology-netconf")));
+    private static final NetworkTopology TOPOLOGIES = new NetworkTopologyBuilder().build();
+    private static final Topology TOPOLOGY =
+            new TopologyBuilder().withKey(new TopologyKey(new TopologyId("topology-netconf"))).build();
+
+    @Test
+    public void testHitsAndInvalidation() throws InterruptedException, ExecutionException {
+        final RemoteReadCache cache = new RemoteReadCache(100, 60000, Collections.emptyMap());
+        final CountingLoader<NetworkTopology> loader = new CountingLoader<>(TOPOLOGIES);
+        for (int i = 0; i < 5; i++) {
+            cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        }
+        cache.read("ROADM-A", LogicalDatastoreType.CONFIGURATION, TOPOLOGIES_IID, loader).get();
+        cache.read("ROADM-B", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        assertEquals(3, loader.calls.get());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+
+        // device notifications without data change keep the cache
+        cache.onNotification(createNotification(new ProblemNotification(), "ROADM-A"));
+        cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        assertEquals(3, loader.calls.get());
+
+        cache.onNotification(createNotification(new AttributeValueChangedNotification(), "ROADM-A"));
+        assertEquals(1, cache.getSize());
+        cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        cache.read("ROADM-B", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        assertEquals(4, loader.calls.get());
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void testEvictionAndTtl() throws InterruptedException, ExecutionException {
+        final RemoteReadCache cache =
+                new RemoteReadCache(2, 60000, Collections.singletonMap(Topology.class.getSimpleName(), 0L));
+        final CountingLoader<NetworkTopology> loader = new CountingLoader<>(TOPOLOGIES);
+        for (String nodeId : new String[] {"ROADM-A", "ROADM-B", "ROADM-C", "ROADM-A"}) {
+            cache.read(nodeId, LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get();
+        }
+        assertEquals(4, loader.calls.get());
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getEvictionCount());
+
+        // ttl 0 for the subtree disables caching
+        final CountingLoader<Topology> topologyLoader = new CountingLoader<>(TOPOLOGY);
+        cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGY_IID, topologyLoader).get();
+        cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGY_IID, topologyLoader).get();
+        assertEquals(2, topologyLoader.calls.get());
+    }
+
+    @Test
+    public void testEmptyResultNotCached() throws InterruptedException, ExecutionException {
+        final RemoteReadCache cache = new RemoteReadCache(100, 60000, Collections.emptyMap());
+        // a read failing with an error response resolves to empty
+        final CountingLoader<NetworkTopology> errorLoader = new CountingLoader<>(null);
+        assertFalse(cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, errorLoader).get()
+                .isPresent());
+        assertEquals(0, cache.getSize());
+        final CountingLoader<NetworkTopology> loader = new CountingLoader<>(TOPOLOGIES);
+        assertEquals(TOPOLOGIES,
+                cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, loader).get().get());
+        assertEquals(TOPOLOGIES,
+                cache.read("ROADM-A", LogicalDatastoreType.OPERATIONAL, TOPOLOGIES_IID, errorLoader).get().get());
+        assertEquals(1, errorLoader.calls.get());
+        assertEquals(1, loader.calls.get());
+    }
+
+    private static <T extends BaseNotification> T createNotification(T notification, String nodeName) {
+        notification.setNodeName(nodeName);
+        return notification;
+    }
+
+    private static class CountingLoader<T> implements Supplier<FluentFuture<Optional<T>>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final T data;
+
+        CountingLoader(T data) {
+            this.data = data;
+        }
+
+        @Override
+        public FluentFuture<Optional<T>> get() {
+            this.calls.incrementAndGet();
+            return FluentFuture.from(Futures.immediateFuture(Optional.ofNullable(this.data)));
+        }
+    }
+}
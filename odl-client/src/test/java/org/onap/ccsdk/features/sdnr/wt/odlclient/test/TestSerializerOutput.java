@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerElem;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.serializer.SerializerOutput;
+
+public class TestSerializerOutput {
+
+    @Test
+    public void testUtf8Encoding() {
+        final String text = "port-1 \u00e4\u00df \u20ac \ud83d\ude00 end";
+        SerializerOutput out = new SerializerOutput(16);
+        out.append(text);
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertEquals(text, out.toString());
+    }
+
+    @Test
+    public void testEscaping() {
+        SerializerOutput out = new SerializerOutput();
+        out.appendEscaped("a<b & \"c\">d");
+        assertEquals("a&lt;b &amp; &quot;c&quot;&gt;d", out.toString());
+    }
+
+    @Test
+    public void testStreamedElements() {
+        SerializerOutput out = new SerializerOutput();
+        SerializerElem document = SerializerElem.createDocument(out);
+        SerializerElem root = document.createChild("interface", "http://org/openroadm/device", null);
+        SerializerElem name = root.createChild("name", "", null);
+        name.setValue("1/0/1-PLUG-NET");
+        name.close();
+        SerializerElem type = root.createChild("type", "urn:ietf:params:xml:ns:yang:iana-if-type", "a");
+        type.setValue("opticalChannel");
+        type.close();
+        SerializerElem empty = root.createChild("description", null, null);
+        empty.close();
+        root.close();
+        assertEquals("<interface xmlns=\"http://org/openroadm/device\"><name>1/0/1-PLUG-NET</name>"
+                + "<type xmlns:a=\"urn:ietf:params:xml:ns:yang:iana-if-type\">a:opticalChannel</type>"
+                + "<description></description></interface>", out.toString());
+        assertEquals(0, document.nextPrefixIndex());
+        assertEquals(1, name.nextPrefixIndex());
+    }
+}
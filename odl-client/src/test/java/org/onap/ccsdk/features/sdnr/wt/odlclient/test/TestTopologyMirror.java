@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.config.RemoteOdlConfig.AuthMethod;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.NotImplementedException;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.remote.NetconfTopologyMirror;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.restconf.RestconfHttpClient;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus.ConnectionStatus;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class TestTopologyMirror {
+
+    @Test
+    public void testMirror() throws NotImplementedException, InterruptedException {
+        final TopologyClient client = new TopologyClient("ROADM-A", "ROADM-B");
+        try (NetconfTopologyMirror mirror = new NetconfTopologyMirror(client, 60000)) {
+            assertFalse(mirror.isSynced());
+            mirror.start();
+            mirror.setWebsocketConnected(true);
+            waitForSync(mirror);
+            assertTrue(client.reads.get() >= 1);
+            assertEquals(ConnectionStatus.Connected, mirror.getNetconfNode("ROADM-A").getConnectionStatus());
+            assertNull(mirror.getNetconfNode("ROADM-C"));
+
+            mirror.onRemoteDeviceDisConnected("ROADM-A");
+            mirror.onRemoteDeviceConnecting("ROADM-C");
+            assertNull(mirror.getNetconfNode("ROADM-A"));
+            assertEquals(ConnectionStatus.Connecting, mirror.getNetconfNode("ROADM-C").getConnectionStatus());
+
+            mirror.invalidate();
+            assertFalse(mirror.isSynced());
+            client.setNodes("ROADM-B");
+            final int reads = client.reads.get();
+            mirror.requestReconcile();
+            waitForSync(mirror);
+            assertEquals(reads + 1, client.reads.get());
+            // changed by notifications before the reconcile, so removed by the remote topology
+            assertNull(mirror.getNetconfNode("ROADM-C"));
+            assertNotNull(mirror.getNetconfNode("ROADM-B"));
+        }
+    }
+
+    @Test
+    public void testNotSyncedWithoutWebsocket() throws NotImplementedException, InterruptedException {
+        final TopologyClient client = new TopologyClient("ROADM-A");
+        try (NetconfTopologyMirror mirror = new NetconfTopologyMirror(client, 60000)) {
+            mirror.start();
+            mirror.setWebsocketConnected(true);
+            waitForSync(mirror);
+
+            mirror.setWebsocketConnected(false);
+            final int reads = client.reads.get();
+            mirror.requestReconcile();
+            mirror.requestReconcile();
+            // the second read starts after the first reconcile is finished
+            waitForReads(client, reads + 2);
+            // read, but notifications are not received, so the mirror may get outdated
+            assertFalse(mirror.isSynced());
+            assertNotNull(mirror.getNetconfNode("ROADM-A"));
+
+            mirror.setWebsocketConnected(true);
+            waitForSync(mirror);
+        }
+    }
+
+    private static void waitForReads(TopologyClient client, int reads) throws InterruptedException {
+        int timeout = 100;
+        while (client.reads.get() < reads && timeout-- > 0) {
+            Thread.sleep(20);
+        }
+        assertTrue(client.reads.get() >= reads);
+    }
+
+    private static void waitForSync(NetconfTopologyMirror mirror) throws InterruptedException {
+        int timeout = 100;
+        while (!mirror.isSynced() && timeout-- > 0) {
+            Thread.sleep(20);
+        }
+        assertTrue(mirror.isSynced());
+    }
+
+    /**
+     * Answers every fields request with a topology of connected nodes.
+     */
+    private static class TopologyClient extends RestconfHttpClient {
+
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile List<String> nodeIds;
+
+        TopologyClient(String... nodeIds) throws NotImplementedException {
+            super("http://localhost:8181", false, AuthMethod.BASIC, "admin", "admin");
+            this.setNodes(nodeIds);
+        }
+
+        void setNodes(String... nodeIds) {
+            final List<String> list = new ArrayList<>();
+            for (String nodeId : nodeIds) {
+                list.add(nodeId);
+            }
+            this.nodeIds = list;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends DataObject> @NonNull FluentFuture<Optional<T>> readFields(LogicalDatastoreType storage,
+                InstanceIdentifier<T> instanceIdentifier, String nodeId, String fields) {
+            this.reads.incrementAndGet();
+            final List<Node> nodes = new ArrayList<>();
+            for (String id : this.nodeIds) {
+                nodes.add(new NodeBuilder().setNodeId(new NodeId(id)).addAugmentation(NetconfNode.class,
+                        new NetconfNodeBuilder().setConnectionStatus(ConnectionStatus.Connected).build()).build());
+            }
+            final Topology topology = new TopologyBuilder().setNode(nodes).build();
+            return FluentFuture.from(Futures.immediateFuture(Optional.of((T) topology)));
+        }
+    }
+}
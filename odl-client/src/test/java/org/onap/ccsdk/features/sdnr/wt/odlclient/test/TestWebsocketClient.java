@@ -7,6 +7,10 @@
  */
 package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import java.io.IOException;
@@ -15,6 +19,10 @@ import org.eclipse.jetty.websocket.api.Session;
 import org.junit.Test;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotification;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.data.SdnrNotificationMapperXml;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.AttributeValueChangedNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectCreationNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ObjectDeletionNotification;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.notifications.ProblemNotification;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketCallback;
 import org.onap.ccsdk.features.sdnr.wt.odlclient.ws.SdnrWebsocketClient;
 import org.slf4j.Logger;
@@ -40,6 +48,15 @@ public class TestWebsocketClient {
             + "    <counter>5</counter>\n" + "    <nodeName>SDN-Controller-0</nodeName>\n"
             + "    <objectId>ROADM-A</objectId>\n"
             + "    <timeStamp>2020-06-10T08:58:36.7Z</timeStamp>\n" + "</ObjectDeletionNotification>";
+    private static final String PROBLEM_NOTIFICATION = "<?xml version=\"1.0\" "
+            + "encoding=\"UTF-8\" standalone=\"yes\"?>\n" + "<ProblemNotification>\n"
+            + "    <counter>7</counter>\n" + "    <nodeName>ROADM-A</nodeName>\n"
+            + "    <objectId>1/0/1-PLUG-NET</objectId>\n"
+            + "    <timeStamp>2020-06-10T08:58:38.1Z</timeStamp>\n"
+            + "    <problem>LOS</problem>\n" + "    <severity>Critical</severity>\n"
+            + "</ProblemNotification>";
+    static final String[] NOTIFICATIONS = {ATTRIBUTEVALUECHANGED_NOTIFICATION,
+        OBJECTCREATION_NOTIFICATION, OBJECTDELETION_NOTIFICATION, PROBLEM_NOTIFICATION};
 
     @Test
     public void test() throws URISyntaxException {
@@ -103,5 +120,22 @@ public class TestWebsocketClient {
         LOG.info("delete={}", mapper.read(OBJECTDELETION_NOTIFICATION));
         LOG.info("value changed={}", mapper.read(ATTRIBUTEVALUECHANGED_NOTIFICATION));
 
+        AttributeValueChangedNotification changed =
+                (AttributeValueChangedNotification) mapper.read(ATTRIBUTEVALUECHANGED_NOTIFICATION);
+        assertEquals("SDN-Controller-0", changed.getNodeName());
+        assertEquals("6", changed.getCounter());
+        assertEquals("ROADM-A", changed.getObjectId());
+        assertEquals("2020-06-10T08:58:37.0Z", changed.getTimeStamp());
+        assertEquals("ConnectionStatus", changed.getAttributeName());
+        assertEquals("connecting", changed.getNewValue());
+        assertTrue(changed.isControllerNotification());
+        assertTrue(mapper.read(OBJECTCREATION_NOTIFICATION) instanceof ObjectCreationNotification);
+        assertTrue(mapper.read(OBJECTDELETION_NOTIFICATION) instanceof ObjectDeletionNotification);
+        ProblemNotification problem = (ProblemNotification) mapper.read(PROBLEM_NOTIFICATION);
+        assertEquals("LOS", problem.getProblem());
+        assertEquals("Critical", problem.getSeverity());
+        assertFalse(problem.isControllerNotification());
+        assertNull(mapper.read("<UnknownNotification><counter>1</counter></UnknownNotification>"));
+        assertNull(mapper.read("no xml"));
     }
 }
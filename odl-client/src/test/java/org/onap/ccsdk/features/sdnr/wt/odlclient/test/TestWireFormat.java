@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2020 highstreet technologies GmbH Intellectual Property.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.onap.ccsdk.features.sdnr.wt.odlclient.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlJsonSerializer;
+import org.onap.ccsdk.features.sdnr.wt.odlclient.data.OdlMapperRegistry;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Round trip of the complete device fixture through the json wire format.
+ */
+public class TestWireFormat {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TestWireFormat.class);
+
+    @Test
+    public void testJsonRoundTrip() throws IOException {
+        OrgOpenroadmDevice xmlDevice = OdlMapperRegistry.getInstance().getDataMapper()
+                .readValue(getFileContent("/xml/roadm-device-complete.xml"), OrgOpenroadmDevice.class);
+        byte[] json = new OdlJsonSerializer().writeValueAsBytes(xmlDevice, "org-openroadm-device");
+        LOG.info("json={}", new String(json, StandardCharsets.UTF_8));
+        OrgOpenroadmDevice jsonDevice = OdlMapperRegistry.getInstance().getJsonDataMapper()
+                .readRestconfValue(new ByteArrayInputStream(json), OrgOpenroadmDevice.class);
+        assertNotNull(jsonDevice);
+        assertNotNull(jsonDevice.getInfo());
+        assertEquals(xmlDevice.getInfo().getNodeId(), jsonDevice.getInfo().getNodeId());
+        assertEquals(xmlDevice.getCircuitPacks().size(), jsonDevice.getCircuitPacks().size());
+    }
+
+    private static String getFileContent(String filename) throws IOException {
+        return Files.asCharSource(new File(TestWireFormat.class.getResource(filename).getFile()),
+                StandardCharsets.UTF_8).read();
+    }
+}